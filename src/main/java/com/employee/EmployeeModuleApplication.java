@@ -2,8 +2,6 @@ package com.employee;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
-import org.springframework.web.client.RestTemplate;
 
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -15,9 +13,4 @@ public class EmployeeModuleApplication {
 		SpringApplication.run(EmployeeModuleApplication.class, args);
 	}
 
-	@Bean
-	public RestTemplate restTemplate() {
-		return new RestTemplate();
-	}
-
 }
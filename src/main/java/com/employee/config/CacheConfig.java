@@ -0,0 +1,51 @@
+package com.employee.config;
+
+import java.time.Duration;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * In-process caches for read-mostly lookups.
+ * Each cache is registered with its own size bound and expiry so that a
+ * single hot cache cannot grow without limit.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	public static final String EMPLOYEE_DROPDOWN_CACHE = "employeeDropdown";
+	public static final String EMPLOYEE_DROPDOWN_PAGE_CACHE = "employeeDropdownPage";
+	public static final String DOC_TYPE_CATALOGUE_CACHE = "docTypeCatalogue";
+	public static final String DOCUMENT_COMPLETENESS_CACHE = "documentCompleteness";
+	public static final String EMPLOYEE_READ_MODEL_CACHE = "employeeReadModel";
+	public static final String FIELD_SET_QUERY_CACHE = "fieldSetQueries";
+	public static final String CAMPUS_ADDRESS_CACHE = "campusAddress";
+
+	@Bean
+	public CacheManager cacheManager() {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.setAllowNullValues(false);
+
+		cacheManager.registerCustomCache(EMPLOYEE_DROPDOWN_CACHE,
+				Caffeine.newBuilder().maximumSize(4).expireAfterWrite(Duration.ofMinutes(5)).build());
+		cacheManager.registerCustomCache(EMPLOYEE_DROPDOWN_PAGE_CACHE,
+				Caffeine.newBuilder().maximumSize(2_000).expireAfterWrite(Duration.ofMinutes(5)).build());
+		cacheManager.registerCustomCache(DOC_TYPE_CATALOGUE_CACHE,
+				Caffeine.newBuilder().maximumSize(1).expireAfterWrite(Duration.ofMinutes(30)).build());
+		cacheManager.registerCustomCache(DOCUMENT_COMPLETENESS_CACHE,
+				Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(Duration.ofMinutes(10)).build());
+		cacheManager.registerCustomCache(EMPLOYEE_READ_MODEL_CACHE,
+				Caffeine.newBuilder().maximumSize(20_000).expireAfterWrite(Duration.ofMinutes(10)).build());
+		// Built JPQL per endpoint and field set; it never goes stale, only the bound matters
+		cacheManager.registerCustomCache(FIELD_SET_QUERY_CACHE, Caffeine.newBuilder().maximumSize(1_000).build());
+		cacheManager.registerCustomCache(CAMPUS_ADDRESS_CACHE,
+				Caffeine.newBuilder().maximumSize(5_000).expireAfterWrite(Duration.ofMinutes(30)).build());
+		return cacheManager;
+	}
+}
@@ -20,6 +20,8 @@ public class CorsConfig {
         config.addAllowedOrigin("http://192.168.20.19:8081");
         config.addAllowedOrigin("http://192.168.20.14:8081");
         config.addAllowedHeader("*");
+        // Keyset paging cursor of the skill test list / approval table
+        config.addExposedHeader("X-Next-After-Id");
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setMaxAge(3600L);
  
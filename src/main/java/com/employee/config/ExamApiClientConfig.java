@@ -0,0 +1,68 @@
+package com.employee.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HTTP client for the external exam platform (testreportsapi.scaits.net).
+ * Connections are pooled and kept alive between calls, idle and expired ones
+ * are evicted in the background, and every call has connect, pool-wait and
+ * read timeouts. Retries are left to resilience4j in
+ * {@link com.employee.service.ExamApiClient}, so the client's own retry is off.
+ * Built through RestTemplateBuilder so calls are recorded as
+ * http.client.requests metrics.
+ */
+@Configuration
+public class ExamApiClientConfig {
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient examApiHttpClient(
+			@Value("${employee.exam-api.max-connections:50}") int maxConnections,
+			@Value("${employee.exam-api.max-connections-per-route:20}") int maxConnectionsPerRoute,
+			@Value("${employee.exam-api.connect-timeout-ms:3000}") long connectTimeoutMs,
+			@Value("${employee.exam-api.read-timeout-ms:10000}") long readTimeoutMs,
+			@Value("${employee.exam-api.pool-wait-timeout-ms:2000}") long poolWaitTimeoutMs,
+			@Value("${employee.exam-api.idle-evict-seconds:30}") long idleEvictSeconds) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxConnections)
+				.setMaxConnPerRoute(maxConnectionsPerRoute)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+						.setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+						.setValidateAfterInactivity(TimeValue.ofSeconds(10))
+						.setTimeToLive(TimeValue.ofMinutes(5))
+						.build())
+				.build();
+
+		return HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMs))
+						.setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+						.build())
+				.evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+				.evictExpiredConnections()
+				.disableAutomaticRetries()
+				.build();
+	}
+
+	@Bean
+	public RestTemplate examApiRestTemplate(RestTemplateBuilder restTemplateBuilder,
+			CloseableHttpClient examApiHttpClient) {
+		return restTemplateBuilder
+				.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(examApiHttpClient))
+				.build();
+	}
+}
@@ -0,0 +1,46 @@
+package com.employee.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.employee.entity.SchedulerLease;
+import com.employee.entity.SchedulerRun;
+import com.employee.repository.SchedulerLeaseRepository;
+import com.employee.repository.SchedulerRunRepository;
+import com.employee.scheduler.ClusterJobCoordinator;
+
+/**
+ * /actuator/scheduledjobs: which node holds each cluster-coordinated job's
+ * lease and the latest runs (start, end, items, outcome) across all nodes.
+ */
+@Component
+@Endpoint(id = "scheduledjobs")
+public class ScheduledJobsEndpoint {
+
+	private final ClusterJobCoordinator jobCoordinator;
+	private final SchedulerLeaseRepository leaseRepository;
+	private final SchedulerRunRepository runRepository;
+
+	public ScheduledJobsEndpoint(ClusterJobCoordinator jobCoordinator, SchedulerLeaseRepository leaseRepository,
+			SchedulerRunRepository runRepository) {
+		this.jobCoordinator = jobCoordinator;
+		this.leaseRepository = leaseRepository;
+		this.runRepository = runRepository;
+	}
+
+	@ReadOperation
+	public Map<String, Object> scheduledJobs() {
+		List<SchedulerLease> leases = leaseRepository.findAll();
+		List<SchedulerRun> runs = runRepository.findTop50ByOrderByStartedAtDesc();
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("node", jobCoordinator.getNodeId());
+		body.put("leases", leases);
+		body.put("recentRuns", runs);
+		return body;
+	}
+}
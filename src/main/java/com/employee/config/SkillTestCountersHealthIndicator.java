@@ -0,0 +1,37 @@
+package com.employee.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.employee.service.SkillTestDetailsService;
+
+/**
+ * Readiness gate for the temp payroll ID counters. Reports OUT_OF_SERVICE
+ * until the background warm-up in {@link SkillTestDetailsService} has seeded
+ * them, so a load balancer using the readiness probe holds traffic back until
+ * then. While warm-up is being retried after a failure, the last error is
+ * reported.
+ */
+@Component("skillTestCounters")
+public class SkillTestCountersHealthIndicator implements HealthIndicator {
+
+	private final SkillTestDetailsService skillTestDetailsService;
+
+	public SkillTestCountersHealthIndicator(SkillTestDetailsService skillTestDetailsService) {
+		this.skillTestDetailsService = skillTestDetailsService;
+	}
+
+	@Override
+	public Health health() {
+		if (skillTestDetailsService.isCountersReady()) {
+			return Health.up().build();
+		}
+		String error = skillTestDetailsService.getCountersError();
+		if (error != null) {
+			return Health.outOfService().withDetail("reason", "temp payroll ID counter warm-up failed, retrying")
+					.withDetail("error", error).build();
+		}
+		return Health.outOfService().withDetail("reason", "temp payroll ID counters are warming up").build();
+	}
+}
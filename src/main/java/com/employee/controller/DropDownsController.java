@@ -363,8 +363,17 @@ public class DropDownsController {
 		return ResponseEntity.ok(documentTypes);
 	}
 
+	/**
+	 * Without paging parameters the full list is returned (cached). Pass
+	 * page/size (and optionally prefix) to fetch one bounded page instead.
+	 */
 	@GetMapping("/employees/active")
-	public ResponseEntity<?> getActiveEmployees() {
+	public ResponseEntity<?> getActiveEmployees(@RequestParam(required = false) Integer page,
+			@RequestParam(required = false) Integer size, @RequestParam(required = false) String prefix) {
+		if (isPaged(page, size, prefix)) {
+			return ResponseEntity.ok(employeeDropdownPage(1, prefix, page, size));
+		}
+
 		List<GenericDropdownDTO> employees = empDropdownService.getActiveEmployees();
 
 		if (employees == null || employees.isEmpty()) {
@@ -375,7 +384,12 @@ public class DropDownsController {
 	}
 
 	@GetMapping("/employees/inactive")
-	public ResponseEntity<?> getInactiveEmployees() {
+	public ResponseEntity<?> getInactiveEmployees(@RequestParam(required = false) Integer page,
+			@RequestParam(required = false) Integer size, @RequestParam(required = false) String prefix) {
+		if (isPaged(page, size, prefix)) {
+			return ResponseEntity.ok(employeeDropdownPage(0, prefix, page, size));
+		}
+
 		List<GenericDropdownDTO> employees = empDropdownService.getInactiveEmployees();
 
 		if (employees == null || employees.isEmpty()) {
@@ -409,7 +423,12 @@ public class DropDownsController {
 	}
 
 	@GetMapping("/all_employees")
-	public ResponseEntity<?> getAllEmployees() {
+	public ResponseEntity<?> getAllEmployees(@RequestParam(required = false) Integer page,
+			@RequestParam(required = false) Integer size, @RequestParam(required = false) String prefix) {
+		if (isPaged(page, size, prefix)) {
+			return ResponseEntity.ok(employeeDropdownPage(1, prefix, page, size));
+		}
+
 		List<GenericDropdownDTO> employees = empDropdownService.getAllEmployees();
 
 		if (employees == null || employees.isEmpty()) {
@@ -563,4 +582,13 @@ public class DropDownsController {
 
 		return empDropdownService.getDesignationsByEmployeeType(empTypeId);
 	}
+
+	private static boolean isPaged(Integer page, Integer size, String prefix) {
+		return page != null || size != null || (prefix != null && !prefix.trim().isEmpty());
+	}
+
+	private List<GenericDropdownDTO> employeeDropdownPage(int isActive, String prefix, Integer page, Integer size) {
+		return empDropdownService.getEmployeeDropdownPage(isActive, prefix, page != null ? page : 0,
+				size != null ? size : 50);
+	}
 }
@@ -1,37 +1,60 @@
 package com.employee.controller;
 
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestClientException;
 
 import com.employee.dto.EmpExamDataDTO;
 import com.employee.dto.ExamResultDTO;
+import com.employee.scheduler.EmpExamScheduler;
 import com.employee.service.EmpExamIntegrationService;
+import com.employee.service.ExamResultWebhookService;
+import com.employee.service.ExamSyncOutboxService;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 
 @RestController
 @RequestMapping("/api/integration")
 public class EmpExamController {
 
     private final EmpExamIntegrationService integrationService;
+    private final ExamSyncOutboxService outboxService;
+    private final ExamResultWebhookService webhookService;
+    private final EmpExamScheduler examScheduler;
 
     // Constructor Injection
-    public EmpExamController(EmpExamIntegrationService integrationService) {
+    public EmpExamController(EmpExamIntegrationService integrationService, ExamSyncOutboxService outboxService,
+            ExamResultWebhookService webhookService, EmpExamScheduler examScheduler) {
         this.integrationService = integrationService;
+        this.outboxService = outboxService;
+        this.webhookService = webhookService;
+        this.examScheduler = examScheduler;
     }
 
     // =====================================================================
     // 1. SYNC ENDPOINT (POST)
     // Usage: POST http://localhost:8080/api/integration/sync-db-employee?id=123
-    // Action: Reads DB -> Maps Data -> Sends to Epraghna API
+    // Action: Reads DB -> Maps Data -> Sends to Epraghna API right away
+    // (new registrations are pushed automatically through the outbox)
     // =====================================================================
     @PostMapping("/sync-db-employee")
     public ResponseEntity<String> syncEmployeeFromDb(@RequestParam String id) {
-        // 'id' is now a String (e.g. "TEMP5540045")
-        String result = integrationService.syncEmployeeFromDb(id);
-        return ResponseEntity.ok(result);
+        // 'id' is now a String (e.g. "TEMP5540045"); unknown IDs -> 404 via GlobalExceptionHandler
+        try {
+            return ResponseEntity.ok(integrationService.syncEmployeeFromDb(id));
+        } catch (RestClientException | CallNotPermittedException | BulkheadFullException e) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body("Failed: " + e.getMessage());
+        }
     }
 
     // =====================================================================
@@ -65,11 +88,48 @@ public class EmpExamController {
     // =====================================================================
     // 4. FETCH ALL RESULTS ENDPOINT (GET)
     // Usage: GET http://localhost:8080/api/integration/fetch-all-results
-    // Action: Triggers parallel sync for ALL qualifying employees
+    // Action: Runs the bounded harvest for ALL qualifying employees and returns its summary
     // =====================================================================
     @GetMapping("/fetch-all-results")
     public ResponseEntity<String> fetchAllResults() {
-        integrationService.fetchAllResults();
-        return ResponseEntity.ok("Bulk synchronization started in the background.");
+        // Same cluster lease as the scheduled run: never runs twice at once across nodes
+        return examScheduler.runResultHarvest()
+                .map(summary -> ResponseEntity.ok("Bulk synchronization completed: " + summary))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body("A result synchronization is already running."));
+    }
+
+    // =====================================================================
+    // 5. OUTBOX STATUS / RETRY
+    // Usage: GET  http://localhost:8080/api/integration/outbox/status
+    //        POST http://localhost:8080/api/integration/outbox/retry-failed
+    // Action: Counts undelivered bio-data pushes / requeues the ones that gave up
+    // =====================================================================
+    @GetMapping("/outbox/status")
+    public ResponseEntity<Map<String, Long>> outboxStatus() {
+        return ResponseEntity.ok(outboxService.statusCounts());
+    }
+
+    @PostMapping("/outbox/retry-failed")
+    public ResponseEntity<String> retryFailedPushes() {
+        return ResponseEntity.ok("Requeued " + outboxService.retryFailed() + " failed pushes.");
+    }
+
+    // =====================================================================
+    // 6. RESULT WEBHOOK (POST, called by the exam platform)
+    // Usage: POST http://localhost:8080/api/integration/exam-results
+    //        Headers X-Exam-Timestamp / X-Exam-Signature (see ExamResultWebhookService)
+    //        Body: one ExamResultDTO or an array of them
+    // Action: Verifies the signature -> Saves new results (redeliveries are ignored)
+    // =====================================================================
+    @PostMapping("/exam-results")
+    public ResponseEntity<?> receiveExamResults(
+            @RequestHeader(value = "X-Exam-Timestamp", required = false) String timestamp,
+            @RequestHeader(value = "X-Exam-Signature", required = false) String signature,
+            @RequestBody String body) {
+        if (!webhookService.isAuthentic(timestamp, signature, body)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid or expired signature.");
+        }
+        return ResponseEntity.ok(webhookService.ingest(body));
     }
 }
\ No newline at end of file
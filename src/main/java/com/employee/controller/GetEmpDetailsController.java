@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.employee.dto.AddressResponseDTO;
@@ -27,10 +28,12 @@ import com.employee.dto.QualificationInfoDTO;
 import com.employee.dto.ReferenceDTO;
 import com.employee.dto.SameInstituteEmployeesDTO;
 import com.employee.dto.WorkingInfoDTO;
-import com.employee.entity.EmpOnboardingStatusView;
-import com.employee.entity.EmployeeOnboardingView;
+import com.employee.entity.EmpOnboardingStatusBoard;
 import com.employee.entity.SkillTestApproval;
+import com.employee.exception.ResourceNotFoundException;
 import com.employee.service.GetEmpDetailsService;
+import com.employee.service.OnboardingStatusBoardService;
+import com.employee.service.SparseFieldsetService;
 
 import com.employee.dto.EmpPfEsiResponseDTO;
 
@@ -39,9 +42,17 @@ import com.employee.dto.EmpPfEsiResponseDTO;
 @CrossOrigin("*")
 public class GetEmpDetailsController {
 
+	private static final String NEXT_CURSOR_HEADER = "X-Next-After-Id";
+
 	@Autowired
 	GetEmpDetailsService getEmpDetailsService;
 
+	@Autowired
+	OnboardingStatusBoardService onboardingStatusBoardService;
+
+	@Autowired
+	SparseFieldsetService sparseFieldsetService;
+
 	// @Autowired EmpExperienceDetailsRepository empExperienceDetailsRepo;
 
 	// @GetMapping("/{empId}/family-details")
@@ -67,10 +78,12 @@ public class GetEmpDetailsController {
 	// }
 	// }
 
+	/** Optional fields=a,b,c: only those fields, selected by a narrower query. */
 	@GetMapping("/EmployeeOnboardingProfileCardView/{tempPayrollId}")
-	public ResponseEntity<?> getOnboardingByTempPayrollId(@PathVariable String tempPayrollId) {
-		Optional<EmployeeOnboardingView> result = getEmpDetailsService
-				.getEmployeeOnboardingByTempPayrollId(tempPayrollId);
+	public ResponseEntity<?> getOnboardingByTempPayrollId(@PathVariable String tempPayrollId,
+			@RequestParam(required = false) String fields) {
+		Optional<?> result = fields != null ? sparseFieldsetService.findOnboarding(tempPayrollId, fields)
+				: getEmpDetailsService.getEmployeeOnboardingByTempPayrollId(tempPayrollId);
 		if (result.isPresent()) {
 			return ResponseEntity.ok(result.get());
 		} else {
@@ -208,18 +221,36 @@ public class GetEmpDetailsController {
 		}
 	}
 
+	/**
+	 * Onboarding status board. Optional filters: categoryName
+	 * (case-insensitive), categoryId, campusId, status (check_app_status_name).
+	 * Optional keyset paging: size (max 500) and afterId (the last emp_id of the
+	 * previous page); the next cursor is returned in the X-Next-After-Id header
+	 * while more rows may follow.
+	 */
 	@GetMapping("/status")
-	public List<EmpOnboardingStatusView> getEmpStatus(
-			@org.springframework.web.bind.annotation.RequestParam(required = false) String categoryName) {
-		if (categoryName != null && !categoryName.isEmpty()) {
-			return getEmpDetailsService.getEmpStatusByCategoryName(categoryName);
+	public ResponseEntity<List<EmpOnboardingStatusBoard>> getEmpStatus(
+			@RequestParam(required = false) String categoryName, @RequestParam(required = false) Integer categoryId,
+			@RequestParam(required = false) Integer campusId, @RequestParam(required = false) String status,
+			@RequestParam(required = false) Integer afterId, @RequestParam(required = false) Integer size) {
+		List<EmpOnboardingStatusBoard> rows = onboardingStatusBoardService.getBoard(afterId, size, categoryName,
+				categoryId, campusId, status);
+		if (size == null || rows.size() < size) {
+			return ResponseEntity.ok(rows);
 		}
-		return getEmpDetailsService.getEmpStatus();
+		return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, String.valueOf(rows.get(rows.size() - 1).getEmp_id()))
+				.body(rows);
 	}
 
+	/** Optional fields=a,b,c (FullBasicInfoDto names): only those fields, with only the joins they need. */
 	@GetMapping("/employee/basic-info/{tempPayrollId}")
-	public FullBasicInfoDto getEmployeeDetails(
-			@PathVariable String tempPayrollId) {
+	public Object getEmployeeDetails(
+			@PathVariable String tempPayrollId, @RequestParam(required = false) String fields) {
+		if (fields != null) {
+			return sparseFieldsetService.findBasicInfo(tempPayrollId, fields)
+					.orElseThrow(() -> new ResourceNotFoundException(
+							"Employee not found for tempPayrollId: " + tempPayrollId));
+		}
 		return getEmpDetailsService.getEmployeeDetailsByTempPayrollId(tempPayrollId);
 	}
 
@@ -11,11 +11,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.employee.dto.AddressResponseDTO;
+import com.employee.dto.DocumentComplianceReportDTO;
 import com.employee.dto.EducationalDocumentStatusDTO;
 import com.employee.dto.EmpExperienceDetailsDTO;
 import com.employee.dto.EmpFamilyDetailsDTO;
@@ -23,16 +26,20 @@ import com.employee.dto.EmployeeAgreementDetailsDto;
 import com.employee.dto.EmployeeBankDetailsResponseDTO;
 import com.employee.dto.EmployeeCampusInfoDTO;
 import com.employee.dto.EmployeeCurrentInfoDTO;
+import com.employee.dto.EmployeeProfileDTO;
 import com.employee.dto.EmployeeRelationDTO;
 import com.employee.dto.BankContactDTO;
 import com.employee.dto.FamilyMemberInOrgDTO;
 import com.employee.dto.SalaryInfoDTO;
 import com.employee.entity.EmpProfileView;
 import com.employee.entity.EmployeeBasicInfoView;
+import com.employee.service.DocumentComplianceService;
 import com.employee.service.EmpSalaryInfoService;
+import com.employee.service.EmployeeProfileService;
 import com.employee.service.GetEmpDetailsService;
 //import com.employee.service.EmpDocTypeService;
 import com.employee.service.HREmpDetlService;
+import com.employee.service.SparseFieldsetService;
 
 @RestController
 @RequestMapping("empDetails/HR")
@@ -45,10 +52,27 @@ public class HREmpDetailsController {
     GetEmpDetailsService getEmpDetailsService;
     @Autowired
     private EmpSalaryInfoService empSalaryInfoService;
+    @Autowired
+    private EmployeeProfileService employeeProfileService;
+    @Autowired
+    private DocumentComplianceService documentComplianceService;
+    @Autowired
+    private SparseFieldsetService sparseFieldsetService;
 
     // @Autowired
     // private EmpDocTypeService empDocTypeService;
 
+    /**
+     * The whole profile in one request: every section below (or only those named
+     * in sections, e.g. ?sections=basicInfo,manager,bankDetails), loaded in
+     * parallel. Sections that fail or time out are listed in errors.
+     */
+    @GetMapping("/profile/{payrollId}")
+    public ResponseEntity<EmployeeProfileDTO> getEmployeeProfile(@PathVariable String payrollId,
+            @RequestParam(required = false) List<String> sections) {
+        return ResponseEntity.ok(employeeProfileService.getProfile(payrollId, sections));
+    }
+
     @GetMapping("/FamilyDetails/by-payroll/{payrollId}")
     public List<EmpFamilyDetailsDTO> getFamilyMembers(@PathVariable String payrollId) {
         return hrEmpDetlService.getFamilyMembersByPayrollId(payrollId);
@@ -198,6 +222,19 @@ public class HREmpDetailsController {
         return new ResponseEntity<>(result, HttpStatus.OK);
     }
 
+    /**
+     * Missing educational, ID proof and specific documents of every active
+     * employee of a campus and/or city, with totals. Only employees missing
+     * something are listed unless includeCompliant=true.
+     */
+    @GetMapping("/document-compliance")
+    public ResponseEntity<DocumentComplianceReportDTO> getDocumentCompliance(
+            @RequestParam(required = false) Integer campusId,
+            @RequestParam(required = false) Integer cityId,
+            @RequestParam(defaultValue = "false") boolean includeCompliant) {
+        return ResponseEntity.ok(documentComplianceService.getComplianceReport(campusId, cityId, includeCompliant));
+    }
+
     //
     // @GetMapping("/EmpProfileView/{payrollId}") // 1. Change path variable name to
     // 'payrollId'
@@ -217,8 +254,13 @@ public class HREmpDetailsController {
     // }
     // }
 
+    /** Optional fields=a,b,c: only those fields, selected by a narrower query. */
     @GetMapping("/EmpProfileView/{payrollId}")
-    public Optional<EmpProfileView> getProfileByPayrollId(@PathVariable String payrollId) {
+    public Optional<?> getProfileByPayrollId(@PathVariable String payrollId,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return sparseFieldsetService.findProfile(payrollId, fields);
+        }
         return getEmpDetailsService.getProfileByPayrollId(payrollId);
     }
 
@@ -233,6 +275,24 @@ public class HREmpDetailsController {
         return new ResponseEntity<>(contacts, HttpStatus.OK);
     }
 
+    /**
+     * Decrypted salary info of up to 1,000 payroll / temp payroll IDs, in one
+     * database call (payroll review).
+     */
+    @PostMapping("/salary-info/bulk")
+    public ResponseEntity<List<SalaryInfoDTO>> getSalaryInfoInBulk(@RequestBody List<String> payrollIds) {
+        return new ResponseEntity<>(empSalaryInfoService.getSalaryInfoInBulk(payrollIds, null, null), HttpStatus.OK);
+    }
+
+    /** Decrypted salary info of the active employees of a campus and/or department, in one database call. */
+    @GetMapping("/salary-info/bulk")
+    public ResponseEntity<List<SalaryInfoDTO>> getSalaryInfoByCampus(
+            @RequestParam(required = false) Integer campusId,
+            @RequestParam(required = false) Integer departmentId) {
+        return new ResponseEntity<>(empSalaryInfoService.getSalaryInfoInBulk(null, campusId, departmentId),
+                HttpStatus.OK);
+    }
+
     @GetMapping("/salary-info/{payrollId}")
     public ResponseEntity<SalaryInfoDTO> getSalaryInfoByPayrollId(@PathVariable String payrollId) {
         SalaryInfoDTO salaryInfoDTO = empSalaryInfoService.getSalaryInfoByPayrollIdAsDTO(payrollId);
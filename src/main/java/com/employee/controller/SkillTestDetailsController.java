@@ -12,8 +12,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.employee.dto.SkillTestBulkStatusDTO;
+import com.employee.dto.SkillTestBulkStatusResultDTO;
 import com.employee.dto.SkillTestDetailsDto;
 import com.employee.dto.SkillTestDetailsRequestDto;
 import com.employee.dto.SkillTestDetailsResultDto;
@@ -33,6 +36,8 @@ import lombok.extern.slf4j.Slf4j;
 @CrossOrigin("*")
 public class SkillTestDetailsController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-After-Id";
+
     @Autowired
     private SkillTestDetailsService skillTestDetailsService;
 
@@ -74,10 +79,22 @@ public class SkillTestDetailsController {
 
     }
 
+    /**
+     * Approval table. Optional keyset paging: size (max 500) and afterId (the
+     * last skillTestResultId of the previous page); the next cursor is returned
+     * in the X-Next-After-Id header while more rows may follow. Optional filters:
+     * campusCategory, cityId, statusId (approval status).
+     */
     @GetMapping("/passed_employees/skilltestApprovalTable")
-    public List<SkillTestDetailsResultDto> get_details_of_passed_employees() {
-        return skillTestDetailsService.get_details_of_passed_employees();
-
+    public ResponseEntity<List<SkillTestDetailsResultDto>> get_details_of_passed_employees(
+            @RequestParam(required = false) Integer afterId, @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String campusCategory, @RequestParam(required = false) Integer cityId,
+            @RequestParam(required = false) Integer statusId) {
+        List<SkillTestDetailsResultDto> rows = skillTestDetailsService.get_details_of_passed_employees(afterId, size,
+                campusCategory, cityId, statusId);
+        Integer nextAfterId = size != null && rows.size() == size ? rows.get(rows.size() - 1).getSkillTestResultId()
+                : null;
+        return withNextCursor(rows, nextAfterId);
     }
 
     @GetMapping("/approval/{tempPayrollId}")
@@ -100,18 +117,35 @@ public class SkillTestDetailsController {
     /**
      * Get list of all active skill test details with simplified fields
      * GET /api/v1/skill-details/list
+     * Optional keyset paging: size (max 500) and afterId (the last
+     * skillTestDetlId of the previous page); the next cursor is returned in the
+     * X-Next-After-Id header while more rows may follow. Optional filters:
+     * campusCategory, cityId, statusId (approval status of the active result).
      */
     @GetMapping("/list")
     public ResponseEntity<List<com.employee.dto.SkillTestListDto>> getAllSkillTestList(
-            @org.springframework.web.bind.annotation.RequestParam(required = false) String campusCategory) {
-        log.info("Fetching all skill test list with campusCategory: {}", campusCategory);
-        List<com.employee.dto.SkillTestListDto> list = skillTestDetailsService.getSkillTestList(campusCategory);
-        return ResponseEntity.ok(list);
+            @RequestParam(required = false) String campusCategory, @RequestParam(required = false) Integer cityId,
+            @RequestParam(required = false) Integer statusId, @RequestParam(required = false) Integer afterId,
+            @RequestParam(required = false) Integer size) {
+        log.info("Fetching skill test list with campusCategory: {}, cityId: {}, statusId: {}, afterId: {}, size: {}",
+                campusCategory, cityId, statusId, afterId, size);
+        List<com.employee.dto.SkillTestListDto> list = skillTestDetailsService.getSkillTestList(afterId, size,
+                campusCategory, cityId, statusId);
+        Integer nextAfterId = size != null && list.size() == size ? list.get(list.size() - 1).getSkillTestDetlId()
+                : null;
+        return withNextCursor(list, nextAfterId);
+    }
+
+    private static <T> ResponseEntity<List<T>> withNextCursor(List<T> rows, Integer nextAfterId) {
+        if (nextAfterId == null) {
+            return ResponseEntity.ok(rows);
+        }
+        return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, String.valueOf(nextAfterId)).body(rows);
     }
 
     @PutMapping("/approvedorNot/{tempPayrollId}")
     public ResponseEntity<String> approveSkillTest(@PathVariable("tempPayrollId") String tempPayrollId,
-            @org.springframework.web.bind.annotation.RequestParam(required = false) Integer updatedBy) {
+            @RequestParam(required = false) Integer updatedBy) {
         log.info("Approving skill test for tempPayrollId: {} by user: {}", tempPayrollId, updatedBy);
         skillTestDetailsService.approveSkillTestResult(tempPayrollId, updatedBy);
         return ResponseEntity.ok("Skill Test Approved successfully");
@@ -119,9 +153,23 @@ public class SkillTestDetailsController {
 
     @PutMapping("/reject/{tempPayrollId}")
     public ResponseEntity<String> rejectSkillTest(@PathVariable("tempPayrollId") String tempPayrollId,
-            @org.springframework.web.bind.annotation.RequestParam(required = false) Integer updatedBy) {
+            @RequestParam(required = false) Integer updatedBy) {
         log.info("Rejecting skill test for tempPayrollId: {} by user: {}", tempPayrollId, updatedBy);
         skillTestDetailsService.rejectSkillTestResult(tempPayrollId, updatedBy);
         return ResponseEntity.ok("Skill Test Rejected successfully");
     }
+
+    /**
+     * Sets the approval status of many candidates in one request and one
+     * transaction. Body: { "tempPayrollIds": [...], "statusId": 2, "updatedBy": 101 }
+     * (2 = Approved, 3 = Rejected). Returns one outcome per ID.
+     */
+    @PutMapping("/status/bulk")
+    public ResponseEntity<SkillTestBulkStatusResultDTO> updateSkillTestStatusBulk(
+            @RequestBody SkillTestBulkStatusDTO request) {
+        log.info("Bulk skill test status update to status ID {} for {} candidates by user: {}",
+                request.getStatusId(), request.getTempPayrollIds() != null ? request.getTempPayrollIds().size() : 0,
+                request.getUpdatedBy());
+        return ResponseEntity.ok(skillTestDetailsService.updateSkillTestStatusBulk(request));
+    }
 }
\ No newline at end of file
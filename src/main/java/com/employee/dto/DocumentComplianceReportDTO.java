@@ -0,0 +1,75 @@
+package com.employee.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Document compliance of all active employees of a campus and/or city
+ * (GET /empDetails/HR/document-compliance). Counts cover every employee;
+ * employees lists only those missing at least one document unless all were
+ * requested. Categories are EDUCATIONAL, ID_PROOF and SPECIFIC, with the same
+ * required documents as the per-employee document status endpoints.
+ */
+@Data
+@NoArgsConstructor
+public class DocumentComplianceReportDTO {
+
+	private Integer campusId;
+	private Integer cityId;
+
+	private int totalEmployees;
+	private int compliantEmployees;
+	private int nonCompliantEmployees;
+
+	private List<CategorySummary> categories = new ArrayList<>();
+	private List<DocTypeSummary> missingByDocType = new ArrayList<>();
+	private List<EmployeeCompliance> employees = new ArrayList<>();
+
+	private long loadMillis;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class CategorySummary {
+		private String category;
+		private int requiredDocuments;
+		private int uploadedDocuments;
+		private int missingDocuments;
+		private int employeesMissing; // employees missing at least one document of the category
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class DocTypeSummary {
+		private String category;
+		private Integer docTypeId;
+		private String docName;
+		private int employeesMissing;
+	}
+
+	@Data
+	@NoArgsConstructor
+	public static class EmployeeCompliance {
+		private Integer empId;
+		private String payrollId;
+		private String tempPayrollId;
+		private String employeeName;
+		private int requiredDocuments;
+		private int uploadedDocuments;
+		private List<MissingDocument> missingDocuments = new ArrayList<>();
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class MissingDocument {
+		private String category;
+		private Integer docTypeId;
+		private String docName;
+	}
+}
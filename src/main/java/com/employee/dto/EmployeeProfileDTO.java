@@ -0,0 +1,54 @@
+package com.employee.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.employee.entity.EmpProfileView;
+import com.employee.entity.EmployeeBasicInfoView;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One employee's HR profile (GET /empDetails/HR/profile/{payrollId}). Each
+ * field holds what the matching single-section endpoint on
+ * HREmpDetailsController returns; sections that were not requested are left
+ * out. A section that failed or missed the deadline is null and listed in
+ * errors with the reason.
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeProfileDTO {
+
+    private String payrollId;
+    private List<String> sections;
+
+    private EmployeeBasicInfoView basicInfo;
+    private EmpProfileView profile;
+    private EmployeeCurrentInfoDTO currentInfo;
+    private EmployeeCampusInfoDTO campusInfo;
+    private EmployeeRelationDTO manager;
+    private EmployeeRelationDTO reference;
+    private EmployeeRelationDTO hiredBy;
+    private EmployeeRelationDTO reportingManager;
+    private List<EmpFamilyDetailsDTO> family;
+    private List<FamilyMemberInOrgDTO> familyInOrganization;
+    private Map<String, List<AddressResponseDTO>> addresses;
+    private List<BankContactDTO> bankContacts;
+    private EmployeeBankDetailsResponseDTO bankDetails;
+    private List<EmpExperienceDetailsDTO> experience;
+    private EmployeeAgreementDetailsDto agreement;
+    private List<String> qualificationNames;
+    private List<QualificationDetailsDto> qualifications;
+    private EducationalDocumentStatusDTO educationalDocuments;
+    private EducationalDocumentStatusDTO idProofDocuments;
+    private EducationalDocumentStatusDTO specificDocuments;
+    private EmpPfEsiResponseDTO pfEsi;
+    private SalaryInfoDTO salary;
+
+    private Map<String, String> errors = new LinkedHashMap<>(); // section -> reason
+    private long loadMillis;
+}
@@ -0,0 +1,23 @@
+package com.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for Bulk Skill Test Status request: sets the approval status of the
+ * latest active result of every listed candidate.
+ * Example: { "tempPayrollIds": ["TEMP5540045", "TEMP5540046"], "statusId": 2, "updatedBy": 101 }
+ * statusId: 2 = Skill Test Approved, 3 = Rejected (any sce_skill_test_approval_status ID)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillTestBulkStatusDTO {
+
+    private List<String> tempPayrollIds;
+    private Integer statusId;
+    private Integer updatedBy; // defaults to 1 (system)
+}
@@ -0,0 +1,35 @@
+package com.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response of the bulk skill test status update, with one outcome per
+ * requested temp payroll ID (in request order, duplicates removed).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillTestBulkStatusResultDTO {
+
+    public static final String UPDATED = "UPDATED";
+    public static final String NO_ACTIVE_RESULT = "NO_ACTIVE_RESULT";
+
+    private Integer statusId;
+    private String statusName;
+    private int requested;
+    private int updated;
+    private List<Outcome> outcomes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Outcome {
+        private String tempPayrollId;
+        private String outcome; // UPDATED or NO_ACTIVE_RESULT
+        private Integer skillTestResultId; // the result that was updated
+    }
+}
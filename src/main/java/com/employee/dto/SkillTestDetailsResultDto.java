@@ -15,6 +15,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class SkillTestDetailsResultDto {
 
+	private Integer skillTestResultId; // keyset cursor: pass the last one as afterId for the next page
 	private String employeeName;
 	private String tempPayrollId;
 	private String previousChaitanyaId;
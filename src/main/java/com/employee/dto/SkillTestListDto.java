@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class SkillTestListDto {
+    private Integer skillTestDetlId; // keyset cursor: pass the last one as afterId for the next page
     private String employeeName;
     private String tempPayrollId;
     private String previousChaitanyaId;
@@ -10,6 +10,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -19,6 +22,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = FetchGraphs.FAMILY_DETAILS, attributeNodes = {
+		@NamedAttributeNode("gender_id"),
+		@NamedAttributeNode("blood_group_id"),
+		@NamedAttributeNode("relation_id"),
+		@NamedAttributeNode("parent_emp_id") })
+@NamedEntityGraph(name = FetchGraphs.FAMILY_IN_ORGANIZATION, attributeNodes = {
+		@NamedAttributeNode(value = "parent_emp_id", subgraph = "parent") }, subgraphs = {
+				@NamedSubgraph(name = "parent", attributeNodes = @NamedAttributeNode("designation")) })
 @Table(name = "sce_emp_family_detl", schema = "sce_employee")
 public class EmpFamilyDetails {
 
@@ -0,0 +1,53 @@
+package com.employee.entity;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of the onboarding status board: the emp_onboarding_status view's
+ * columns for one employee, kept current by OnboardingStatusBoardService.
+ * DDL: src/main/resources/db/sce_emp_onboarding_board.sql
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "sce_emp_onboarding_board", schema = "sce_employee")
+public class EmpOnboardingStatusBoard {
+
+	@Id
+	private Integer emp_id;
+	private String employee_name;
+	private Integer cmps_id;
+	private String cmps_name;
+	private Integer category_id;
+	private String category_name;
+	private String payroll_id;
+	private String temp_payroll_id;
+	private Date date_of_join;
+	private Date leaving_date;
+	private Integer gender_id;
+	private String gender_name;
+	private String city_name;
+	private String remarks;
+	private Integer join_type_id;
+	private String join_type;
+	private Integer replaced_by_emp_id;
+	private String replaced_by_emp_payroll;
+	private Integer verify_kyc;
+	private String kyc_status;
+	private String check_app_status_name;
+
+	@JsonIgnore
+	private LocalDateTime updated_date;
+
+}
@@ -9,6 +9,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,6 +21,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@NamedEntityGraph(name = FetchGraphs.ADDRESS_LOCATIONS, attributeNodes = {
+		@NamedAttributeNode(value = "city_id", subgraph = "city"),
+		@NamedAttributeNode("district_id"),
+		@NamedAttributeNode("state_id"),
+		@NamedAttributeNode("country_id") }, subgraphs = {
+				@NamedSubgraph(name = "city", attributeNodes = @NamedAttributeNode("district")) })
 @Table(name = "sce_emp_addrs", schema = "sce_employee")
 public class EmpaddressInfo {
 
@@ -13,6 +13,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
@@ -23,6 +25,19 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@NamedEntityGraph(name = FetchGraphs.EMPLOYEE_CAMPUS_INFO, attributeNodes = {
+		@NamedAttributeNode("campus_id"),
+		@NamedAttributeNode("designation"),
+		@NamedAttributeNode("workingMode_id"),
+		@NamedAttributeNode("join_type_id"),
+		@NamedAttributeNode("employee_replaceby_id") })
+@NamedEntityGraph(name = FetchGraphs.EMPLOYEE_CAMPUS_ADDRESS, attributeNodes = {
+		@NamedAttributeNode("campus_id"),
+		@NamedAttributeNode("department"),
+		@NamedAttributeNode("designation"),
+		@NamedAttributeNode("employee_type_id"),
+		@NamedAttributeNode("employee_manager_id"),
+		@NamedAttributeNode("employee_reporting_id") })
 @Table(name = "sce_emp", schema = "sce_employee")
 public class Employee {
 
@@ -0,0 +1,65 @@
+package com.employee.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pending push of a candidate's bio data to the exam platform.
+ * DDL: src/main/resources/db/sce_exam_sync_outbox.sql
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "sce_exam_sync_outbox", schema = "sce_employee")
+public class ExamSyncOutbox {
+
+	public static final String PENDING = "PENDING";
+	public static final String SENDING = "SENDING";
+	public static final String SENT = "SENT";
+	public static final String FAILED = "FAILED";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_id")
+	private Long outboxId;
+
+	@Column(name = "temp_payroll_id", nullable = false, length = 50)
+	private String tempPayrollId;
+
+	@Column(name = "skill_test_detl_id")
+	private Integer skillTestDetlId;
+
+	@Column(name = "status", nullable = false, length = 10)
+	private String status = PENDING;
+
+	@Column(name = "attempts", nullable = false)
+	private Integer attempts = 0;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "locked_until")
+	private LocalDateTime lockedUntil; // claim lease while SENDING
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "created_date", nullable = false)
+	private LocalDateTime createdDate;
+
+	@Column(name = "sent_date")
+	private LocalDateTime sentDate;
+
+	@Column(name = "updated_date", nullable = false)
+	private LocalDateTime updatedDate;
+}
@@ -0,0 +1,30 @@
+package com.employee.entity;
+
+/**
+ * Names of the entity graphs (fetch plans) declared on the entities, one per
+ * read use case. A repository method annotated with
+ * {@code @EntityGraph(FetchGraphs.X)} loads the listed associations in the same
+ * statement as the rows and leaves every other association unloaded, so a
+ * read path costs a fixed number of statements however many rows it maps.
+ * HrReadStatementCountTest pins the statement count of each path.
+ */
+public final class FetchGraphs {
+
+	/** Family members with gender, blood group, relation and the parent employee (HR family details). */
+	public static final String FAMILY_DETAILS = "EmpFamilyDetails.details";
+
+	/** Family members with the parent employee and the parent's designation (family in organization). */
+	public static final String FAMILY_IN_ORGANIZATION = "EmpFamilyDetails.inOrganization";
+
+	/** Addresses with city (and its district), district, state and country (HR address details). */
+	public static final String ADDRESS_LOCATIONS = "EmpaddressInfo.locations";
+
+	/** Employee with campus, designation, work mode, joining type and replacement (HR campus info). */
+	public static final String EMPLOYEE_CAMPUS_INFO = "Employee.campusInfo";
+
+	/** Employee with campus, department, designation, employee type and both managers (campus address). */
+	public static final String EMPLOYEE_CAMPUS_ADDRESS = "Employee.campusAddress";
+
+	private FetchGraphs() {
+	}
+}
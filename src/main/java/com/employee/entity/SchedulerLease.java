@@ -0,0 +1,36 @@
+package com.employee.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cluster-wide lease of one scheduled job.
+ * DDL: src/main/resources/db/sce_scheduler_lease.sql
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "sce_scheduler_lease", schema = "sce_employee")
+public class SchedulerLease {
+
+	@Id
+	@Column(name = "job_name", length = 100)
+	private String jobName;
+
+	@Column(name = "owner", nullable = false, length = 200)
+	private String owner; // node ID of the last holder
+
+	@Column(name = "acquired_at", nullable = false)
+	private LocalDateTime acquiredAt;
+
+	@Column(name = "locked_until", nullable = false)
+	private LocalDateTime lockedUntil; // free once passed
+}
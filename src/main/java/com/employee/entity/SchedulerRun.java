@@ -0,0 +1,57 @@
+package com.employee.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One run of a cluster-coordinated scheduled job.
+ * DDL: src/main/resources/db/sce_scheduler_lease.sql
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "sce_scheduler_run", schema = "sce_employee")
+public class SchedulerRun {
+
+	public static final String RUNNING = "RUNNING";
+	public static final String SUCCEEDED = "SUCCEEDED";
+	public static final String SKIPPED = "SKIPPED";
+	public static final String FAILED = "FAILED";
+	public static final String ABANDONED = "ABANDONED";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "run_id")
+	private Long runId;
+
+	@Column(name = "job_name", nullable = false, length = 100)
+	private String jobName;
+
+	@Column(name = "node", nullable = false, length = 200)
+	private String node;
+
+	@Column(name = "started_at", nullable = false)
+	private LocalDateTime startedAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+
+	@Column(name = "items")
+	private Long items; // work items processed, if the job reports them
+
+	@Column(name = "outcome", nullable = false, length = 20)
+	private String outcome;
+
+	@Column(name = "message", length = 500)
+	private String message;
+}
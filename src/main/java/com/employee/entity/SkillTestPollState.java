@@ -0,0 +1,42 @@
+package com.employee.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Exam-result polling state of one skill test candidate.
+ * DDL: src/main/resources/db/sce_skill_test_poll_state.sql
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "sce_skill_test_poll_state", schema = "sce_employee")
+public class SkillTestPollState {
+
+	@Id
+	@Column(name = "skill_test_detl_id")
+	private Integer skillTestDetlId;
+
+	@Column(name = "last_polled_at")
+	private LocalDateTime lastPolledAt;
+
+	@Column(name = "consecutive_not_attempted", nullable = false)
+	private Integer consecutiveNotAttempted = 0; // consecutive HTTP 422 answers
+
+	@Column(name = "next_eligible_at")
+	private LocalDateTime nextEligibleAt; // null = due now
+
+	@Column(name = "last_synced_at")
+	private LocalDateTime lastSyncedAt; // last successful saveEmpBioDetails push
+
+	@Column(name = "updated_date", nullable = false)
+	private LocalDateTime updatedDate;
+}
@@ -0,0 +1,33 @@
+package com.employee.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-campus counter row behind temp payroll ID generation.
+ * DDL: src/main/resources/db/sce_temp_payroll_counter.sql
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "sce_temp_payroll_counter", schema = "sce_employee")
+public class TempPayrollIdCounter {
+
+	@Id
+	@Column(name = "base_key")
+	private String baseKey; // "TEMP" + campus code
+
+	@Column(name = "next_value", nullable = false)
+	private Integer nextValue; // next suffix not yet handed out
+
+	@Column(name = "updated_date", nullable = false)
+	private LocalDateTime updatedDate;
+}
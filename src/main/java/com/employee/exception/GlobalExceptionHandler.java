@@ -36,6 +36,16 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
 	}
 	
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<Map<String, Object>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+		logger.warn("Service unavailable: {}", ex.getMessage());
+		Map<String, Object> response = new HashMap<>();
+		response.put("message", ex.getMessage());
+		response.put("timestamp", LocalDateTime.now());
+		response.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+		return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+	
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
 		// Log the full exception with stack trace to console
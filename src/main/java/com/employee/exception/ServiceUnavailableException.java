@@ -0,0 +1,19 @@
+package com.employee.exception;
+
+/**
+ * The request cannot be served right now because a shared resource is
+ * saturated; the client may retry later. Mapped to 503 by
+ * {@link GlobalExceptionHandler}.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public ServiceUnavailableException(String message) {
+		super(message);
+	}
+	
+	public ServiceUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,34 @@
+package com.employee.repository;
+
+/**
+ * One building address of a campus, with the campus city. A campus without
+ * buildings has a single row with a null building; a building without
+ * addresses has a single row with a null address.
+ */
+public interface CampusAddressRowProjection {
+    Integer getCampusId();
+
+    Integer getCityId();
+
+    String getCityName();
+
+    Integer getBuildingId();
+
+    Integer getIsMainBuilding();
+
+    Integer getAddressId();
+
+    String getAddressType();
+
+    String getPlotNo();
+
+    String getArea();
+
+    String getStreet();
+
+    String getLandmark();
+
+    Integer getPinCode();
+
+    String getMobileNo();
+}
@@ -11,6 +11,10 @@ public interface CampusEmployeeRepository extends JpaRepository<CampusEmployee,
     @org.springframework.data.jpa.repository.Query("SELECT ce FROM CampusEmployee ce WHERE ce.empId.emp_id = :empId AND ce.isActive = 1")
     java.util.List<CampusEmployee> findByEmpId(@org.springframework.data.repository.query.Param("empId") Integer empId);
 
+    // Active campus mappings of several employees, with the campus, in one query
+    @org.springframework.data.jpa.repository.Query("SELECT ce FROM CampusEmployee ce JOIN FETCH ce.cmpsId WHERE ce.empId.emp_id IN :empIds AND ce.isActive = 1 ORDER BY ce.cmpsEmployeeId")
+    java.util.List<CampusEmployee> findByEmpIdIn(@org.springframework.data.repository.query.Param("empIds") java.util.Collection<Integer> empIds);
+
     // Find campus mapping by employee and campus
     @org.springframework.data.jpa.repository.Query("SELECT ce FROM CampusEmployee ce WHERE ce.empId.emp_id = :empId AND ce.cmpsId.campusId = :campusId")
     java.util.List<CampusEmployee> findByEmpIdAndCmpsId(
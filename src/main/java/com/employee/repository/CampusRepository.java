@@ -1,5 +1,6 @@
 package com.employee.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +64,22 @@ public interface CampusRepository extends JpaRepository<Campus, Integer> {
         @Query("SELECT ca.city FROM Campus ca WHERE ca.campusId = :campusid")
         City findByCampusId(@Param("campusid") int campusid);
 
+        /**
+         * City, buildings and building addresses of the campuses, in campus,
+         * building and address order, for the campus address index.
+         */
+        @Query("SELECT c.campusId AS campusId, ci.cityId AS cityId, ci.cityName AS cityName, "
+                        + "b.buildingId AS buildingId, b.isMainBuilding AS isMainBuilding, "
+                        + "ba.building_address_id AS addressId, ba.address_type AS addressType, ba.plot_no AS plotNo, "
+                        + "ba.area AS area, ba.street AS street, ba.landmark AS landmark, ba.pin_code AS pinCode, "
+                        + "ba.mobile_no AS mobileNo "
+                        + "FROM Campus c LEFT JOIN c.city ci "
+                        + "LEFT JOIN Building b ON b.campusId = c "
+                        + "LEFT JOIN BuildingAddress ba ON ba.building = b "
+                        + "WHERE c.campusId IN :campusIds "
+                        + "ORDER BY c.campusId, b.buildingId, ba.building_address_id")
+        List<CampusAddressRowProjection> findAddressRowsByCampusIds(@Param("campusIds") Collection<Integer> campusIds);
+
         @Query("SELECT new com.employee.dto.GenericDropdownDTO(c.campusId, c.campusName) " +
                         "FROM Campus c WHERE c.isActive = :isActive AND c.businessType.businessTypeId = :businessId")
         List<GenericDropdownDTO> findByIsActiveAndBusinessId(@Param("isActive") Integer isActive,
@@ -49,4 +49,9 @@ public interface DecryptedSalaryInfoProjection {
     String getGrade_name();
 
     String getCost_center_name();
+
+    // Employee name (bulk reads only)
+    String getFirst_name();
+
+    String getLast_name();
 }
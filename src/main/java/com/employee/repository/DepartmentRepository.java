@@ -8,7 +8,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.employee.dto.GenericDropdownDTO;
 import com.employee.entity.Department;
 
 @Repository
@@ -30,6 +29,10 @@ public interface DepartmentRepository extends JpaRepository<Department, Integer>
             @Param("deptCategoryId") int deptCategoryId,
             @Param("isActive") Integer isActive);
 
+    // 3. All departments with their type and category, used to build OrgStructureIndex
+    @Query("SELECT d FROM Department d LEFT JOIN FETCH d.empTypeId LEFT JOIN FETCH d.departmentCategory")
+    List<Department> findAllWithEmpTypeAndCategory();
+
     // --- NEWLY ADDED METHODS ---
 
     // 4. Find department by Name (Useful for duplicate checks during save)
@@ -42,27 +45,4 @@ public interface DepartmentRepository extends JpaRepository<Department, Integer>
     @Query("SELECT CASE WHEN COUNT(d) > 0 THEN true ELSE false END FROM Department d WHERE d.department_name = :deptName AND d.isActive = 1")
     boolean existsByDepartmentName(@Param("deptName") String deptName);
 
-    @Query("""
-            SELECT new com.employee.dto.GenericDropdownDTO(
-                d.department_id,
-                CONCAT(d.department_name, ' - ', replace(e.emp_type,'_',' '))
-            )
-            FROM Department d
-            JOIN d.empTypeId e
-            WHERE d.isActive = 1
-            """)
-    List<GenericDropdownDTO> findActiveDepartmentNamesWithTypes();
-
-    @Query("""
-            SELECT new com.employee.dto.GenericDropdownDTO(
-                d.department_id,
-                CONCAT(d.department_name, ' - ', replace(e.emp_type,'_',' '))
-            )
-            FROM Department d
-            JOIN d.empTypeId e
-            WHERE UPPER(d.departmentCategory.businessTypeName) = UPPER(:categoryName)
-            AND d.isActive = 1
-            """)
-    List<GenericDropdownDTO> findActiveDepartmentNamesWithTypesByCategory(@Param("categoryName") String categoryName);
-
 }
\ No newline at end of file
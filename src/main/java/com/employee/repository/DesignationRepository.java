@@ -32,6 +32,10 @@ public interface DesignationRepository extends JpaRepository<Designation, Intege
 
     // Find all active designations
     List<Designation> findByIsActive(int isActive);
+
+    // All designations with department and employee type, used to build OrgStructureIndex
+    @Query("SELECT d FROM Designation d LEFT JOIN FETCH d.department dep LEFT JOIN FETCH dep.empTypeId")
+    List<Designation> findAllWithDepartment();
     
     @Query("""
  	       SELECT d FROM Designation d
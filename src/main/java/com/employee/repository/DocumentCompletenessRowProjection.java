@@ -0,0 +1,32 @@
+package com.employee.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of an employee's document completeness query. The kind column says
+ * which columns are filled: E (the employee: highest qualification and payroll
+ * IDs), Q (an active qualification) or D (an active uploaded document).
+ */
+public interface DocumentCompletenessRowProjection {
+    String getKind();
+
+    /** Highest qualification (E), qualification (Q) or doc type (D) ID. */
+    Integer getRefId();
+
+    /** Name of the highest qualification (E). */
+    String getLabel();
+
+    String getDocPath();
+
+    String getPayrollId();
+
+    String getTempPayrollId();
+
+    Integer getCreatedBy();
+
+    LocalDateTime getCreatedDate();
+
+    Integer getUpdatedBy();
+
+    LocalDateTime getUpdatedDate();
+}
@@ -0,0 +1,27 @@
+package com.employee.repository;
+
+/**
+ * One required document of one employee in the campus compliance report, with
+ * whether an active copy has been uploaded. Employees with nothing required
+ * have a single row with a null category.
+ */
+public interface DocumentComplianceRowProjection {
+    Integer getEmpId();
+
+    String getPayrollId();
+
+    String getTempPayrollId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    /** EDUCATIONAL, ID_PROOF or SPECIFIC. */
+    String getCategory();
+
+    Integer getDocTypeId();
+
+    String getDocName();
+
+    Integer getUploaded();
+}
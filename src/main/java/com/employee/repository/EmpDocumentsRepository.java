@@ -1,14 +1,20 @@
 package com.employee.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.employee.entity.EmpDocuments;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface EmpDocumentsRepository extends JpaRepository<EmpDocuments, Integer> {
 
@@ -40,6 +46,10 @@ public interface EmpDocumentsRepository extends JpaRepository<EmpDocuments, Inte
         List<EmpDocuments> findByEmpIdAndDocName(@Param("empId") Integer empId,
                         @Param("docName") String docName);
 
+        /** Paths only, newest first: no EmpDocuments (and none of its eager associations) is loaded. */
+        @Query("SELECT ed.doc_path FROM EmpDocuments ed WHERE ed.emp_id.emp_id = :empId AND ed.emp_doc_type_id.doc_name = :docName AND ed.is_active = 1 ORDER BY ed.created_date DESC")
+        List<String> findDocPathsByEmpIdAndDocName(@Param("empId") Integer empId, @Param("docName") String docName);
+
         @Query("SELECT ed FROM EmpDocuments ed WHERE ed.emp_id.emp_id = :empId AND ed.is_active = 1 AND ed.emp_exp_detl_id IS NULL AND ed.doc_path NOT LIKE 'CHEQUE_LINK_%' AND ed.doc_path NOT LIKE 'QUAL_LINK_%'")
         List<EmpDocuments> findGeneralDocumentsByEmpId(@Param("empId") Integer empId);
         
@@ -47,4 +57,62 @@ public interface EmpDocumentsRepository extends JpaRepository<EmpDocuments, Inte
         @Query("SELECT ed FROM EmpDocuments ed WHERE ed.emp_id.emp_id = :empId AND ed.doc_path LIKE :pattern AND ed.is_active = 1")
         List<EmpDocuments> findMultipleByEmpIdAndPathPattern(@Param("empId") Integer empId,
                         @Param("pattern") String pattern);
+
+        /**
+         * Everything the document status endpoints need for one employee, in one
+         * statement: the employee row (E), its active qualifications (Q) and its
+         * active documents of the given doc types (D).
+         */
+        @Query(value = "SELECT 'E' AS kind, e.highest_qualification_id AS refId, q.qualification_name AS label, "
+                        + "CAST(NULL AS VARCHAR(1000)) AS docPath, e.payroll_id AS payrollId, "
+                        + "e.temp_payroll_id AS tempPayrollId, CAST(NULL AS INTEGER) AS createdBy, "
+                        + "CAST(NULL AS TIMESTAMP) AS createdDate, CAST(NULL AS INTEGER) AS updatedBy, "
+                        + "CAST(NULL AS TIMESTAMP) AS updatedDate "
+                        + "FROM sce_employee.sce_emp e "
+                        + "LEFT JOIN sce_employee.sce_qualification q ON q.qualification_id = e.highest_qualification_id "
+                        + "WHERE e.emp_id = :empId "
+                        + "UNION ALL "
+                        + "SELECT 'Q', eq.qualification_id, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL "
+                        + "FROM sce_employee.sce_emp_qualification eq WHERE eq.emp_id = :empId AND eq.is_active = 1 "
+                        + "UNION ALL "
+                        + "SELECT 'D', d.doc_type_id, NULL, d.doc_path, NULL, NULL, d.created_by, d.created_date, "
+                        + "d.updated_by, d.updated_date "
+                        + "FROM sce_employee.sce_emp_doc d "
+                        + "WHERE d.emp_id = :empId AND d.is_active = 1 AND d.doc_type_id IN (:docTypeIds)", nativeQuery = true)
+        List<DocumentCompletenessRowProjection> findCompletenessRows(@Param("empId") Integer empId,
+                        @Param("docTypeIds") Collection<Integer> docTypeIds);
+
+        /**
+         * Required-vs-uploaded matrix of every active employee of a campus and/or
+         * city, ordered by emp_id: an employee's active qualifications whose ID is
+         * an educational doc type, plus every ID proof and specific doc type, each
+         * flagged with whether an active document of that type exists. Null
+         * filters are ignored. Must be consumed inside a transaction.
+         */
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+        @Query(value = "WITH emp AS (SELECT e.emp_id, e.payroll_id, e.temp_payroll_id, e.first_name, e.last_name "
+                        + "FROM sce_employee.sce_emp e LEFT JOIN sce_campus.sce_cmps c ON c.cmps_id = e.cmps_id "
+                        + "WHERE e.is_active = 1 AND (CAST(:campusId AS integer) IS NULL OR e.cmps_id = :campusId) "
+                        + "AND (CAST(:cityId AS integer) IS NULL OR c.city_id = :cityId)), "
+                        + "req AS (SELECT DISTINCT emp.emp_id, 'EDUCATIONAL' AS category, q.qualification_id AS doc_type_id "
+                        + "FROM emp JOIN sce_employee.sce_emp_qualification q ON q.emp_id = emp.emp_id AND q.is_active = 1 "
+                        + "WHERE q.qualification_id IN (:educationalIds) "
+                        + "UNION ALL SELECT emp.emp_id, 'ID_PROOF', t.doc_type_id FROM emp "
+                        + "CROSS JOIN sce_employee.sce_doc_type t WHERE t.doc_type_id IN (:idProofIds) "
+                        + "UNION ALL SELECT emp.emp_id, 'SPECIFIC', t.doc_type_id FROM emp "
+                        + "CROSS JOIN sce_employee.sce_doc_type t WHERE t.doc_type_id IN (:specificIds)) "
+                        + "SELECT emp.emp_id AS empId, emp.payroll_id AS payrollId, emp.temp_payroll_id AS tempPayrollId, "
+                        + "emp.first_name AS firstName, emp.last_name AS lastName, req.category AS category, "
+                        + "t.doc_type_id AS docTypeId, t.doc_name AS docName, "
+                        + "CASE WHEN EXISTS (SELECT 1 FROM sce_employee.sce_emp_doc d WHERE d.emp_id = emp.emp_id "
+                        + "AND d.doc_type_id = req.doc_type_id AND d.is_active = 1) THEN 1 ELSE 0 END AS uploaded "
+                        + "FROM emp LEFT JOIN req ON req.emp_id = emp.emp_id "
+                        + "LEFT JOIN sce_employee.sce_doc_type t ON t.doc_type_id = req.doc_type_id "
+                        + "ORDER BY emp.emp_id, req.category, t.doc_type_id", nativeQuery = true)
+        Stream<DocumentComplianceRowProjection> streamComplianceRows(@Param("campusId") Integer campusId,
+                        @Param("cityId") Integer cityId, @Param("educationalIds") Collection<Integer> educationalIds,
+                        @Param("idProofIds") Collection<Integer> idProofIds,
+                        @Param("specificIds") Collection<Integer> specificIds);
 }
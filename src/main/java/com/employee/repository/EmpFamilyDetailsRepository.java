@@ -115,6 +115,7 @@
 package com.employee.repository;
 
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -124,6 +125,7 @@ import com.employee.dto.EmpFamilyDetailsDTO;
 import com.employee.dto.FamilyDetailsDTO;
 import com.employee.entity.EmpFamilyDetails;
 import com.employee.entity.Employee;
+import com.employee.entity.FetchGraphs;
 
 @Repository
 public interface EmpFamilyDetailsRepository extends JpaRepository<EmpFamilyDetails, Integer> {
@@ -158,11 +160,11 @@ public interface EmpFamilyDetailsRepository extends JpaRepository<EmpFamilyDetai
         @Query("SELECT e FROM EmpFamilyDetails e WHERE e.emp_id.emp_id = :emp_id AND e.is_active = 1")
         List<EmpFamilyDetails> findFamilyDetailsByEmpId(@Param("emp_id") int empId);
 
-        @Query("SELECT fd FROM EmpFamilyDetails fd WHERE fd.emp_id.payRollId = :payrollId AND fd.is_active = :isActive")
-        List<EmpFamilyDetails> findByEmp_id_PayrollIdAndIsActive(
-                        @Param("payrollId") String payrollId,
-                        @Param("isActive") int isActive);
+        @EntityGraph(FetchGraphs.FAMILY_DETAILS)
+        @Query("SELECT fd FROM EmpFamilyDetails fd WHERE fd.emp_id.emp_id = :empId AND fd.is_active = 1")
+        List<EmpFamilyDetails> findActiveDetailsByEmpId(@Param("empId") int empId);
 
+        @EntityGraph(FetchGraphs.FAMILY_IN_ORGANIZATION)
         @Query("SELECT fd FROM EmpFamilyDetails fd WHERE fd.emp_id.emp_id = :empId")
         List<EmpFamilyDetails> findByEmp_id_EmpId(@Param("empId") int empId);
 
@@ -0,0 +1,45 @@
+package com.employee.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.employee.entity.EmpOnboardingStatusBoard;
+
+@Repository
+public interface EmpOnboardingStatusBoardRepository extends JpaRepository<EmpOnboardingStatusBoard, Integer> {
+
+	/**
+	 * Board rows after the cursor (emp_id), in key order. Null filters are
+	 * ignored; categoryName is matched case-insensitively.
+	 */
+	@Query("SELECT b FROM EmpOnboardingStatusBoard b "
+			+ "WHERE (:afterId IS NULL OR b.emp_id > :afterId) "
+			+ "AND (:categoryName IS NULL OR UPPER(b.category_name) = UPPER(:categoryName)) "
+			+ "AND (:categoryId IS NULL OR b.category_id = :categoryId) "
+			+ "AND (:campusId IS NULL OR b.cmps_id = :campusId) "
+			+ "AND (:status IS NULL OR b.check_app_status_name = :status) "
+			+ "ORDER BY b.emp_id")
+	List<EmpOnboardingStatusBoard> findPage(@Param("afterId") Integer afterId,
+			@Param("categoryName") String categoryName, @Param("categoryId") Integer categoryId,
+			@Param("campusId") Integer campusId, @Param("status") String status, Limit limit);
+
+	/**
+	 * Row-locks the employee's board row until the end of the caller's
+	 * transaction, inserting an empty row first if there is none, so concurrent
+	 * rewrites of the same employee run one after the other.
+	 */
+	@Modifying
+	@Query(value = "INSERT INTO sce_employee.sce_emp_onboarding_board (emp_id) VALUES (:empId) "
+			+ "ON CONFLICT (emp_id) DO NOTHING", nativeQuery = true)
+	int insertIfMissing(@Param("empId") int empId);
+
+	@Query(value = "SELECT emp_id FROM sce_employee.sce_emp_onboarding_board WHERE emp_id = :empId FOR UPDATE",
+			nativeQuery = true)
+	Integer lockRow(@Param("empId") int empId);
+}
@@ -11,9 +11,7 @@ import com.employee.entity.EmpOnboardingStatusView;
 @Repository
 public interface EmpOnboardingStatusViewRepository extends JpaRepository<EmpOnboardingStatusView, String> {
 
-    @Query("SELECT DISTINCT e FROM EmpOnboardingStatusView e")
-    List<EmpOnboardingStatusView> findAllDistinct();
-
-    @Query("SELECT DISTINCT e FROM EmpOnboardingStatusView e WHERE UPPER(e.category_name) = UPPER(:categoryName)")
-    List<EmpOnboardingStatusView> findByCategoryName(@Param("categoryName") String categoryName);
-}
\ No newline at end of file
+    /** The view's rows of one employee, for refreshing that employee's board row. */
+    @Query("SELECT e FROM EmpOnboardingStatusView e WHERE e.emp_id = :empId ORDER BY e.temp_payroll_id")
+    List<EmpOnboardingStatusView> findByEmpId(@Param("empId") int empId);
+}
@@ -1,7 +1,6 @@
 package com.employee.repository;
 
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -42,11 +41,9 @@ public interface EmpQualificationRepository extends JpaRepository<EmpQualificati
 
     /**
      * Find active qualifications fetching the qualification details.
-     * Note: Changed parameter from Optional<Employee> to Employee to prevent JPA
-     * binding errors.
      */
-    @Query("SELECT eq FROM EmpQualification eq JOIN FETCH eq.qualification_id q WHERE eq.emp_id = :employee AND eq.is_active = 1")
-    List<EmpQualification> findActiveQualificationsByEmployee(@Param("employee") Optional<Employee> employee);
+    @Query("SELECT eq FROM EmpQualification eq JOIN FETCH eq.qualification_id q WHERE eq.emp_id.emp_id = :empId AND eq.is_active = 1")
+    List<EmpQualification> findActiveQualificationsByEmpId(@Param("empId") Integer empId);
 
     /**
      * Find by Permanent PayRollId (matches 'payRollId' in Employee entity)
@@ -1,6 +1,7 @@
 package com.employee.repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -98,4 +99,49 @@ public interface EmpSalaryInfoRepository extends JpaRepository<EmpSalaryInfo, In
 			"WHERE e.payroll_id = :payrollId AND esi.is_active = 1", nativeQuery = true)
 	Optional<DecryptedSalaryInfoProjection> findDecryptedByPayrollId(@Param("payrollId") String payrollId);
 
+	// Decrypted salary info of many employees in one statement: each payroll ID is
+	// matched against payroll_id and temp_payroll_id. The IDs are bound as one
+	// varchar array, so the statement text (and its plan) is the same for any list size.
+	@Query(value = "SELECT esi.emp_sal_info_id, esi.emp_id, e.payroll_id, esi.emp_payment_type_id, " +
+			"sce_employee.fn_decrypt_sal(esi.monthly_take_home) as monthly_take_home, " +
+			"sce_employee.fn_decrypt_sal(esi.ctc_words) as ctc_words, " +
+			"sce_employee.fn_decrypt_sal(esi.yearly_ctc) as yearly_ctc, " +
+			"esi.emp_structure_id, esi.grade_id, e.temp_payroll_id, esi.cost_center_id, " +
+			"esi.is_pf_eligible, esi.is_esi_eligible, esi.is_active, esi.created_by, " +
+			"esi.created_date, esi.updated_by, esi.updated_date, " +
+			"st.structure_name as emp_structure_name, gr.grade_name, cc.cost_center_name, " +
+			"e.first_name, e.last_name " +
+			"FROM sce_employee.sce_emp_sal_info esi " +
+			"JOIN sce_employee.sce_emp e ON esi.emp_id = e.emp_id " +
+			"LEFT JOIN sce_employee.sce_emp_structure st ON esi.emp_structure_id = st.emp_structure_id " +
+			"LEFT JOIN sce_employee.sce_emp_grade gr ON esi.grade_id = gr.emp_grade_id " +
+			"LEFT JOIN sce_employee.sce_emp_costcenter cc ON esi.cost_center_id = cc.cost_center_id " +
+			"WHERE (e.payroll_id = ANY(CAST(:payrollIds AS varchar ARRAY)) " +
+			"OR e.temp_payroll_id = ANY(CAST(:payrollIds AS varchar ARRAY))) " +
+			"AND esi.is_active = 1 ORDER BY e.emp_id", nativeQuery = true)
+	Stream<DecryptedSalaryInfoProjection> streamDecryptedByPayrollIds(@Param("payrollIds") String[] payrollIds);
+
+	// Decrypted salary info of the active employees of a campus and/or department
+	// (a null filter is ignored), in one statement, at most maxRows rows
+	@Query(value = "SELECT esi.emp_sal_info_id, esi.emp_id, e.payroll_id, esi.emp_payment_type_id, " +
+			"sce_employee.fn_decrypt_sal(esi.monthly_take_home) as monthly_take_home, " +
+			"sce_employee.fn_decrypt_sal(esi.ctc_words) as ctc_words, " +
+			"sce_employee.fn_decrypt_sal(esi.yearly_ctc) as yearly_ctc, " +
+			"esi.emp_structure_id, esi.grade_id, e.temp_payroll_id, esi.cost_center_id, " +
+			"esi.is_pf_eligible, esi.is_esi_eligible, esi.is_active, esi.created_by, " +
+			"esi.created_date, esi.updated_by, esi.updated_date, " +
+			"st.structure_name as emp_structure_name, gr.grade_name, cc.cost_center_name, " +
+			"e.first_name, e.last_name " +
+			"FROM sce_employee.sce_emp_sal_info esi " +
+			"JOIN sce_employee.sce_emp e ON esi.emp_id = e.emp_id " +
+			"LEFT JOIN sce_employee.sce_emp_structure st ON esi.emp_structure_id = st.emp_structure_id " +
+			"LEFT JOIN sce_employee.sce_emp_grade gr ON esi.grade_id = gr.emp_grade_id " +
+			"LEFT JOIN sce_employee.sce_emp_costcenter cc ON esi.cost_center_id = cc.cost_center_id " +
+			"WHERE e.is_active = 1 AND esi.is_active = 1 " +
+			"AND (CAST(:campusId AS integer) IS NULL OR e.cmps_id = :campusId) " +
+			"AND (CAST(:departmentId AS integer) IS NULL OR e.department_id = :departmentId) " +
+			"ORDER BY e.emp_id LIMIT :maxRows", nativeQuery = true)
+	Stream<DecryptedSalaryInfoProjection> streamDecryptedByCampusAndDepartment(@Param("campusId") Integer campusId,
+			@Param("departmentId") Integer departmentId, @Param("maxRows") int maxRows);
+
 }
\ No newline at end of file
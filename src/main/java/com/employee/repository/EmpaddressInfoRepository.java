@@ -2,6 +2,7 @@ package com.employee.repository;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query; // 1. Add this import
 import org.springframework.data.repository.query.Param; // 2. Add this import
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import com.employee.dto.AddressResponseDTO;
 import com.employee.entity.EmpaddressInfo;
 import com.employee.entity.Employee;
+import com.employee.entity.FetchGraphs;
 
 @Repository
 public interface EmpaddressInfoRepository extends JpaRepository<EmpaddressInfo, Integer> {
@@ -19,6 +21,7 @@ public interface EmpaddressInfoRepository extends JpaRepository<EmpaddressInfo,
 	 * CORRECTED: Added @Query because Spring was incorrectly looking for 'empId'
 	 * instead of the correct 'emp_id' field.
 	 */
+	@EntityGraph(FetchGraphs.ADDRESS_LOCATIONS)
 	@Query("SELECT e FROM EmpaddressInfo e WHERE e.emp_id.payRollId = :payrollId") // 3. Add this @Query
 	List<EmpaddressInfo> findByEmpId_PayrollId(@Param("payrollId") String payrollId); // 4. Add @Param
 
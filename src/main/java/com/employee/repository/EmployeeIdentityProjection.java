@@ -0,0 +1,13 @@
+package com.employee.repository;
+
+/**
+ * The identifiers of one employee: emp_id with its permanent and temporary
+ * payroll IDs (either may be null).
+ */
+public interface EmployeeIdentityProjection {
+    Integer getEmpId();
+
+    String getPayrollId();
+
+    String getTempPayrollId();
+}
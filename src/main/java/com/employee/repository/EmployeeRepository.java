@@ -1,16 +1,26 @@
 package com.employee.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.employee.dto.FullBasicInfoDto;
+import com.employee.dto.GenericDropdownDTO;
 import com.employee.entity.EmpQualification;
 import com.employee.entity.Employee;
+import com.employee.entity.FetchGraphs;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Integer>, EmployeeRepositoryCustom {
@@ -27,12 +37,63 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer>, Em
          */
         Optional<Employee> findByPayRollId(String payrollId);
 
+        /** The employee with what the HR campus info card shows, in one statement. */
+        @EntityGraph(FetchGraphs.EMPLOYEE_CAMPUS_INFO)
+        @Query("SELECT e FROM Employee e WHERE e.emp_id = :empId")
+        Optional<Employee> findWithCampusInfoById(@Param("empId") int empId);
+
+        // Identity lookups for EmployeeIdResolver: ids only, no entity load
+        @Query("SELECT e.emp_id AS empId, e.payRollId AS payrollId, e.tempPayrollId AS tempPayrollId "
+                        + "FROM Employee e WHERE e.payRollId IS NOT NULL OR e.tempPayrollId IS NOT NULL")
+        List<EmployeeIdentityProjection> findAllIdentities();
+
+        @Query("SELECT e.emp_id AS empId, e.payRollId AS payrollId, e.tempPayrollId AS tempPayrollId "
+                        + "FROM Employee e WHERE e.payRollId = :payrollId")
+        Optional<EmployeeIdentityProjection> findIdentityByPayrollId(@Param("payrollId") String payrollId);
+
+        @Query("SELECT e.emp_id AS empId, e.payRollId AS payrollId, e.tempPayrollId AS tempPayrollId "
+                        + "FROM Employee e WHERE e.tempPayrollId = :tempPayrollId")
+        Optional<EmployeeIdentityProjection> findIdentityByTempPayrollId(@Param("tempPayrollId") String tempPayrollId);
+
         /**
          * Finds all employees by their active status.
          */
         @Query("SELECT e FROM Employee e WHERE e.is_active = :status")
         List<Employee> findByIsActive(@Param("status") int status);
 
+        /**
+         * Streams (id, "first last") pairs for the employee dropdowns without
+         * materializing Employee entities. Must be consumed inside a transaction.
+         */
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+        @Query("SELECT new com.employee.dto.GenericDropdownDTO(e.emp_id, "
+                        + "CONCAT(COALESCE(e.first_name, ''), ' ', COALESCE(e.last_name, ''))) "
+                        + "FROM Employee e WHERE e.is_active = :status ORDER BY e.emp_id")
+        Stream<GenericDropdownDTO> streamDropdownByIsActive(@Param("status") int status);
+
+        /**
+         * One page of (id, "first last") pairs ordered by emp_id.
+         * Returns a Slice so no COUNT query is issued.
+         */
+        @Query("SELECT new com.employee.dto.GenericDropdownDTO(e.emp_id, "
+                        + "CONCAT(COALESCE(e.first_name, ''), ' ', COALESCE(e.last_name, ''))) "
+                        + "FROM Employee e WHERE e.is_active = :status ORDER BY e.emp_id")
+        Slice<GenericDropdownDTO> findDropdownByIsActive(@Param("status") int status, Pageable pageable);
+
+        /**
+         * Same as {@link #findDropdownByIsActive} but restricted to employees whose
+         * full name starts with the given (lower-cased) prefix.
+         */
+        @Query("SELECT new com.employee.dto.GenericDropdownDTO(e.emp_id, "
+                        + "CONCAT(COALESCE(e.first_name, ''), ' ', COALESCE(e.last_name, ''))) "
+                        + "FROM Employee e WHERE e.is_active = :status "
+                        + "AND LOWER(CONCAT(COALESCE(e.first_name, ''), ' ', COALESCE(e.last_name, ''))) LIKE CONCAT(:prefix, '%') "
+                        + "ORDER BY e.emp_id")
+        Slice<GenericDropdownDTO> findDropdownByIsActiveAndNamePrefix(@Param("status") int status,
+                        @Param("prefix") String prefix, Pageable pageable);
+
         @Query("SELECT e FROM Employee e "
                         + "LEFT JOIN FETCH e.campus_id c "
                         + "LEFT JOIN FETCH c.city "
@@ -139,140 +200,8 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer>, Em
                         + "WHERE et.emp_type_id = :employeeTypeId AND e.is_active = 1")
         List<Employee> findByEmployeeTypeId(@Param("employeeTypeId") Integer employeeTypeId);
 
-        @Query("""
-                        SELECT new com.employee.dto.FullBasicInfoDto(
-                            e.emp_id,
-                            e.tempPayrollId,
-                            e.payRollId,
-                            e.first_name,
-                            e.last_name,
-                            e.date_of_join,
-                            e.age,
-                            e.primary_mobile_no,
-                            e.secondary_mobile_no,
-                            e.email,
-
-                            g.gender_id,
-                            g.genderName,
-
-                            et.emp_type_id,
-                            et.emp_type,
-
-                            d.department_id,
-                            d.department_name,
-
-                            des.designation_id,
-                            des.designation_name,
-
-                            c.category_id,
-                            c.category_name,
-
-                            q.qualification_id,
-                            q.qualification_name,
-
-                            wm.emp_work_mode_id,
-                            wm.work_mode_type,
-
-                            cm.campusId,
-                            cm.campusName,
-                            cm.cmps_code,
-                            cm.cmps_type,
-
-
-                            b.buildingId,
-                            b.buildingName,
-
-                            m.emp_id,
-                            concat(m.first_name, ' ', m.last_name),
-
-                            ed.adhaar_name,
-                            ed.adhaar_no,
-                            ed.pancard_no,
-                            ed.date_of_birth,
-                            ed.personal_email,
-                            ed.emergency_ph_no,
-                            ed.fatherName,
-                            ed.uanNo,
-
-                            bg.bloodGroupId,
-                            bg.bloodGroupName,
-
-                            cs.caste_id,
-                            cs.caste_type,
-
-                            r.religion_id,
-                            r.religion_type,
-
-                            ms.marital_status_id,
-                            ms.marital_status_type,
-
-                            rel.studentRelationId,
-                            rel.studentRelationType,
-
-                            mh.mode_of_hiring_id,
-                            mh.mode_of_hiring_name,
-
-                            j.join_type_id,
-                            j.join_type,
-
-                            ed.adhaar_enrolment_no,
-                            e.ssc_no,
-
-                            ref.emp_id,
-                            concat(ref.first_name, ' ', ref.last_name),
-
-                            hired.emp_id,
-                            concat(hired.first_name, ' ', hired.last_name),
-
-                            rm.emp_id,
-                            concat(rm.first_name, ' ', rm.last_name),
-
-                            rep.emp_id,
-                            concat(rep.first_name, ' ', rep.last_name),
-
-                            e.total_experience,
-                            epd.pre_esi_no,
-                            e.contract_start_date,
-                            e.contract_end_date,
-                            eth.emp_type_hiring_id,
-                            eth.emp_type_hiring_name
-                        )
-                        FROM Employee e
-                        LEFT JOIN EmpDetails ed ON ed.employee_id.emp_id = e.emp_id AND ed.is_active = 1
-                        LEFT JOIN EmpPfDetails epd ON epd.employee_id.emp_id = e.emp_id AND epd.is_active = 1
-                        LEFT JOIN e.gender g
-                        LEFT JOIN e.employee_type_id et
-                        LEFT JOIN e.department d
-                        LEFT JOIN e.designation des
-                        LEFT JOIN e.category c
-                        LEFT JOIN e.qualification_id q
-                        LEFT JOIN e.workingMode_id wm
-                        LEFT JOIN e.campus_id cm
-                        LEFT JOIN e.building_id b
-                        LEFT JOIN e.modeOfHiring_id mh
-                        LEFT JOIN e.join_type_id j
-                        LEFT JOIN e.employee_manager_id m
-
-                        LEFT JOIN e.employee_reference ref
-                        LEFT JOIN e.employee_hired hired
-                        LEFT JOIN e.employee_reporting_id rm
-                        LEFT JOIN e.employee_replaceby_id rep
-                        LEFT JOIN e.employee_type_hiring_id eth
-
-                        LEFT JOIN ed.bloodGroup_id bg
-                        LEFT JOIN ed.caste_id cs
-                        LEFT JOIN ed.religion_id r
-                        LEFT JOIN ed.marital_status_id ms
-                        LEFT JOIN ed.relation_id rel
-                        WHERE e.tempPayrollId = :tempPayrollId
-                        """)
-        Optional<FullBasicInfoDto> findFullEmployeeDetailsByTempPayrollId(
-                        @Param("tempPayrollId") String tempPayrollId);
-
-        @Query("SELECT e FROM Employee e " +
-                        "LEFT JOIN FETCH e.employee_manager_id " +
-                        "LEFT JOIN FETCH e.employee_reporting_id " +
-                        "WHERE e.payRollId IN :payrollIds OR e.tempPayrollId IN :payrollIds")
+        @EntityGraph(FetchGraphs.EMPLOYEE_CAMPUS_ADDRESS)
+        @Query("SELECT e FROM Employee e WHERE e.payRollId IN :payrollIds OR e.tempPayrollId IN :payrollIds")
         List<Employee> findAllByPayRollIdInOrTempPayrollIdIn(@Param("payrollIds") List<String> payrollIds);
 
         @Query("SELECT COUNT(e) > 0 FROM Employee e WHERE e.ssc_no = :sscNo")
@@ -290,6 +219,10 @@ public interface EmployeeRepository extends JpaRepository<Employee, Integer>, Em
         @Query(value = "SELECT role_name FROM sce_admin.sce_user_admin WHERE emp_id = :empId LIMIT 1", nativeQuery = true)
         List<String> findRoleNameByEmpId(@Param("empId") Integer empId);
 
+        /** Admin role name of each of the employees, for batch reads ([emp_id, role_name] rows). */
+        @Query(value = "SELECT emp_id, role_name FROM sce_admin.sce_user_admin WHERE emp_id IN (:empIds)", nativeQuery = true)
+        List<Object[]> findRoleNamesByEmpIds(@Param("empIds") Collection<Integer> empIds);
+
         @Query("SELECT COUNT(e) > 0 FROM Employee e WHERE e.email = :email")
         boolean existsByEmail(@Param("email") String email);
 
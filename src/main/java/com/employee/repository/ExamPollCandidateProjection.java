@@ -0,0 +1,13 @@
+package com.employee.repository;
+
+/**
+ * Skill test candidate that is due for an exam-result poll, with its current
+ * count of consecutive "not attempted" (HTTP 422) answers.
+ */
+public interface ExamPollCandidateProjection {
+    Integer getSkillTestDetlId();
+
+    String getTempPayrollId();
+
+    Integer getConsecutiveNotAttempted();
+}
@@ -0,0 +1,117 @@
+package com.employee.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.employee.entity.ExamSyncOutbox;
+
+@Repository
+public interface ExamSyncOutboxRepository extends JpaRepository<ExamSyncOutbox, Long> {
+
+        /**
+         * Queues a push for a candidate inside the caller's transaction. If one is
+         * already pending it is collapsed into that row and made due now.
+         */
+        @Modifying
+        @Transactional
+        @Query(value = "INSERT INTO sce_employee.sce_exam_sync_outbox "
+                        + "(temp_payroll_id, skill_test_detl_id, status, attempts, next_attempt_at, created_date, updated_date) "
+                        + "VALUES (:tempPayrollId, :skillTestDetlId, 'PENDING', 0, now(), now(), now()) "
+                        + "ON CONFLICT (temp_payroll_id) WHERE status = 'PENDING' "
+                        + "DO UPDATE SET next_attempt_at = now(), updated_date = now()", nativeQuery = true)
+        int enqueue(@Param("tempPayrollId") String tempPayrollId, @Param("skillTestDetlId") Integer skillTestDetlId);
+
+        /**
+         * Claims up to batchSize due rows for this node, oldest first, and leases
+         * them until now + leaseSeconds. Only the oldest open row of a candidate can
+         * be claimed, so pushes for one temp payroll ID never overtake each other or
+         * run on two nodes at once. A SENDING row whose lease expired (node died) is
+         * claimed again. Must run in a transaction.
+         */
+        @Query(value = "WITH next AS ("
+                        + "SELECT o.outbox_id FROM sce_employee.sce_exam_sync_outbox o "
+                        + "WHERE ((o.status = 'PENDING' AND o.next_attempt_at <= now()) "
+                        + "OR (o.status = 'SENDING' AND o.locked_until < now())) "
+                        + "AND NOT EXISTS (SELECT 1 FROM sce_employee.sce_exam_sync_outbox e "
+                        + "WHERE e.temp_payroll_id = o.temp_payroll_id AND e.outbox_id < o.outbox_id "
+                        + "AND e.status IN ('PENDING', 'SENDING')) "
+                        + "ORDER BY o.outbox_id LIMIT :batchSize FOR UPDATE SKIP LOCKED), "
+                        + "claimed AS (UPDATE sce_employee.sce_exam_sync_outbox o "
+                        + "SET status = 'SENDING', attempts = o.attempts + 1, "
+                        + "locked_until = now() + make_interval(secs => :leaseSeconds), updated_date = now() "
+                        + "FROM next WHERE o.outbox_id = next.outbox_id RETURNING o.*) "
+                        + "SELECT * FROM claimed ORDER BY outbox_id", nativeQuery = true)
+        List<ExamSyncOutbox> claimBatch(@Param("batchSize") int batchSize, @Param("leaseSeconds") int leaseSeconds);
+
+        @Modifying
+        @Transactional
+        @Query("UPDATE ExamSyncOutbox o SET o.status = 'SENT', o.sentDate = :now, o.lockedUntil = null, "
+                        + "o.lastError = null, o.updatedDate = :now WHERE o.outboxId = :id")
+        int markSent(@Param("id") Long outboxId, @Param("now") LocalDateTime now);
+
+        /**
+         * Puts a claimed row back in the queue, due at nextAttemptAt. When
+         * countAttempt is false the claim's attempt is given back (no call was
+         * made). Returns 0 if the candidate was queued again meanwhile; that newer
+         * row supersedes this one, since the payload is built at delivery time.
+         */
+        @Modifying
+        @Transactional
+        @Query(value = "UPDATE sce_employee.sce_exam_sync_outbox r SET status = 'PENDING', "
+                        + "attempts = CASE WHEN :countAttempt THEN r.attempts ELSE r.attempts - 1 END, "
+                        + "next_attempt_at = :nextAttemptAt, locked_until = NULL, "
+                        + "last_error = COALESCE(CAST(:error AS VARCHAR), r.last_error), updated_date = now() "
+                        + "WHERE r.outbox_id = :id AND NOT EXISTS (SELECT 1 FROM sce_employee.sce_exam_sync_outbox p "
+                        + "WHERE p.temp_payroll_id = r.temp_payroll_id AND p.status = 'PENDING')", nativeQuery = true)
+        int requeue(@Param("id") Long outboxId, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                        @Param("error") String error, @Param("countAttempt") boolean countAttempt);
+
+        @Modifying
+        @Transactional
+        @Query("UPDATE ExamSyncOutbox o SET o.status = 'FAILED', o.lockedUntil = null, o.lastError = :error, "
+                        + "o.updatedDate = :now WHERE o.outboxId = :id")
+        int markFailed(@Param("id") Long outboxId, @Param("error") String error, @Param("now") LocalDateTime now);
+
+        /**
+         * Drops given-up rows of candidates that were queued again later; the newer
+         * row delivers (or delivered) the current data.
+         */
+        @Modifying
+        @Transactional
+        @Query(value = "DELETE FROM sce_employee.sce_exam_sync_outbox f WHERE f.status = 'FAILED' "
+                        + "AND EXISTS (SELECT 1 FROM sce_employee.sce_exam_sync_outbox n "
+                        + "WHERE n.temp_payroll_id = f.temp_payroll_id AND n.outbox_id > f.outbox_id)", nativeQuery = true)
+        int deleteSupersededFailed();
+
+        /** Puts given-up pushes back in the queue, skipping candidates that already have an open row. */
+        @Modifying
+        @Transactional
+        @Query(value = "UPDATE sce_employee.sce_exam_sync_outbox f SET status = 'PENDING', attempts = 0, "
+                        + "next_attempt_at = now(), updated_date = now() "
+                        + "WHERE f.status = 'FAILED' AND NOT EXISTS (SELECT 1 FROM sce_employee.sce_exam_sync_outbox o "
+                        + "WHERE o.temp_payroll_id = f.temp_payroll_id AND o.status IN ('PENDING', 'SENDING'))",
+                        nativeQuery = true)
+        int requeueFailed();
+
+        /**
+         * Deletes up to batchSize pushes delivered before the cutoff, oldest first,
+         * skipping rows another node is deleting. Returns the number deleted.
+         */
+        @Modifying
+        @Transactional
+        @Query(value = "DELETE FROM sce_employee.sce_exam_sync_outbox WHERE outbox_id IN ("
+                        + "SELECT outbox_id FROM sce_employee.sce_exam_sync_outbox "
+                        + "WHERE status = 'SENT' AND sent_date < :cutoff "
+                        + "ORDER BY sent_date LIMIT :batchSize FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+        int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+        @Query("SELECT o.status, COUNT(o) FROM ExamSyncOutbox o WHERE o.status <> 'SENT' GROUP BY o.status")
+        List<Object[]> countOpenByStatus();
+}
@@ -1,5 +1,6 @@
 package com.employee.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,4 +16,7 @@ public interface RoleRepository extends JpaRepository<Role, Integer> {
 
     // Find role by name
     Role findByRoleName(String roleName);
+
+    // Find roles by name, for batch reads
+    List<Role> findByRoleNameIn(Collection<String> roleNames);
 }
@@ -0,0 +1,54 @@
+package com.employee.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.employee.entity.SchedulerLease;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+        /**
+         * Takes the lease for leaseSeconds if it is free (expired) or already held
+         * by this owner. Returns 1 if this owner now holds it, 0 otherwise.
+         * acquired_at is kept when this owner still holds an unexpired lease, so
+         * the min-hold window of a release counts from the original acquisition.
+         */
+        @Modifying
+        @Transactional
+        @Query(value = "INSERT INTO sce_employee.sce_scheduler_lease (job_name, owner, acquired_at, locked_until) "
+                        + "VALUES (:jobName, :owner, now(), now() + make_interval(secs => :leaseSeconds)) "
+                        + "ON CONFLICT (job_name) DO UPDATE SET owner = EXCLUDED.owner, "
+                        + "acquired_at = CASE WHEN sce_scheduler_lease.owner = EXCLUDED.owner "
+                        + "AND sce_scheduler_lease.locked_until >= now() THEN sce_scheduler_lease.acquired_at "
+                        + "ELSE EXCLUDED.acquired_at END, locked_until = EXCLUDED.locked_until "
+                        + "WHERE sce_scheduler_lease.locked_until < now() OR sce_scheduler_lease.owner = EXCLUDED.owner",
+                        nativeQuery = true)
+        int tryAcquire(@Param("jobName") String jobName, @Param("owner") String owner,
+                        @Param("leaseSeconds") int leaseSeconds);
+
+        /** Extends a lease this owner holds. Returns 0 if it was lost. */
+        @Modifying
+        @Transactional
+        @Query(value = "UPDATE sce_employee.sce_scheduler_lease SET locked_until = now() + make_interval(secs => :leaseSeconds) "
+                        + "WHERE job_name = :jobName AND owner = :owner", nativeQuery = true)
+        int renew(@Param("jobName") String jobName, @Param("owner") String owner,
+                        @Param("leaseSeconds") int leaseSeconds);
+
+        /**
+         * Ends this owner's lease, but not before minHoldSeconds after it was taken,
+         * so a node whose trigger fires a little later does not run the same
+         * occurrence again.
+         */
+        @Modifying
+        @Transactional
+        @Query(value = "UPDATE sce_employee.sce_scheduler_lease "
+                        + "SET locked_until = GREATEST(now(), acquired_at + make_interval(secs => :minHoldSeconds)) "
+                        + "WHERE job_name = :jobName AND owner = :owner", nativeQuery = true)
+        int release(@Param("jobName") String jobName, @Param("owner") String owner,
+                        @Param("minHoldSeconds") int minHoldSeconds);
+}
@@ -0,0 +1,25 @@
+package com.employee.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.employee.entity.SchedulerRun;
+
+@Repository
+public interface SchedulerRunRepository extends JpaRepository<SchedulerRun, Long> {
+
+        List<SchedulerRun> findTop50ByOrderByStartedAtDesc();
+
+        /** Closes runs of other nodes that lost the job's lease without finishing (node died). */
+        @Modifying
+        @Transactional
+        @Query("UPDATE SchedulerRun r SET r.outcome = 'ABANDONED', r.message = 'lease expired before the run finished' "
+                        + "WHERE r.jobName = :jobName AND r.outcome = 'RUNNING' AND r.node <> :node")
+        int abandonStaleRuns(@Param("jobName") String jobName, @Param("node") String node);
+}
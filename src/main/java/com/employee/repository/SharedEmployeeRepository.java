@@ -1,5 +1,6 @@
 package com.employee.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,15 @@ public interface SharedEmployeeRepository extends JpaRepository<SharedEmployee,
 	@Query("SELECT se FROM SharedEmployee se WHERE se.empId.emp_id = :empId AND se.isActive = 1")
 	List<SharedEmployee> findActiveByEmpId(@Param("empId") Integer empId);
 
+	/**
+	 * Active shared employee records of several employees, with campus, subject
+	 * and designation, in one query
+	 */
+	@Query("SELECT se FROM SharedEmployee se JOIN FETCH se.cmpsId LEFT JOIN FETCH se.subjectId "
+			+ "LEFT JOIN FETCH se.designationId WHERE se.empId.emp_id IN :empIds AND se.isActive = 1 "
+			+ "ORDER BY se.sharedEmployeeId")
+	List<SharedEmployee> findActiveByEmpIdIn(@Param("empIds") Collection<Integer> empIds);
+
 	/**
 	 * Find shared employee record by employee ID and campus ID
 	 */
@@ -0,0 +1,39 @@
+package com.employee.repository;
+
+import java.time.LocalDate;
+
+/**
+ * One row of the skill test approval table: an active result with its
+ * candidate's details and approval status, read in a single query.
+ */
+public interface SkillTestApprovalRowProjection {
+    Integer getSkillTestResultId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getTempPayrollId();
+
+    String getPreviousChaitanyaId();
+
+    LocalDate getJoinDate();
+
+    String getCityName();
+
+    String getCampusName();
+
+    String getEmployeePayrollId();
+
+    String getStatusName();
+
+    Long getContactNumber();
+
+    Double getTotalExperience();
+
+    String getGenderName();
+
+    Integer getSubjectId();
+
+    String getSubjectName();
+}
@@ -2,11 +2,16 @@ package com.employee.repository;
 
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import com.employee.entity.SkillTestDetails;
 import com.employee.dto.SkillTestDashboardDto;
@@ -37,9 +42,33 @@ public interface SkillTestDetailsRepository extends JpaRepository<SkillTestDetai
                         "ORDER BY LENGTH(temp_payroll_id) DESC, temp_payroll_id DESC LIMIT 1", nativeQuery = true)
         String findMaxTempPayrollIdByKey(@Param("keyPrefix") String keyPrefix);
 
+        /**
+         * Highest numeric suffix per "TEMP" + campus code, over skill test details and
+         * employees, in one pass. Every split of the digits after "TEMP" is matched
+         * against the campus codes with an equality join, so the result matches the
+         * per-campus LIKE 'TEMP<code>%' scans without running one scan per campus.
+         */
+        @Query(value = "SELECT 'TEMP' || c.code AS baseKey, "
+                        + "MAX(CAST(SUBSTRING(t.digits FROM k + 1) AS BIGINT)) AS maxSuffix "
+                        + "FROM (SELECT SUBSTRING(temp_payroll_id FROM 5) AS digits "
+                        + "      FROM sce_employee.sce_skill_test_detl WHERE temp_payroll_id ~ '^TEMP[0-9]+$' "
+                        + "      UNION ALL "
+                        + "      SELECT SUBSTRING(temp_payroll_id FROM 5) "
+                        + "      FROM sce_employee.sce_emp WHERE temp_payroll_id ~ '^TEMP[0-9]+$') t "
+                        + "CROSS JOIN LATERAL generate_series(1, LEAST(LENGTH(t.digits) - 1, 9)) AS k "
+                        + "JOIN sce_campus.sce_cmps c ON CAST(c.code AS TEXT) = SUBSTRING(t.digits FROM 1 FOR k) "
+                        + "WHERE c.code IS NOT NULL AND LENGTH(t.digits) - k <= 9 "
+                        + "GROUP BY c.code", nativeQuery = true)
+        List<TempPayrollSequenceProjection> findMaxTempPayrollSuffixPerCampus();
+
         @Query("SELECT std FROM SkillTestDetails std WHERE std.tempPayrollId = :tempPayrollId")
         Optional<SkillTestDetails> findByTempPayrollId(@Param("tempPayrollId") String tempPayrollId);
 
+        // Row locks in key order serialize concurrent result writers (webhook vs. harvest) per candidate
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT std FROM SkillTestDetails std WHERE std.tempPayrollId IN :tempPayrollIds ORDER BY std.skillTestDetlId")
+        List<SkillTestDetails> lockByTempPayrollIdIn(@Param("tempPayrollIds") Collection<String> tempPayrollIds);
+
         // FIX: Changed aadhaarNo from String to Long
         @Query("SELECT std FROM SkillTestDetails std WHERE std.aadhaar_no = :aadhaarNo AND std.contact_number = :contactNumber")
         Optional<SkillTestDetails> findByAadhaarNoAndContactNumber(
@@ -73,4 +102,27 @@ public interface SkillTestDetailsRepository extends JpaRepository<SkillTestDetai
         List<SkillTestDetails> findByIsActive(Integer isActive);
 
         List<SkillTestDetails> findByIsActiveAndCampusCategory(Integer isActive, String campusCategory);
+
+        /**
+         * Active candidates after the cursor (skillTestDetlId), in key order, with
+         * the list's display columns joined in. Null filters are ignored; statusId
+         * matches the approval status of the candidate's active result.
+         */
+        @Query("SELECT d.skillTestDetlId AS skillTestDetlId, d.firstName AS firstName, d.lastName AS lastName, "
+                        + "d.tempPayrollId AS tempPayrollId, d.previous_chaitanya_id AS previousChaitanyaId, "
+                        + "e.payRollId AS employeePayrollId, d.createdDate AS createdDate, c.cityName AS cityName, "
+                        + "cp.campusName AS campusName, g.genderName AS genderName, s.subject_id AS subjectId, "
+                        + "s.subject_name AS subjectName, d.campusCategory AS campusCategory "
+                        + "FROM SkillTestDetails d LEFT JOIN d.empId e LEFT JOIN d.city c LEFT JOIN d.campus cp "
+                        + "LEFT JOIN d.gender g LEFT JOIN d.subject s "
+                        + "WHERE d.isActive = 1 "
+                        + "AND (:afterId IS NULL OR d.skillTestDetlId > :afterId) "
+                        + "AND (:campusCategory IS NULL OR d.campusCategory = :campusCategory) "
+                        + "AND (:cityId IS NULL OR c.cityId = :cityId) "
+                        + "AND (:statusId IS NULL OR EXISTS (SELECT 1 FROM SkillTestResult r WHERE r.skillTestDetlId = d "
+                        + "AND r.isActive = 1 AND r.skillTestApprovalStatus.skillTestApprovalStatusId = :statusId)) "
+                        + "ORDER BY d.skillTestDetlId")
+        List<SkillTestListRowProjection> findListRows(@Param("afterId") Integer afterId,
+                        @Param("campusCategory") String campusCategory, @Param("cityId") Integer cityId,
+                        @Param("statusId") Integer statusId, Limit limit);
 }
\ No newline at end of file
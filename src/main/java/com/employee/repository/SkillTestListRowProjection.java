@@ -0,0 +1,35 @@
+package com.employee.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the skill test candidate list, read in a single query with the
+ * city, campus, gender, subject and employee names already joined.
+ */
+public interface SkillTestListRowProjection {
+    Integer getSkillTestDetlId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getTempPayrollId();
+
+    String getPreviousChaitanyaId();
+
+    String getEmployeePayrollId();
+
+    LocalDateTime getCreatedDate();
+
+    String getCityName();
+
+    String getCampusName();
+
+    String getGenderName();
+
+    Integer getSubjectId();
+
+    String getSubjectName();
+
+    String getCampusCategory();
+}
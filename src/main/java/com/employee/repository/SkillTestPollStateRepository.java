@@ -0,0 +1,61 @@
+package com.employee.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.employee.entity.SkillTestPollState;
+
+@Repository
+public interface SkillTestPollStateRepository extends JpaRepository<SkillTestPollState, Integer> {
+
+        /**
+         * Active candidates without an active result whose next poll is due.
+         * Candidates pushed to the exam platform most recently come first, then
+         * the ones that have waited longest; never-polled candidates are always due.
+         */
+        @Query(value = "SELECT std.skill_test_detl_id AS skillTestDetlId, std.temp_payroll_id AS tempPayrollId, "
+                        + "COALESCE(ps.consecutive_not_attempted, 0) AS consecutiveNotAttempted "
+                        + "FROM sce_employee.sce_skill_test_detl std "
+                        + "LEFT JOIN sce_employee.sce_skill_test_poll_state ps "
+                        + "ON ps.skill_test_detl_id = std.skill_test_detl_id "
+                        + "WHERE std.is_active = 1 AND std.temp_payroll_id IS NOT NULL AND std.temp_payroll_id <> '' "
+                        + "AND NOT EXISTS (SELECT 1 FROM sce_employee.sce_skill_test_result str "
+                        + "WHERE str.skill_test_detl_id = std.skill_test_detl_id AND str.is_active = 1) "
+                        + "AND (ps.next_eligible_at IS NULL OR ps.next_eligible_at <= :now) "
+                        + "ORDER BY ps.last_synced_at DESC NULLS LAST, ps.next_eligible_at ASC NULLS FIRST", nativeQuery = true)
+        List<ExamPollCandidateProjection> findDueForPoll(@Param("now") LocalDateTime now);
+
+        /** Records the outcome of one poll, creating the row on first poll. */
+        @Modifying
+        @Transactional
+        @Query(value = "INSERT INTO sce_employee.sce_skill_test_poll_state "
+                        + "(skill_test_detl_id, last_polled_at, consecutive_not_attempted, next_eligible_at, updated_date) "
+                        + "VALUES (:id, :polledAt, :notAttempted, :nextEligibleAt, now()) "
+                        + "ON CONFLICT (skill_test_detl_id) DO UPDATE SET last_polled_at = EXCLUDED.last_polled_at, "
+                        + "consecutive_not_attempted = EXCLUDED.consecutive_not_attempted, "
+                        + "next_eligible_at = EXCLUDED.next_eligible_at, updated_date = now()", nativeQuery = true)
+        int recordPoll(@Param("id") Integer skillTestDetlId, @Param("polledAt") LocalDateTime polledAt,
+                        @Param("notAttempted") int consecutiveNotAttempted,
+                        @Param("nextEligibleAt") LocalDateTime nextEligibleAt);
+
+        /**
+         * Marks a candidate as just pushed to the exam platform: resets the backoff
+         * so the next run polls it, ahead of the others.
+         */
+        @Modifying
+        @Transactional
+        @Query(value = "INSERT INTO sce_employee.sce_skill_test_poll_state "
+                        + "(skill_test_detl_id, consecutive_not_attempted, last_synced_at, updated_date) "
+                        + "VALUES (:id, 0, :syncedAt, now()) "
+                        + "ON CONFLICT (skill_test_detl_id) DO UPDATE SET consecutive_not_attempted = 0, "
+                        + "next_eligible_at = NULL, last_synced_at = EXCLUDED.last_synced_at, updated_date = now()",
+                        nativeQuery = true)
+        int recordSync(@Param("id") Integer skillTestDetlId, @Param("syncedAt") LocalDateTime syncedAt);
+}
@@ -31,6 +31,29 @@ public interface SkillTestResultRepository extends JpaRepository<SkillTestResult
         @Query("SELECT r from  SkillTestResult r JOIN FETCH r.skillTestDetlId d LEFT JOIN FETCH r.skillTestApprovalStatus WHERE r.isActive = 1")
         List<SkillTestResult> findTestResultsWithIds();
 
+        /**
+         * Active results after the cursor (skillTestResultId), in key order, with the
+         * approval table's display columns joined in. Null filters are ignored.
+         */
+        @Query("SELECT r.skillTestResultId AS skillTestResultId, d.firstName AS firstName, d.lastName AS lastName, "
+                        + "d.tempPayrollId AS tempPayrollId, d.previous_chaitanya_id AS previousChaitanyaId, "
+                        + "d.joinDate AS joinDate, c.cityName AS cityName, cp.campusName AS campusName, "
+                        + "e.payRollId AS employeePayrollId, st.statusName AS statusName, d.contact_number AS contactNumber, "
+                        + "d.totalExperience AS totalExperience, g.genderName AS genderName, s.subject_id AS subjectId, "
+                        + "s.subject_name AS subjectName "
+                        + "FROM SkillTestResult r JOIN r.skillTestDetlId d LEFT JOIN d.empId e LEFT JOIN d.city c "
+                        + "LEFT JOIN d.campus cp LEFT JOIN r.skillTestApprovalStatus st LEFT JOIN d.gender g "
+                        + "LEFT JOIN d.subject s "
+                        + "WHERE r.isActive = 1 "
+                        + "AND (:afterId IS NULL OR r.skillTestResultId > :afterId) "
+                        + "AND (:campusCategory IS NULL OR d.campusCategory = :campusCategory) "
+                        + "AND (:cityId IS NULL OR c.cityId = :cityId) "
+                        + "AND (:statusId IS NULL OR st.skillTestApprovalStatusId = :statusId) "
+                        + "ORDER BY r.skillTestResultId")
+        List<SkillTestApprovalRowProjection> findApprovalRows(@Param("afterId") Integer afterId,
+                        @Param("campusCategory") String campusCategory, @Param("cityId") Integer cityId,
+                        @Param("statusId") Integer statusId, org.springframework.data.domain.Limit limit);
+
         // Find active results for a specific employee
         List<SkillTestResult> findBySkillTestDetlIdAndIsActive(com.employee.entity.SkillTestDetails skillTestDetlId,
                         int isActive);
@@ -38,6 +61,25 @@ public interface SkillTestResultRepository extends JpaRepository<SkillTestResult
         @Query("SELECT r FROM SkillTestResult r WHERE r.skillTestDetlId.tempPayrollId = :payrollId AND r.isActive = 1 ORDER BY r.examDate DESC LIMIT 1")
         java.util.Optional<SkillTestResult> findLatestActiveByPayrollId(@Param("payrollId") String payrollId);
 
+        // (tempPayrollId, examDate) of the active results of the given candidates
+        @Query("SELECT DISTINCT r.skillTestDetlId.tempPayrollId, r.examDate FROM SkillTestResult r WHERE r.skillTestDetlId.tempPayrollId IN :payrollIds AND r.isActive = 1")
+        List<Object[]> findActiveResultKeys(@Param("payrollIds") java.util.Collection<String> payrollIds);
+
         @Query("SELECT r FROM SkillTestResult r WHERE r.skillTestDetlId.tempPayrollId = :tempPayrollId AND r.isActive = 1 ORDER BY r.examDate DESC")
         List<SkillTestResult> findActiveByTempPayrollId(@Param("tempPayrollId") String tempPayrollId);
+
+        // (skillTestResultId, tempPayrollId, examDate) of the active results of the given candidates, latest first
+        @Query("SELECT r.skillTestResultId, d.tempPayrollId, r.examDate FROM SkillTestResult r JOIN r.skillTestDetlId d "
+                        + "WHERE d.tempPayrollId IN :payrollIds AND r.isActive = 1 "
+                        + "ORDER BY d.tempPayrollId, r.examDate DESC, r.skillTestResultId DESC")
+        List<Object[]> findActiveResultIdsByPayrollIds(@Param("payrollIds") java.util.Collection<String> payrollIds);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @org.springframework.transaction.annotation.Transactional
+        @Query("UPDATE SkillTestResult r SET r.skillTestApprovalStatus = :status, r.isActive = 1, "
+                        + "r.updatedBy = :updatedBy, r.updatedDate = :updatedDate WHERE r.skillTestResultId IN :resultIds")
+        int updateApprovalStatus(@Param("resultIds") java.util.Collection<Integer> resultIds,
+                        @Param("status") com.employee.entity.SkillTestApprovalStatus status,
+                        @Param("updatedBy") Integer updatedBy,
+                        @Param("updatedDate") java.time.LocalDateTime updatedDate);
 }
\ No newline at end of file
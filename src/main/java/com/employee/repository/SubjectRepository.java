@@ -2,6 +2,8 @@ package com.employee.repository;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.employee.entity.Subject;
 
 public interface SubjectRepository extends JpaRepository<Subject, Integer> {
@@ -12,4 +14,8 @@ public interface SubjectRepository extends JpaRepository<Subject, Integer> {
 			Integer empSubject, Integer isActive);
 
 	List<Subject> findBySubjectCategory_BusinessTypeIdAndIsActive(Integer subjectCategoryId, Integer isActive);
+
+	// Subjects with their category, used to build OrgStructureIndex
+	@Query("SELECT s FROM Subject s LEFT JOIN FETCH s.subjectCategory WHERE s.isActive = :isActive")
+	List<Subject> findActiveWithCategory(@Param("isActive") Integer isActive);
 }
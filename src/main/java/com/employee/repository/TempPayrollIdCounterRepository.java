@@ -0,0 +1,48 @@
+package com.employee.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.employee.entity.TempPayrollIdCounter;
+
+@Repository
+public interface TempPayrollIdCounterRepository extends JpaRepository<TempPayrollIdCounter, String> {
+
+        /**
+         * Reserves the next blockSize suffixes for the caller by moving the counter
+         * forward under the row lock. Returns the new next_value (the reserved block
+         * is [result - blockSize, result - 1]) or null if the row does not exist yet.
+         */
+        @Query(value = "WITH reserved AS ("
+                        + "UPDATE sce_employee.sce_temp_payroll_counter "
+                        + "SET next_value = next_value + :blockSize, updated_date = now() "
+                        + "WHERE base_key = :baseKey RETURNING next_value) "
+                        + "SELECT next_value FROM reserved", nativeQuery = true)
+        Integer reserveBlock(@Param("baseKey") String baseKey, @Param("blockSize") int blockSize);
+
+        /**
+         * Creates the counter row, or raises an existing one so that next_value is at
+         * least the given value. Never lowers the counter.
+         */
+        @Modifying
+        @Query(value = "INSERT INTO sce_employee.sce_temp_payroll_counter (base_key, next_value, updated_date) "
+                        + "VALUES (:baseKey, :nextValue, now()) "
+                        + "ON CONFLICT (base_key) DO UPDATE "
+                        + "SET next_value = GREATEST(sce_temp_payroll_counter.next_value, EXCLUDED.next_value), "
+                        + "updated_date = now()", nativeQuery = true)
+        int raiseNextValue(@Param("baseKey") String baseKey, @Param("nextValue") int nextValue);
+
+        /**
+         * Hands an unused block tail back, but only if no other node has reserved
+         * anything since (the counter still equals expectedNextValue).
+         */
+        @Modifying
+        @Query(value = "UPDATE sce_employee.sce_temp_payroll_counter "
+                        + "SET next_value = :unusedFrom, updated_date = now() "
+                        + "WHERE base_key = :baseKey AND next_value = :expectedNextValue", nativeQuery = true)
+        int releaseBlock(@Param("baseKey") String baseKey, @Param("unusedFrom") int unusedFrom,
+                        @Param("expectedNextValue") int expectedNextValue);
+}
@@ -0,0 +1,11 @@
+package com.employee.repository;
+
+/**
+ * Projection for the highest numeric suffix in use per temp payroll ID prefix
+ * ("TEMP" + campus code) across sce_skill_test_detl and sce_emp.
+ */
+public interface TempPayrollSequenceProjection {
+    String getBaseKey();
+
+    Long getMaxSuffix();
+}
@@ -0,0 +1,174 @@
+package com.employee.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.employee.entity.SchedulerRun;
+import com.employee.repository.SchedulerLeaseRepository;
+import com.employee.repository.SchedulerRunRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs a job on exactly one node of the cluster at a time, using a lease row
+ * per job in sce_scheduler_lease.
+ *
+ * Every node's trigger calls {@link #runExclusive}; the first to take the lease
+ * runs the job, the others skip. While the job runs the lease is renewed in the
+ * background; if the node dies the lease expires after lease-seconds and the
+ * next trigger on another node takes over. A released lease stays taken for
+ * min-hold-seconds after it was acquired, so nodes whose cron fires slightly
+ * later do not repeat the same occurrence. Each run that gets the lease is
+ * recorded in sce_scheduler_run (see /actuator/scheduledjobs).
+ */
+@Component
+public class ClusterJobCoordinator {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClusterJobCoordinator.class);
+
+	private static final int MAX_MESSAGE_LENGTH = 500;
+
+	private final SchedulerLeaseRepository leaseRepository;
+	private final SchedulerRunRepository runRepository;
+	private final String nodeId;
+	private final int leaseSeconds;
+	private final int minHoldSeconds;
+
+	private final Set<String> heldJobs = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "job-lease-heartbeat");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public ClusterJobCoordinator(SchedulerLeaseRepository leaseRepository, SchedulerRunRepository runRepository,
+			@Value("${employee.scheduler.node-id:}") String nodeId,
+			@Value("${employee.scheduler.lease-seconds:60}") int leaseSeconds,
+			@Value("${employee.scheduler.min-hold-seconds:300}") int minHoldSeconds) {
+		this.leaseRepository = leaseRepository;
+		this.runRepository = runRepository;
+		// Default: "pid@hostname", unique per process
+		this.nodeId = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+		this.leaseSeconds = Math.max(leaseSeconds, 10);
+		this.minHoldSeconds = Math.max(minHoldSeconds, 0);
+		long renewEvery = Math.max(this.leaseSeconds / 3, 1);
+		heartbeat.scheduleWithFixedDelay(this::renewLeases, renewEvery, renewEvery, TimeUnit.SECONDS);
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * Runs the job if this node gets its lease. Returns the job's result, or
+	 * empty if another node holds the lease or the job is already running on
+	 * this node (e.g. a manual trigger during the cron run); such a nested call
+	 * leaves the running job's lease alone. A null result is recorded as
+	 * SKIPPED (the job declined to run); otherwise items is recorded with the
+	 * run. Exceptions are recorded as FAILED and rethrown.
+	 */
+	public <T> Optional<T> runExclusive(String jobName, Supplier<T> job, ToLongFunction<T> items) {
+		if (!heldJobs.add(jobName)) {
+			logger.info("Job {} is already running on this node, skipping", jobName);
+			return Optional.empty();
+		}
+		if (!tryAcquire(jobName)) {
+			heldJobs.remove(jobName);
+			logger.debug("Job {} is running on another node, skipping", jobName);
+			return Optional.empty();
+		}
+		SchedulerRun run = startRun(jobName);
+		try {
+			T result = job.get();
+			finishRun(run, result == null ? SchedulerRun.SKIPPED : SchedulerRun.SUCCEEDED,
+					result == null ? null : items.applyAsLong(result), null);
+			return Optional.ofNullable(result);
+		} catch (RuntimeException e) {
+			finishRun(run, SchedulerRun.FAILED, null, e.getClass().getSimpleName() + ": " + e.getMessage());
+			throw e;
+		} finally {
+			heldJobs.remove(jobName);
+			try {
+				leaseRepository.release(jobName, nodeId, minHoldSeconds);
+			} catch (Exception e) {
+				logger.warn("Could not release lease of job {} (expires by itself): {}", jobName, e.getMessage());
+			}
+		}
+	}
+
+	private boolean tryAcquire(String jobName) {
+		try {
+			return leaseRepository.tryAcquire(jobName, nodeId, leaseSeconds) == 1;
+		} catch (Exception e) {
+			// Without the lease table no node can prove it is alone: do not run
+			logger.error("Could not acquire lease of job {}: {}", jobName, e.getMessage());
+			return false;
+		}
+	}
+
+	private SchedulerRun startRun(String jobName) {
+		SchedulerRun run = new SchedulerRun();
+		run.setJobName(jobName);
+		run.setNode(nodeId);
+		run.setStartedAt(LocalDateTime.now());
+		run.setOutcome(SchedulerRun.RUNNING);
+		try {
+			int abandoned = runRepository.abandonStaleRuns(jobName, nodeId);
+			if (abandoned > 0) {
+				logger.warn("Job {}: took over from a node that stopped mid-run ({} run(s) abandoned)", jobName,
+						abandoned);
+			}
+			return runRepository.save(run);
+		} catch (Exception e) {
+			logger.warn("Could not record start of job {}: {}", jobName, e.getMessage());
+			return run;
+		}
+	}
+
+	private void finishRun(SchedulerRun run, String outcome, Long items, String message) {
+		run.setFinishedAt(LocalDateTime.now());
+		run.setOutcome(outcome);
+		run.setItems(items);
+		run.setMessage(message != null && message.length() > MAX_MESSAGE_LENGTH
+				? message.substring(0, MAX_MESSAGE_LENGTH)
+				: message);
+		if (run.getRunId() == null) {
+			return; // start was not recorded
+		}
+		try {
+			runRepository.save(run);
+		} catch (Exception e) {
+			logger.warn("Could not record end of job {}: {}", run.getJobName(), e.getMessage());
+		}
+	}
+
+	private void renewLeases() {
+		for (String jobName : heldJobs) {
+			try {
+				if (leaseRepository.renew(jobName, nodeId, leaseSeconds) == 0) {
+					logger.error("Lease of job {} was lost while running; another node may start it", jobName);
+				}
+			} catch (Exception e) {
+				logger.warn("Could not renew lease of job {}: {}", jobName, e.getMessage());
+			}
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		heartbeat.shutdownNow();
+	}
+}
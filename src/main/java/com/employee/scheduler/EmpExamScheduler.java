@@ -1,35 +1,58 @@
 package com.employee.scheduler;
 
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.employee.service.EmpExamIntegrationService;
+import com.employee.service.ExamResultHarvester;
 
 @Component
 public class EmpExamScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(EmpExamScheduler.class);
 
+    /** Lease / run-history name of the exam result harvest. */
+    public static final String RESULT_HARVEST_JOB = "examResultHarvest";
+
     private final EmpExamIntegrationService integrationService;
+    private final ClusterJobCoordinator jobCoordinator;
 
-    public EmpExamScheduler(EmpExamIntegrationService integrationService) {
+    public EmpExamScheduler(EmpExamIntegrationService integrationService, ClusterJobCoordinator jobCoordinator) {
         this.integrationService = integrationService;
+        this.jobCoordinator = jobCoordinator;
     }
 
     /**
      * Scheduled task to fetch exam results for active employees without results.
-     * Cron: "0 0 * * * *" means at minute 0 of every hour.
+     * Results normally arrive through the exam-results webhook; this is the
+     * reconciliation fallback for deliveries the platform missed.
+     * Cron (employee.exam-harvest.cron): every 6 hours by default. Every node
+     * fires, but only the one that gets the cluster lease runs it.
      */
-    @Scheduled(cron = "0 0 * * * *")
+    @Scheduled(cron = "${employee.exam-harvest.cron:0 0 */6 * * *}")
     public void fetchResultsScheduled() {
-        logger.info(">>> Starting Scheduled Exam Result Fetch (every 1 hour) <<<");
         try {
-            integrationService.fetchAllResults();
+            Optional<ExamResultHarvester.Summary> summary = runResultHarvest();
+            summary.ifPresent(s -> logger.info("Exam result fetch summary: {}", s));
         } catch (Exception e) {
             logger.error("Critical error in exam result scheduler: {}", e.getMessage(), e);
         }
-        logger.info(">>> Completed Scheduled Exam Result Fetch <<<");
+    }
+
+    /**
+     * Runs the harvest under the cluster lease (also used by the manual trigger).
+     * Empty if it is already running on this or another node.
+     */
+    public Optional<ExamResultHarvester.Summary> runResultHarvest() {
+        return jobCoordinator.runExclusive(RESULT_HARVEST_JOB, () -> {
+            logger.info(">>> Starting Exam Result Fetch (reconciliation) on {} <<<", jobCoordinator.getNodeId());
+            ExamResultHarvester.Summary summary = integrationService.fetchAllResults();
+            logger.info(">>> Completed Exam Result Fetch <<<");
+            return summary;
+        }, ExamResultHarvester.Summary::requested);
     }
 }
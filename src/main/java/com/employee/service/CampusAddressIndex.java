@@ -0,0 +1,114 @@
+package com.employee.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import com.employee.config.CacheConfig;
+import com.employee.repository.CampusAddressRowProjection;
+import com.employee.repository.CampusRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Cached address and contact of each campus, as shown by the campus address
+ * endpoints: the campus city and the formatted address and mobile number of
+ * its main building (else its first building), taking the building's
+ * "address" record first, else any address record of the building.
+ *
+ * Campuses missing from the cache are loaded together in one query, so
+ * resolving the campuses of a whole batch of employees costs at most one
+ * statement. Entries expire after {@link CacheConfig#CAMPUS_ADDRESS_CACHE}'s
+ * expiry, which bounds how long a building or address edit takes to show.
+ */
+@Service
+public class CampusAddressIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(CampusAddressIndex.class);
+
+	private static final String ADDRESS_TYPE = "address";
+
+	/** Address and contact of one campus; fullAddress carries the reason when there is none. */
+	public record CampusAddress(Integer cityId, String city, String fullAddress, String mobileNo) {
+	}
+
+	private final CampusRepository campusRepository;
+	private final Cache<Object, Object> addressByCampusId;
+
+	public CampusAddressIndex(CampusRepository campusRepository, CacheManager cacheManager) {
+		this.campusRepository = campusRepository;
+		this.addressByCampusId = ((CaffeineCache) cacheManager.getCache(CacheConfig.CAMPUS_ADDRESS_CACHE))
+				.getNativeCache();
+	}
+
+	/** Addresses of the campuses that exist, by campus ID. */
+	public Map<Integer, CampusAddress> getAll(Collection<Integer> campusIds) {
+		Map<Integer, CampusAddress> addresses = new HashMap<>();
+		addressByCampusId.getAll(campusIds, this::load)
+				.forEach((campusId, address) -> addresses.put((Integer) campusId, (CampusAddress) address));
+		return addresses;
+	}
+
+	private Map<Object, Object> load(Set<?> campusIds) {
+		List<Integer> ids = new ArrayList<>();
+		campusIds.forEach(id -> ids.add((Integer) id));
+		Map<Integer, List<CampusAddressRowProjection>> rowsByCampusId = new LinkedHashMap<>();
+		for (CampusAddressRowProjection row : campusRepository.findAddressRowsByCampusIds(ids)) {
+			rowsByCampusId.computeIfAbsent(row.getCampusId(), k -> new ArrayList<>()).add(row);
+		}
+		Map<Object, Object> loaded = new HashMap<>();
+		rowsByCampusId.forEach((campusId, rows) -> loaded.put(campusId, toAddress(rows)));
+		logger.debug("Loaded addresses of {} campuses", loaded.size());
+		return loaded;
+	}
+
+	private static CampusAddress toAddress(List<CampusAddressRowProjection> rows) {
+		CampusAddressRowProjection first = rows.get(0);
+		Integer cityId = first.getCityId();
+		String city = first.getCityName();
+
+		// Main building, else the first one
+		Integer buildingId = rows.stream()
+				.filter(row -> row.getBuildingId() != null && Integer.valueOf(1).equals(row.getIsMainBuilding()))
+				.map(CampusAddressRowProjection::getBuildingId)
+				.findFirst()
+				.orElse(first.getBuildingId());
+		if (buildingId == null) {
+			return new CampusAddress(cityId, city, "Address: No buildings found for campus", null);
+		}
+
+		List<CampusAddressRowProjection> addresses = rows.stream()
+				.filter(row -> buildingId.equals(row.getBuildingId()) && row.getAddressId() != null)
+				.toList();
+		CampusAddressRowProjection address = addresses.stream()
+				.filter(row -> ADDRESS_TYPE.equals(row.getAddressType()))
+				.findFirst()
+				.orElse(addresses.isEmpty() ? null : addresses.get(0));
+		if (address == null) {
+			return new CampusAddress(cityId, city, "Address: No address record found for building", null);
+		}
+
+		StringJoiner sj = new StringJoiner(", ");
+		if (address.getPlotNo() != null)
+			sj.add(address.getPlotNo());
+		if (address.getArea() != null)
+			sj.add(address.getArea());
+		if (address.getStreet() != null)
+			sj.add(address.getStreet());
+		if (address.getLandmark() != null)
+			sj.add(address.getLandmark());
+		if (address.getPinCode() != null)
+			sj.add(String.valueOf(address.getPinCode()));
+		return new CampusAddress(cityId, city, sj.toString(), address.getMobileNo());
+	}
+}
@@ -20,7 +20,6 @@ import com.employee.entity.Employee;
 import com.employee.repository.BusinessTypeRepository;
 import com.employee.repository.CampusProfileViewRepository;
 import com.employee.repository.CampusRepository;
-import com.employee.repository.DepartmentRepository;
 import com.employee.repository.EmpDetailsRepository;
 import com.employee.repository.EmpSubjectRepository;
 import com.employee.repository.EmployeeRepository;
@@ -41,7 +40,7 @@ public class CampusFlowService {
     @Autowired
     private BusinessTypeRepository businessTypeRepository;
     @Autowired
-    private DepartmentRepository departmentRepository;
+    private OrgStructureIndex orgStructureIndex;
 
     public List<BusinessType> getAllBusinessTypes() {
         return businessTypeRepository.findAll();
@@ -158,8 +157,11 @@ public class CampusFlowService {
 
     public List<GenericDropdownDTO> getActiveDepartments(String categoryName) {
         if (categoryName != null && !categoryName.isEmpty()) {
-            return departmentRepository.findActiveDepartmentNamesWithTypesByCategory(categoryName);
+            // Unknown category -> empty list, same as the UPPER(name) query did
+            return orgStructureIndex.findCategoryId(categoryName)
+                    .map(orgStructureIndex::getDepartmentsWithTypes)
+                    .orElse(List.of());
         }
-        return departmentRepository.findActiveDepartmentNamesWithTypes();
+        return orgStructureIndex.getDepartmentsWithTypes(null);
     }
 }
@@ -6,6 +6,7 @@ import java.text.SimpleDateFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -61,6 +62,12 @@ public class CentralOfficeLevelService {
     @Autowired
     private EmpSalaryInfoRepository empSalaryInfoRepository;
 
+    @Autowired
+    private EmployeeIdResolver employeeIdResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Autowired
     private org.springframework.transaction.PlatformTransactionManager transactionManager;
 
@@ -83,9 +90,7 @@ public class CentralOfficeLevelService {
         validateTempPayrollId(checklistDTO.getTempPayrollId());
 
         // Step 2: Find employee by temp_payroll_id
-        Employee employee = employeeRepository.findByTempPayrollId(checklistDTO.getTempPayrollId())
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Employee not found with temp_payroll_id: " + checklistDTO.getTempPayrollId()));
+        Employee employee = getEmployeeByTempId(checklistDTO.getTempPayrollId());
 
         Integer empId = employee.getEmp_id();
         logger.info("Found employee with emp_id: {} for temp_payroll_id: {}", empId, checklistDTO.getTempPayrollId());
@@ -182,6 +187,8 @@ public class CentralOfficeLevelService {
         employee.setUpdated_by(checklistDTO.getUpdatedBy());
         employee.setUpdated_date(java.time.LocalDateTime.now());
         employeeRepository.save(employee);
+        employeeIdResolver.register(employee); // a permanent payroll ID may have been assigned
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "checklist"));
 
         logger.info("Successfully updated checklist for employee (emp_id: {}, temp_payroll_id: '{}')", empId,
                 checklistDTO.getTempPayrollId());
@@ -235,7 +242,7 @@ public class CentralOfficeLevelService {
             throw new ResourceNotFoundException("tempPayrollId is required.");
         }
 
-        employeeRepository.findByTempPayrollId(tempPayrollId.trim())
+        employeeIdResolver.findEmpIdByTempPayrollId(tempPayrollId.trim())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Employee not found with temp_payroll_id: " + tempPayrollId));
 
@@ -531,6 +538,7 @@ public class CentralOfficeLevelService {
         employee.setUpdated_by(rejectDTO.getUpdatedBy());
         employee.setUpdated_date(java.time.LocalDateTime.now());
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(empId, "reject-back-to-do"));
 
         logger.info(
                 "Successfully rejected employee (emp_id: {}, temp_payroll_id: '{}') and sent back to DO with remarks",
@@ -606,7 +614,8 @@ public class CentralOfficeLevelService {
     }
 
     private Employee getEmployeeByTempId(String tempPayrollId) {
-        return employeeRepository.findByTempPayrollId(tempPayrollId)
+        return employeeIdResolver.findEmpIdByTempPayrollId(tempPayrollId)
+                .flatMap(employeeRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Employee not found with temp_payroll_id: " + tempPayrollId));
     }
@@ -631,6 +640,7 @@ public class CentralOfficeLevelService {
         employee.setUpdated_by(updatedBy);
         employee.setUpdated_date(java.time.LocalDateTime.now());
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "status"));
 
         logger.info("Successfully updated employee (temp_payroll_id: '{}') to status '{}'",
                 employee.getTempPayrollId(), statusName);
@@ -686,6 +696,7 @@ public class CentralOfficeLevelService {
         employee.setUpdated_by(statusDTO.getUpdatedBy());
         employee.setUpdated_date(java.time.LocalDateTime.now());
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "incompleted"));
 
         logger.info("Successfully updated status to 'Incompleted' for temp_payroll_id: '{}'",
                 statusDTO.getTempPayrollId());
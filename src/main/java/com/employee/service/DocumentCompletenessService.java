@@ -0,0 +1,267 @@
+package com.employee.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.employee.config.CacheConfig;
+import com.employee.dto.EducationalDocumentStatusDTO;
+import com.employee.dto.EducationalDocumentStatusDTO.DocumentStatusDTO;
+import com.employee.entity.EmpDocType;
+import com.employee.exception.ResourceNotFoundException;
+import com.employee.repository.DocumentCompletenessRowProjection;
+import com.employee.repository.EmpDocTypeRepository;
+import com.employee.repository.EmpDocumentsRepository;
+
+/**
+ * Required, uploaded and missing documents of an employee for the three HR
+ * document categories (educational, ID proof, specific), computed together.
+ *
+ * The doc-type catalogue is read once into memory (refreshed every 30
+ * minutes); an employee's qualifications and uploaded documents of every
+ * category come from one query, and the result for all three categories is
+ * cached per emp_id so the status, uploaded and missing endpoints of each
+ * category share it. An employee's entry is dropped on
+ * {@link EmployeeChangedEvent}, on other nodes through
+ * {@link EmployeeChangeBroadcaster}.
+ */
+@Service
+public class DocumentCompletenessService {
+
+	private static final Logger logger = LoggerFactory.getLogger(DocumentCompletenessService.class);
+
+	private static final String EDUCATIONAL_DOC_TYPE = "Educational Document";
+	private static final String ID_PROOF_DOC_TYPE = "ID Proof";
+	private static final String PERSONAL_DOC_TYPE = "Personal Document";
+
+	private static final Comparator<EmpDocType> BY_DOC_TYPE_ID = Comparator.comparingInt(EmpDocType::getDoc_type_id);
+
+	/** Required doc types of each category, sorted by doc_type_id. */
+	record Catalogue(Map<Integer, EmpDocType> educationalById, List<EmpDocType> idProof,
+			List<EmpDocType> specific, Set<Integer> docTypeIds) {
+	}
+
+	/** All three categories of one employee; educational is null if the employee has no qualifications. */
+	private record Completeness(EducationalDocumentStatusDTO educational, EducationalDocumentStatusDTO idProof,
+			EducationalDocumentStatusDTO specific) {
+	}
+
+	private final EmpDocTypeRepository empDocTypeRepository;
+	private final EmpDocumentsRepository empDocumentsRepository;
+	private final Cache catalogueCache;
+	private final Cache completenessCache;
+
+	public DocumentCompletenessService(EmpDocTypeRepository empDocTypeRepository,
+			EmpDocumentsRepository empDocumentsRepository, CacheManager cacheManager) {
+		this.empDocTypeRepository = empDocTypeRepository;
+		this.empDocumentsRepository = empDocumentsRepository;
+		this.catalogueCache = cacheManager.getCache(CacheConfig.DOC_TYPE_CATALOGUE_CACHE);
+		this.completenessCache = cacheManager.getCache(CacheConfig.DOCUMENT_COMPLETENESS_CACHE);
+	}
+
+	/**
+	 * Educational documents required by the employee's active qualifications.
+	 *
+	 * @throws ResourceNotFoundException if the employee does not exist or has no
+	 *                                   active qualifications
+	 */
+	public EducationalDocumentStatusDTO getEducationalStatus(int empId) {
+		EducationalDocumentStatusDTO status = get(empId).educational();
+		if (status == null) {
+			throw new ResourceNotFoundException(
+					"Employee (emp_id: " + empId + ") does not have any qualifications in EmpQualification table");
+		}
+		return status;
+	}
+
+	/** @throws ResourceNotFoundException if the employee does not exist */
+	public EducationalDocumentStatusDTO getIdProofStatus(int empId) {
+		return get(empId).idProof();
+	}
+
+	/**
+	 * Personal documents, the previous employer document and gratuity.
+	 *
+	 * @throws ResourceNotFoundException if the employee does not exist
+	 */
+	public EducationalDocumentStatusDTO getSpecificStatus(int empId) {
+		return get(empId).specific();
+	}
+
+	@EventListener
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		evict(event.empId());
+	}
+
+	/**
+	 * Drops the employee's cached result now and again when the surrounding
+	 * transaction commits, so a read that ran before the commit cannot leave a
+	 * stale result behind.
+	 */
+	public void evict(int empId) {
+		completenessCache.evict(empId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					completenessCache.evict(empId);
+				}
+			});
+		}
+	}
+
+	/** Drops every employee's cached result. */
+	public void evictAll() {
+		completenessCache.clear();
+	}
+
+	private Completeness get(int empId) {
+		try {
+			return completenessCache.get(empId, () -> load(empId));
+		} catch (Cache.ValueRetrievalException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private Completeness load(int empId) {
+		Catalogue catalogue = catalogue();
+		List<DocumentCompletenessRowProjection> rows = empDocumentsRepository.findCompletenessRows(empId,
+				catalogue.docTypeIds());
+
+		DocumentCompletenessRowProjection employeeRow = null;
+		Set<Integer> qualificationIds = new LinkedHashSet<>();
+		Map<Integer, DocumentCompletenessRowProjection> uploadedByDocTypeId = new HashMap<>();
+		for (DocumentCompletenessRowProjection row : rows) {
+			switch (row.getKind()) {
+			case "E" -> employeeRow = row;
+			case "Q" -> qualificationIds.add(row.getRefId());
+			// More than one active document of a type: the latest one is shown
+			case "D" -> uploadedByDocTypeId.merge(row.getRefId(), row,
+					(a, b) -> b.getCreatedDate() != null && (a.getCreatedDate() == null
+							|| b.getCreatedDate().isAfter(a.getCreatedDate())) ? b : a);
+			default -> throw new IllegalStateException("Unexpected row kind " + row.getKind());
+			}
+		}
+		if (employeeRow == null) {
+			throw new ResourceNotFoundException("Employee not found with emp_id: " + empId);
+		}
+
+		EducationalDocumentStatusDTO educational = null;
+		if (!qualificationIds.isEmpty()) {
+			// An educational doc type is required when its ID is one of the employee's qualification IDs
+			List<EmpDocType> required = new TreeSet<>(qualificationIds).stream()
+					.map(catalogue.educationalById()::get)
+					.filter(docType -> docType != null)
+					.toList();
+			educational = status(empId, employeeRow, required, uploadedByDocTypeId);
+			educational.setQualificationId(employeeRow.getRefId() != null ? employeeRow.getRefId()
+					: qualificationIds.stream().mapToInt(Integer::intValue).max().orElse(0));
+			educational.setQualificationName(employeeRow.getRefId() != null ? employeeRow.getLabel()
+					: "Multiple Qualifications");
+		}
+		logger.debug("Document completeness of emp_id {} loaded: {} qualifications, {} uploaded doc types", empId,
+				qualificationIds.size(), uploadedByDocTypeId.size());
+		return new Completeness(educational,
+				status(empId, employeeRow, catalogue.idProof(), uploadedByDocTypeId),
+				status(empId, employeeRow, catalogue.specific(), uploadedByDocTypeId));
+	}
+
+	private static EducationalDocumentStatusDTO status(int empId, DocumentCompletenessRowProjection employeeRow,
+			List<EmpDocType> required, Map<Integer, DocumentCompletenessRowProjection> uploadedByDocTypeId) {
+		List<DocumentStatusDTO> requiredDocuments = new ArrayList<>(required.size());
+		List<DocumentStatusDTO> uploadedDocuments = new ArrayList<>();
+		List<DocumentStatusDTO> missingDocuments = new ArrayList<>();
+		for (EmpDocType docType : required) {
+			DocumentStatusDTO docStatus = new DocumentStatusDTO();
+			docStatus.setDocTypeId(docType.getDoc_type_id());
+			docStatus.setDocName(docType.getDoc_name());
+			docStatus.setDocType(docType.getDoc_type());
+
+			DocumentCompletenessRowProjection uploaded = uploadedByDocTypeId.get(docType.getDoc_type_id());
+			docStatus.setIsUploaded(uploaded != null);
+			if (uploaded != null) {
+				docStatus.setDocPath(uploaded.getDocPath());
+				docStatus.setCreatedBy(uploaded.getCreatedBy());
+				docStatus.setCreatedDate(uploaded.getCreatedDate());
+				docStatus.setUpdatedBy(uploaded.getUpdatedBy());
+				docStatus.setUpdatedDate(uploaded.getUpdatedDate());
+				uploadedDocuments.add(docStatus);
+			} else {
+				missingDocuments.add(docStatus);
+			}
+			requiredDocuments.add(docStatus);
+		}
+
+		EducationalDocumentStatusDTO status = new EducationalDocumentStatusDTO();
+		status.setEmpId(empId);
+		status.setPayrollId(employeeRow.getPayrollId());
+		status.setTempPayrollId(employeeRow.getTempPayrollId());
+		status.setRequiredDocuments(List.copyOf(requiredDocuments));
+		status.setUploadedDocuments(List.copyOf(uploadedDocuments));
+		status.setMissingDocuments(List.copyOf(missingDocuments));
+		return status;
+	}
+
+	/** The in-memory doc-type catalogue, also used by the campus compliance report. */
+	Catalogue catalogue() {
+		return catalogueCache.get(0, this::loadCatalogue);
+	}
+
+	private Catalogue loadCatalogue() {
+		List<EmpDocType> all = empDocTypeRepository.findAll();
+
+		Map<Integer, EmpDocType> educationalById = new HashMap<>();
+		ofType(all, EDUCATIONAL_DOC_TYPE)
+				.forEach(docType -> educationalById.putIfAbsent(docType.getDoc_type_id(), docType));
+		List<EmpDocType> idProof = ofType(all, ID_PROOF_DOC_TYPE);
+
+		List<EmpDocType> specific = new ArrayList<>(ofType(all, PERSONAL_DOC_TYPE));
+		named(all, "PrevEmployeeDoc").ifPresent(specific::add);
+		named(all, "Gratuity").or(() -> named(all, "Gratuity From")).ifPresent(specific::add);
+		specific.sort(BY_DOC_TYPE_ID);
+
+		Set<Integer> docTypeIds = new TreeSet<>(educationalById.keySet());
+		idProof.forEach(docType -> docTypeIds.add(docType.getDoc_type_id()));
+		specific.forEach(docType -> docTypeIds.add(docType.getDoc_type_id()));
+		if (docTypeIds.isEmpty()) {
+			docTypeIds.add(-1); // keeps IN () valid; matches nothing
+		}
+		logger.info("Doc type catalogue loaded: {} doc types, {} used by document status", all.size(),
+				docTypeIds.size());
+		return new Catalogue(Map.copyOf(educationalById), List.copyOf(idProof), List.copyOf(specific),
+				Set.copyOf(docTypeIds));
+	}
+
+	/** Active doc types of the category, or all of them if none is active. */
+	private static List<EmpDocType> ofType(List<EmpDocType> all, String docType) {
+		List<EmpDocType> ofType = all.stream().filter(type -> docType.equals(type.getDoc_type())).toList();
+		List<EmpDocType> active = ofType.stream().filter(type -> type.getIs_active() == 1).toList();
+		return (active.isEmpty() ? ofType : active).stream().sorted(BY_DOC_TYPE_ID).toList();
+	}
+
+	/** The active doc type with this name, else any with this name. */
+	private static Optional<EmpDocType> named(List<EmpDocType> all, String docName) {
+		return all.stream()
+				.filter(type -> docName.equals(type.getDoc_name()))
+				.min(Comparator.comparingInt((EmpDocType type) -> type.getIs_active() == 1 ? 0 : 1)
+						.thenComparing(BY_DOC_TYPE_ID));
+	}
+}
@@ -0,0 +1,156 @@
+package com.employee.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.employee.dto.DocumentComplianceReportDTO;
+import com.employee.dto.DocumentComplianceReportDTO.CategorySummary;
+import com.employee.dto.DocumentComplianceReportDTO.DocTypeSummary;
+import com.employee.dto.DocumentComplianceReportDTO.EmployeeCompliance;
+import com.employee.dto.DocumentComplianceReportDTO.MissingDocument;
+import com.employee.entity.EmpDocType;
+import com.employee.repository.DocumentComplianceRowProjection;
+import com.employee.repository.EmpDocumentsRepository;
+
+/**
+ * Campus- or city-wide document compliance, computed for all employees at once
+ * instead of one document status call per employee.
+ *
+ * The required doc types come from the same catalogue as
+ * {@link DocumentCompletenessService}; the required-vs-uploaded matrix of every
+ * employee is one query, streamed in emp_id order and folded into counts one
+ * employee at a time, so memory grows with the non-compliant employees listed,
+ * not with the matrix.
+ */
+@Service
+public class DocumentComplianceService {
+
+	private static final Logger logger = LoggerFactory.getLogger(DocumentComplianceService.class);
+
+	private static final List<String> CATEGORIES = List.of("EDUCATIONAL", "ID_PROOF", "SPECIFIC");
+
+	private final EmpDocumentsRepository empDocumentsRepository;
+	private final DocumentCompletenessService documentCompletenessService;
+
+	public DocumentComplianceService(EmpDocumentsRepository empDocumentsRepository,
+			DocumentCompletenessService documentCompletenessService) {
+		this.empDocumentsRepository = empDocumentsRepository;
+		this.documentCompletenessService = documentCompletenessService;
+	}
+
+	/**
+	 * Compliance report of the active employees of the campus and/or city.
+	 *
+	 * @param includeCompliant also list employees who have every required
+	 *                         document (counts always cover everyone)
+	 * @throws IllegalArgumentException if neither campusId nor cityId is given
+	 */
+	@Transactional(readOnly = true)
+	public DocumentComplianceReportDTO getComplianceReport(Integer campusId, Integer cityId,
+			boolean includeCompliant) {
+		if (campusId == null && cityId == null) {
+			throw new IllegalArgumentException("campusId or cityId is required");
+		}
+		long start = System.nanoTime();
+		DocumentCompletenessService.Catalogue catalogue = documentCompletenessService.catalogue();
+
+		DocumentComplianceReportDTO report = new DocumentComplianceReportDTO();
+		report.setCampusId(campusId);
+		report.setCityId(cityId);
+		Map<String, CategorySummary> categories = new LinkedHashMap<>();
+		CATEGORIES.forEach(category -> categories.put(category, new CategorySummary(category, 0, 0, 0, 0)));
+		Map<String, Map<Integer, DocTypeSummary>> missingByDocType = new LinkedHashMap<>();
+		CATEGORIES.forEach(category -> missingByDocType.put(category, new TreeMap<>()));
+
+		EmployeeCompliance current = null;
+		try (Stream<DocumentComplianceRowProjection> rows = empDocumentsRepository.streamComplianceRows(campusId,
+				cityId, idsOrNone(catalogue.educationalById().keySet()), idsOrNone(ids(catalogue.idProof())),
+				idsOrNone(ids(catalogue.specific())))) {
+			for (DocumentComplianceRowProjection row : (Iterable<DocumentComplianceRowProjection>) rows::iterator) {
+				if (current == null || !current.getEmpId().equals(row.getEmpId())) {
+					finish(report, categories, current, includeCompliant);
+					current = newEmployee(row);
+				}
+				if (row.getCategory() == null) {
+					continue; // nothing required of this employee
+				}
+				CategorySummary category = categories.get(row.getCategory());
+				category.setRequiredDocuments(category.getRequiredDocuments() + 1);
+				current.setRequiredDocuments(current.getRequiredDocuments() + 1);
+				if (row.getUploaded() != null && row.getUploaded() == 1) {
+					category.setUploadedDocuments(category.getUploadedDocuments() + 1);
+					current.setUploadedDocuments(current.getUploadedDocuments() + 1);
+				} else {
+					category.setMissingDocuments(category.getMissingDocuments() + 1);
+					current.getMissingDocuments()
+							.add(new MissingDocument(row.getCategory(), row.getDocTypeId(), row.getDocName()));
+					DocTypeSummary docType = missingByDocType.get(row.getCategory()).computeIfAbsent(
+							row.getDocTypeId(), id -> new DocTypeSummary(row.getCategory(), id, row.getDocName(), 0));
+					docType.setEmployeesMissing(docType.getEmployeesMissing() + 1);
+				}
+			}
+		}
+		finish(report, categories, current, includeCompliant);
+
+		report.getCategories().addAll(categories.values());
+		missingByDocType.values().forEach(byDocType -> report.getMissingByDocType().addAll(byDocType.values()));
+		report.setLoadMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		logger.info("Document compliance of campus {} / city {}: {} employees, {} non-compliant, in {} ms", campusId,
+				cityId, report.getTotalEmployees(), report.getNonCompliantEmployees(), report.getLoadMillis());
+		return report;
+	}
+
+	private static EmployeeCompliance newEmployee(DocumentComplianceRowProjection row) {
+		EmployeeCompliance employee = new EmployeeCompliance();
+		employee.setEmpId(row.getEmpId());
+		employee.setPayrollId(row.getPayrollId());
+		employee.setTempPayrollId(row.getTempPayrollId());
+		employee.setEmployeeName(Stream.of(row.getFirstName(), row.getLastName())
+				.filter(Objects::nonNull)
+				.collect(Collectors.joining(" ")));
+		return employee;
+	}
+
+	private static void finish(DocumentComplianceReportDTO report, Map<String, CategorySummary> categories,
+			EmployeeCompliance employee, boolean includeCompliant) {
+		if (employee == null) {
+			return;
+		}
+		report.setTotalEmployees(report.getTotalEmployees() + 1);
+		if (employee.getMissingDocuments().isEmpty()) {
+			report.setCompliantEmployees(report.getCompliantEmployees() + 1);
+		} else {
+			report.setNonCompliantEmployees(report.getNonCompliantEmployees() + 1);
+			employee.getMissingDocuments().stream()
+					.map(MissingDocument::getCategory)
+					.distinct()
+					.forEach(category -> categories.get(category)
+							.setEmployeesMissing(categories.get(category).getEmployeesMissing() + 1));
+		}
+		if (includeCompliant || !employee.getMissingDocuments().isEmpty()) {
+			report.getEmployees().add(employee);
+		}
+	}
+
+	private static Set<Integer> ids(List<EmpDocType> docTypes) {
+		return docTypes.stream().map(EmpDocType::getDoc_type_id).collect(Collectors.toSet());
+	}
+
+	/** The IDs, or a single ID that matches nothing, so IN () stays valid. */
+	private static Collection<Integer> idsOrNone(Collection<Integer> ids) {
+		return ids.isEmpty() ? List.of(-1) : ids;
+	}
+}
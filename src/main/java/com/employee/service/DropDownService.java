@@ -1,11 +1,17 @@
 package com.employee.service;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.employee.config.CacheConfig;
 import com.employee.exception.ResourceNotFoundException;
 import com.employee.dto.CampusContactDTO;
 import com.employee.dto.CampusDto;
@@ -14,17 +20,12 @@ import com.employee.dto.Dgmdto;
 import com.employee.dto.GenericDropdownDTO;
 import com.employee.dto.OrganizationDTO;
 import com.employee.entity.Building;
-import com.employee.entity.BusinessType;
 import com.employee.entity.Campus;
 import com.employee.entity.CampusContact;
-import com.employee.entity.Department;
-import com.employee.entity.Designation;
-import com.employee.entity.Employee;
 import com.employee.entity.EmployeeType;
 import com.employee.entity.EmployeeTypeHiring;
 import com.employee.entity.OrgBank;
 import com.employee.entity.Relation;
-import com.employee.entity.Subject;
 import com.employee.repository.BuildingRepository;
 import com.employee.repository.CampusContactRepository;
 import com.employee.repository.CampusRepository;
@@ -144,8 +145,14 @@ public class DropDownService {
 	@Autowired
 	com.employee.repository.RoleRepository roleRepository;
 
+	@Autowired
+	OrgStructureIndex orgStructureIndex;
+
 	private static final int ACTIVE_STATUS = 1;
 
+	/** Upper bound for one page of the employee dropdown. */
+	public static final int MAX_EMPLOYEE_DROPDOWN_PAGE_SIZE = 500;
+
 	public List<GenericDropdownDTO> getMaritalStatusTypes() {
 		return maritalStatusRepo.findByIsActive(ACTIVE_STATUS).stream()
 				// Use the getters that match your entity's field names
@@ -219,31 +226,18 @@ public class DropDownService {
 	// }
 
 	public List<GenericDropdownDTO> getDepartments(Integer empTypeId, String categoryName) {
-		List<Department> departments;
-
 		if (empTypeId == null || categoryName == null) {
 			throw new IllegalArgumentException("Employee Type ID and Category Name are mandatory");
 		}
 
-		BusinessType category = businessTypeRepository.findByBusinessTypeNameIgnoreCase(categoryName)
+		int categoryId = orgStructureIndex.findCategoryId(categoryName)
 				.orElseThrow(() -> new ResourceNotFoundException("Category not found: " + categoryName));
 
-		departments = departmentRepo.findByEmpTypeId_EmpTypeIdAndDepartmentCategory_BusinessTypeIdAndIsActive(
-				empTypeId, category.getBusinessTypeId(), 1);
-
-		// 3. Convert Entity list to DTO list
-		return departments.stream()
-				.map(dept -> new GenericDropdownDTO(dept.getDepartment_id(), dept.getDepartment_name()))
-				.collect(Collectors.toList());
+		return orgStructureIndex.getDepartments(empTypeId, categoryId);
 	}
 
 	public List<GenericDropdownDTO> getDesignations(int departmentId) {
-		// TODO Auto-generated method stub
-		final int ACTIVE_STATUS = 1;
-		return designationRepo.findByDepartmentId_DepartmentIdAndIsActive(departmentId, ACTIVE_STATUS).stream()
-				// Change the getter calls to match your entity's field names
-				.map(d -> new GenericDropdownDTO(d.getDesignation_id(), d.getDesignation_name()))
-				.collect(Collectors.toList());
+		return orgStructureIndex.getDesignations(departmentId);
 	}
 
 	public List<GenericDropdownDTO> getActiveDesignations() {
@@ -273,33 +267,16 @@ public class DropDownService {
 	}
 
 	public List<GenericDropdownDTO> getSubjects(String categoryName, Integer empSubject) {
-		final int ACTIVE_STATUS = 1;
-
-		List<Subject> subjects;
-
-		if (categoryName != null && !categoryName.trim().isEmpty()) {
-			BusinessType category = businessTypeRepository.findByBusinessTypeNameIgnoreCase(categoryName.trim())
-					.orElseThrow(() -> new ResourceNotFoundException("Category not found: " + categoryName));
-
-			if (empSubject != null) {
-				// 1. Fetch subjects filtered by category and type
-				subjects = subjectRepo.findBySubjectCategory_BusinessTypeIdAndEmpSubjectAndIsActive(
-						category.getBusinessTypeId(),
-						empSubject, ACTIVE_STATUS);
-			} else {
-				// 2. Fetch subjects filtered by category only
-				subjects = subjectRepo.findBySubjectCategory_BusinessTypeIdAndIsActive(
-						category.getBusinessTypeId(), ACTIVE_STATUS);
-			}
-		} else {
-			// 3. Fetch all active subjects (fallback)
-			subjects = subjectRepo.findByIsActive(ACTIVE_STATUS);
+		if (categoryName == null || categoryName.trim().isEmpty()) {
+			// Fallback: all active subjects
+			return orgStructureIndex.getActiveSubjects();
 		}
 
-		// 4. Map to DTO
-		return subjects.stream()
-				.map(subject -> new GenericDropdownDTO(subject.getSubject_id(), subject.getSubject_name()))
-				.collect(Collectors.toList());
+		int categoryId = orgStructureIndex.findCategoryId(categoryName)
+				.orElseThrow(() -> new ResourceNotFoundException("Category not found: " + categoryName));
+
+		// Filtered by category, and by emp_subject type when given
+		return orgStructureIndex.getSubjects(categoryId, empSubject);
 	}
 
 	// public CampusDto getActiveCampusById(int campusId) {
@@ -404,18 +381,51 @@ public class DropDownService {
 				.collect(Collectors.toList());
 	}
 
+	@Cacheable(cacheNames = CacheConfig.EMPLOYEE_DROPDOWN_CACHE, key = "1")
+	@Transactional(readOnly = true)
 	public List<GenericDropdownDTO> getActiveEmployees() {
-		return employeeRepository.findByIsActive(1).stream().map(emp -> new GenericDropdownDTO(emp.getEmp_id(), // Changed
-																												// from
-																												// getEmpId()
-				emp.getFirst_name() + " " + emp.getLast_name())).collect(Collectors.toList());
+		return streamEmployeeDropdown(1);
 	}
 
 	// ✅ 2. Get Inactive Employees (isActive = 0)
+	@Cacheable(cacheNames = CacheConfig.EMPLOYEE_DROPDOWN_CACHE, key = "0")
+	@Transactional(readOnly = true)
 	public List<GenericDropdownDTO> getInactiveEmployees() {
-		return employeeRepository.findByIsActive(0).stream()
-				.map(emp -> new GenericDropdownDTO(emp.getEmp_id(), emp.getFirst_name() + " " + emp.getLast_name()))
-				.collect(Collectors.toList());
+		return streamEmployeeDropdown(0);
+	}
+
+	/**
+	 * One page of the employee dropdown for the given active flag, optionally
+	 * filtered by a case-insensitive name prefix. Only emp_id and the name
+	 * columns are read, so the cost of a call depends on the page size and not
+	 * on the head count.
+	 */
+	@Cacheable(cacheNames = CacheConfig.EMPLOYEE_DROPDOWN_PAGE_CACHE, key = "{#isActive, #prefix, #page, #size}")
+	@Transactional(readOnly = true)
+	public List<GenericDropdownDTO> getEmployeeDropdownPage(int isActive, String prefix, int page, int size) {
+		if (page < 0) {
+			throw new IllegalArgumentException("page must not be negative");
+		}
+		if (size < 1 || size > MAX_EMPLOYEE_DROPDOWN_PAGE_SIZE) {
+			throw new IllegalArgumentException("size must be between 1 and " + MAX_EMPLOYEE_DROPDOWN_PAGE_SIZE);
+		}
+		PageRequest pageRequest = PageRequest.of(page, size);
+
+		if (prefix == null || prefix.trim().isEmpty()) {
+			return employeeRepository.findDropdownByIsActive(isActive, pageRequest).getContent();
+		}
+		return employeeRepository.findDropdownByIsActiveAndNamePrefix(isActive,
+				escapeLikePattern(prefix.trim().toLowerCase(Locale.ROOT)), pageRequest).getContent();
+	}
+
+	private List<GenericDropdownDTO> streamEmployeeDropdown(int isActive) {
+		try (Stream<GenericDropdownDTO> rows = employeeRepository.streamDropdownByIsActive(isActive)) {
+			return rows.collect(Collectors.toList());
+		}
+	}
+
+	private static String escapeLikePattern(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
 	}
 
 	public List<CampusContactDTO> getActiveContactsByCampusId(Integer campusId) {
@@ -423,11 +433,11 @@ public class DropDownService {
 		return campusContactRepository.findActiveContactsByCampusId(campusId);
 	}
 
+	// Same data as getActiveEmployees, so it shares the cache entry
+	@Cacheable(cacheNames = CacheConfig.EMPLOYEE_DROPDOWN_CACHE, key = "1")
+	@Transactional(readOnly = true)
 	public List<GenericDropdownDTO> getAllEmployees() {
-		List<Employee> activeEmployees = employeeRepository.findByIsActive(1);
-
-		return activeEmployees.stream().map(employee -> new GenericDropdownDTO(employee.getEmp_id(),
-				employee.getFirst_name() + " " + employee.getLast_name())).collect(Collectors.toList());
+		return streamEmployeeDropdown(1);
 	}
 
 	public List<GenericDropdownDTO> getAllOrganizations() {
@@ -601,13 +611,6 @@ public class DropDownService {
 	}
 
 	public List<GenericDropdownDTO> getDesignationsByEmployeeType(Integer empTypeId) {
-
-		List<Designation> designations = designationRepo.findDesignationsByEmpType(empTypeId);
-
-		return designations.stream()
-				.map(d -> new GenericDropdownDTO(
-						d.getDesignation_id(),
-						d.getDesignation_name()))
-				.toList();
+		return orgStructureIndex.getDesignationsByEmployeeType(empTypeId);
 	}
 }
@@ -1,20 +1,16 @@
 package com.employee.service;
 
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.employee.dto.EmpExamDataDTO;
 import com.employee.dto.ExamResultDTO;
 import com.employee.entity.SkillTestDetails;
+import com.employee.exception.ResourceNotFoundException;
+import com.employee.repository.ExamPollCandidateProjection;
 import com.employee.repository.SkillTestDetailsRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 public class EmpExamIntegrationService {
@@ -22,49 +18,61 @@ public class EmpExamIntegrationService {
     private static final Logger logger = LoggerFactory.getLogger(EmpExamIntegrationService.class);
 
     // --- API CONFIGURATION ---
-    private final String API_BASE_URL = "https://webservice.scaits.net/empExamService";
-    // Modified URL as per new requirement
-    private final String SAVE_EMP_URL = "https://testreportsapi.scaits.net/scaits/saveEmpBioDetails";
-    private final String FETCH_RESULT_URL = "https://testreportsapi.scaits.net/scaits/getEmpTestResult";
-
-    // Credentials from Email
-    // private final String API_USERNAME = "QBemp$est";
-    // private final String API_PASSWORD = "ScaitsQB";
-
-    private final String API_USERNAME = "ScaitsQB";
-    private final String API_PASSWORD = "QBemp$est";
-
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    // Endpoints, credentials, pooling and resilience live in ExamApiClient / ExamApiClientConfig
+    private final ExamApiClient examApiClient;
+    private final ExamResultHarvester harvester;
+    private final ExamPollStateService pollStateService;
+    private final ExamResultBatchWriter resultBatchWriter;
     private final SkillTestDetailsRepository skillTestRepository;
     private final com.employee.repository.SkillTestResultRepository skillTestResultRepository;
-    private final com.employee.repository.SkillTestApprovalStatusRepository skillTestApprovalStatusRepository;
 
-    public EmpExamIntegrationService(RestTemplate restTemplate,
-            ObjectMapper objectMapper,
+    public EmpExamIntegrationService(ExamApiClient examApiClient,
+            ExamResultHarvester harvester,
+            ExamPollStateService pollStateService,
+            ExamResultBatchWriter resultBatchWriter,
             SkillTestDetailsRepository skillTestRepository,
-            com.employee.repository.SkillTestResultRepository skillTestResultRepository,
-            com.employee.repository.SkillTestApprovalStatusRepository skillTestApprovalStatusRepository) {
-        this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
+            com.employee.repository.SkillTestResultRepository skillTestResultRepository) {
+        this.examApiClient = examApiClient;
+        this.harvester = harvester;
+        this.pollStateService = pollStateService;
+        this.resultBatchWriter = resultBatchWriter;
         this.skillTestRepository = skillTestRepository;
         this.skillTestResultRepository = skillTestResultRepository;
-        this.skillTestApprovalStatusRepository = skillTestApprovalStatusRepository;
     }
 
     // ==================================================================================
     // 1. SYNC METHOD (Fetch from DB -> Map to DTO -> POST to External API)
     // ==================================================================================
+    /**
+     * Pushes one candidate right away (manual sync). Registrations are normally
+     * pushed through the outbox by {@link ExamSyncOutboxService}. Failures are
+     * thrown, not returned.
+     */
     public String syncEmployeeFromDb(String tempPayrollId) {
+        return "Success: " + pushEmployeeToExamPlatform(tempPayrollId);
+    }
+
+    /**
+     * Reads the candidate, maps it and POSTs it to the exam platform, returning
+     * the response body. On success the candidate is polled for its result first
+     * on the next harvest.
+     *
+     * @throws ResourceNotFoundException if no skill test has this temp payroll ID
+     */
+    public String pushEmployeeToExamPlatform(String tempPayrollId) {
         // 1. Fetch using the custom String finder
         SkillTestDetails entity = skillTestRepository.findByTempPayrollId(tempPayrollId)
-                .orElseThrow(() -> new RuntimeException("Employee not found with Payroll ID: " + tempPayrollId));
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with Payroll ID: " + tempPayrollId));
 
         // 2. Map Entity -> DTO
         EmpExamDataDTO dto = mapEntityToDto(entity);
 
         // 3. Send to External API
-        return pushEmployeeData(entity.getTempPayrollId(), dto);
+        String response = pushEmployeeData(entity.getTempPayrollId(), dto);
+
+        // 4. Poll for this candidate's result first on the next harvest
+        pollStateService.recordSync(entity.getSkillTestDetlId());
+        return response;
     }
 
     // ==================================================================================
@@ -84,35 +92,8 @@ public class EmpExamIntegrationService {
     // ==================================================================================
     public ExamResultDTO fetchExamResult(String empId) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // Assuming Fetch also needs Auth now? If not, removing this line won't hurt if
-            // headers are empty
-            // headers.setBasicAuth(API_USERNAME, API_PASSWORD);
-
-            HttpEntity<String> requestEntity = new HttpEntity<>(headers);
-            // new param is 'empPayrollId'
-            String finalUrl = FETCH_RESULT_URL + "?empPayrollId=" + empId;
-
-            logger.info("Fetching Results from: {}", finalUrl);
-
-            ResponseEntity<ExamResultDTO> response = restTemplate.exchange(
-                    finalUrl,
-                    HttpMethod.GET,
-                    requestEntity,
-                    ExamResultDTO.class);
-
-            ExamResultDTO dto = response.getBody();
-
-            // --- SAVE LOGIC ---
-            if (dto != null) {
-                saveExamResult(dto);
-            }
-
-            return dto;
-
-        } catch (org.springframework.web.client.HttpClientErrorException.UnprocessableEntity e) {
+            return fetchAndSaveExamResult(empId);
+        } catch (HttpClientErrorException.UnprocessableEntity e) {
             // Special handling for 422: "This Employee have not attempt the exam"
             // We don't want to print stack traces for this expected scenario
             logger.debug("Employee {} has not attempted the exam yet (422).", empId);
@@ -124,9 +105,43 @@ public class EmpExamIntegrationService {
     }
 
     /**
-     * Fetches exam results for all active employees who don't have results yet.
-     * Uses parallel stream for faster execution (fetching "all at one time").
+     * Single fetch for the bulk harvest: same as {@link #fetchExamResult} but
+     * reports what happened instead of returning the DTO.
+     * Fetched results are handed to the buffer and saved a chunk at a time.
      */
+    private ExamResultHarvester.Outcome harvestExamResult(String empId, ExamResultBatchWriter.Buffer results) {
+        try {
+            ExamResultDTO dto = fetchExamResultOnly(empId);
+            if (dto == null) {
+                return ExamResultHarvester.Outcome.FAILED;
+            }
+            results.add(dto);
+            return ExamResultHarvester.Outcome.FETCHED;
+        } catch (HttpClientErrorException.UnprocessableEntity e) {
+            logger.debug("Employee {} has not attempted the exam yet (422).", empId);
+            return ExamResultHarvester.Outcome.NOT_ATTEMPTED;
+        } catch (Exception e) {
+            logger.error("Error Fetching Exam Result for {}: {}", empId, e.getMessage());
+            return ExamResultHarvester.Outcome.FAILED;
+        }
+    }
+
+    private ExamResultDTO fetchAndSaveExamResult(String empId) {
+        ExamResultDTO dto = fetchExamResultOnly(empId);
+
+        // --- SAVE LOGIC ---
+        if (dto != null) {
+            saveExamResult(dto);
+        }
+
+        return dto;
+    }
+
+    private ExamResultDTO fetchExamResultOnly(String empId) {
+        logger.info("Fetching Results for: {}", empId);
+        return examApiClient.getEmpTestResult(empId);
+    }
+
     /**
      * Optimized retrieval:
      * 1. Checks local 'result' table first.
@@ -166,118 +181,49 @@ public class EmpExamIntegrationService {
         return dto;
     }
 
-    public void fetchAllResults() {
-        // 1. Fetch active skill test details that DON'T have a result yet
-        java.util.List<SkillTestDetails> activeEmployees = skillTestRepository.findActiveWithoutResults();
-
-        if (activeEmployees == null || activeEmployees.isEmpty()) {
-            logger.info("No active employees found needing results synchronization.");
-            return;
+    /**
+     * Fetches exam results for the active employees without results whose next
+     * poll is due (see {@link ExamPollStateService}), through the bounded,
+     * rate-limited {@link ExamResultHarvester}. Returns null if a harvest is
+     * already running.
+     */
+    public ExamResultHarvester.Summary fetchAllResults() {
+        // 1. Due candidates only: never polled, backoff elapsed, or just synced
+        java.util.Map<String, ExamPollCandidateProjection> dueByPayrollId = new java.util.LinkedHashMap<>();
+        for (ExamPollCandidateProjection candidate : pollStateService.findDueCandidates()) {
+            dueByPayrollId.putIfAbsent(candidate.getTempPayrollId().trim(), candidate);
         }
 
-        logger.info(">>> Starting Parallel Fetch for {} employees <<<", activeEmployees.size());
-
-        // 2. Process in parallel
-        activeEmployees.parallelStream().forEach(emp -> {
-            String tempId = emp.getTempPayrollId();
-            if (tempId != null && !tempId.trim().isEmpty()) {
-                fetchExamResult(tempId); // This method handles its own try-catch and logging
-            }
-        });
-
-        logger.info(">>> Completed Parallel Fetch <<<");
-    }
-
-    private void saveExamResult(ExamResultDTO dto) {
-        if (dto == null || dto.getPayrollId() == null)
-            return;
-
-        try {
-            // Final Double-Check: Skip if an active result already exists locally
-            if (skillTestResultRepository.findLatestActiveByPayrollId(dto.getPayrollId()).isPresent()) {
-                logger.info("Active result already exists for {}, skipping duplicate save.", dto.getPayrollId());
-                return;
-            }
-
-            // 1. Find Employee locally
-            SkillTestDetails employee = skillTestRepository.findByTempPayrollId(dto.getPayrollId())
-                    .orElseThrow(
-                            () -> new RuntimeException("Employee not found for Result Sync: " + dto.getPayrollId()));
-
-            // 2. Map DTO -> Entity
-            com.employee.entity.SkillTestResult resultEntity = new com.employee.entity.SkillTestResult();
-
-            resultEntity.setSkillTestDetlId(employee);
-            resultEntity.setEmpName(employee.getFirstName() + " " + employee.getLastName());
-
-            // --- INACTIVATION LOGIC ---
-            // Find existing ACTIVE results for this employee
-            java.util.List<com.employee.entity.SkillTestResult> existingActive = skillTestResultRepository
-                    .findBySkillTestDetlIdAndIsActive(employee, 1);
-
-            if (existingActive != null && !existingActive.isEmpty()) {
-                for (com.employee.entity.SkillTestResult oldResult : existingActive) {
-                    oldResult.setIsActive(0); // Deactivate
-                }
-                skillTestResultRepository.saveAll(existingActive);
-                logger.info("Deactivated {} old results for: {}", existingActive.size(), dto.getPayrollId());
-            }
-            // --------------------------
-
-            // Parse Date (dd-MM-yyyy -> SQL Date)
-            try {
-                if (dto.getExamDate() != null && !dto.getExamDate().trim().isEmpty()) {
-                    java.text.SimpleDateFormat sdf = new java.text.SimpleDateFormat("dd-MM-yyyy");
-                    java.util.Date parsed = sdf.parse(dto.getExamDate());
-                    resultEntity.setExamDate(new java.sql.Date(parsed.getTime()));
-                } else {
-                    logger.warn("Exam date is missing for {}, using current date.", dto.getPayrollId());
-                    resultEntity.setExamDate(new java.sql.Date(System.currentTimeMillis()));
-                }
-            } catch (Exception e) {
-                logger.error("Date Parse Error for {}: {}", dto.getPayrollId(), e.getMessage());
-                resultEntity.setExamDate(new java.sql.Date(System.currentTimeMillis()));
-            }
-
-            // Parse Numbers (Handle Strings "16.0", "30", etc.)
-            resultEntity.setNoOfQuestion(parseInteger(dto.getTotalQuestions()));
-            resultEntity.setNoOfQuesAttempt(parseInteger(dto.getAttempted()));
-            resultEntity.setNoOfQuesUnattempt(parseInteger(dto.getUnAttempted()));
-            resultEntity.setNoOfQuesCorrect(parseInteger(dto.getCorrect()));
-            resultEntity.setNoOfQuesWrong(parseInteger(dto.getWrong()));
-
-            // Total Marks (Stored as int in DB, but might come as "16.0" from API)
-            resultEntity.setTotalMarks((int) parseDouble(dto.getTotalMarks()));
-
-            // Hardcoded / Default fields
-            resultEntity.setIsActive(1);
-            resultEntity.setCreatedBy(1); // Hardcoded as per instruction
-
-            // Set Approval Status (ID 1: "Skill Test Approval")
-            skillTestApprovalStatusRepository.findById(1).ifPresent(resultEntity::setSkillTestApprovalStatus);
-
-            // Save
-            skillTestResultRepository.save(resultEntity);
-            logger.info("Saved Exam Result for: {}", dto.getPayrollId());
-
-        } catch (Exception e) {
-            logger.error("Error Saving Local Result for {}: {}", dto.getPayrollId(), e.getMessage());
+        if (dueByPayrollId.isEmpty()) {
+            logger.info("No employees due for results synchronization.");
+            return new ExamResultHarvester.Summary(0, 0, 0, 0, 0, 0);
         }
-    }
 
-    private int parseInteger(String val) {
+        logger.info(">>> Starting Exam Result Harvest for {} due employees <<<", dueByPayrollId.size());
+
+        // 2. Process with bounded concurrency, recording each outcome for the backoff;
+        // results are saved in chunks as they arrive
+        ExamResultBatchWriter.Buffer results = resultBatchWriter.newBuffer();
+        ExamResultHarvester.Summary summary;
         try {
-            return (int) Double.parseDouble(val); // Handle "30.0" or "30"
-        } catch (Exception e) {
-            return 0;
+            summary = harvester.harvest(new java.util.ArrayList<>(dueByPayrollId.keySet()), tempId -> {
+                ExamResultHarvester.Outcome outcome = harvestExamResult(tempId, results);
+                pollStateService.recordPoll(dueByPayrollId.get(tempId), outcome);
+                return outcome;
+            });
+        } finally {
+            results.close();
         }
+        logger.info("Saved {} new exam results, skipped {} stale and {} without a valid exam date",
+                results.getSaved(), results.getStale(), results.getInvalid());
+        return summary;
     }
 
-    private double parseDouble(String val) {
+    private void saveExamResult(ExamResultDTO dto) {
         try {
-            return Double.parseDouble(val);
+            resultBatchWriter.save(java.util.List.of(dto));
         } catch (Exception e) {
-            return 0.0;
+            logger.error("Error Saving Local Result for {}: {}", dto.getPayrollId(), e.getMessage());
         }
     }
 
@@ -381,33 +327,9 @@ public class EmpExamIntegrationService {
     // HELPER: PUSH DATA TO API (The actual POST request)
     // ==================================================================================
     private String pushEmployeeData(String empId, EmpExamDataDTO employeeData) {
-        try {
-            // Log JSON for debugging
-            String jsonPreview = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(employeeData);
-            System.out.println("--- SYNCING EMP: " + empId + " ---");
-            System.out.println(jsonPreview);
-            System.out.println("--------------------------------");
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // UPDATED: Basic Auth
-            headers.setBasicAuth(API_USERNAME, API_PASSWORD);
-
-            HttpEntity<EmpExamDataDTO> requestEntity = new HttpEntity<>(employeeData, headers);
-            String finalUrl = SAVE_EMP_URL + "?empId=" + empId;
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    finalUrl,
-                    HttpMethod.POST,
-                    requestEntity,
-                    String.class);
-
-            return "Success: " + response.getBody();
-
-        } catch (Exception e) {
-            System.err.println("API Call Failed: " + e.getMessage());
-            return "Failed: " + e.getMessage();
-        }
+        // The payload carries the candidate's password, so only identifiers are logged
+        logger.debug("Syncing emp {} (temp ID {}, campus {})", empId, employeeData.getTempId(),
+                employeeData.getCampusId());
+        return examApiClient.saveEmpBioDetails(empId, employeeData);
     }
 }
\ No newline at end of file
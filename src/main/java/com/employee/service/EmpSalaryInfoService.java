@@ -684,12 +684,17 @@
 package com.employee.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -728,6 +733,9 @@ public class EmpSalaryInfoService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmpSalaryInfoService.class);
 
+    /** Most payroll IDs one bulk salary read accepts. */
+    public static final int MAX_BULK_SALARY_IDS = 1_000;
+
     @Autowired
     private EmpSalaryInfoRepository empSalaryInfoRepository;
 
@@ -761,6 +769,12 @@ public class EmpSalaryInfoService {
     @Autowired
     private EmpAppCheckListDetlRepository empAppCheckListDetlRepository;
 
+    @Autowired
+    private EmployeeIdResolver employeeIdResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Create salary info based on temp_payroll_id and forward to Central Office
      *
@@ -976,6 +990,7 @@ public class EmpSalaryInfoService {
         employee.setUpdated_by(salaryInfoDTO.getUpdatedBy());
         employee.setUpdated_date(LocalDateTime.now());
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "salary-info"));
 
         return salaryInfoDTO;
     }
@@ -984,11 +999,11 @@ public class EmpSalaryInfoService {
      * Get salary info by temp_payroll_id (returns entity - for internal use)
      */
     public EmpSalaryInfo getSalaryInfoByTempPayrollId(String tempPayrollId) {
-        Employee employee = employeeRepository.findByTempPayrollId(tempPayrollId)
+        Integer empId = employeeIdResolver.findEmpIdByTempPayrollId(tempPayrollId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Employee not found with temp_payroll_id: " + tempPayrollId));
 
-        return empSalaryInfoRepository.findByEmpIdAndIsActive(employee.getEmp_id(), 1)
+        return empSalaryInfoRepository.findByEmpIdAndIsActive(empId, 1)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Salary info not found for employee with temp_payroll_id: " + tempPayrollId));
     }
@@ -1014,37 +1029,7 @@ public class EmpSalaryInfoService {
             empId = projection.getEmp_id();
             salaryInfoDTO.setPayrollId(projection.getPayroll_id());
 
-            // Map decrypted fields (handle null and parsing)
-            if (projection.getMonthly_take_home() != null) {
-                try {
-                    salaryInfoDTO.setMonthlyTakeHome(Double.parseDouble(projection.getMonthly_take_home()));
-                } catch (NumberFormatException e) {
-                    logger.error("Error parsing decrypted monthlyTakeHome: {}", projection.getMonthly_take_home());
-                }
-            }
-
-            salaryInfoDTO.setCtcWords(projection.getCtc_words());
-
-            if (projection.getYearly_ctc() != null) {
-                try {
-                    salaryInfoDTO.setYearlyCtc(Double.parseDouble(projection.getYearly_ctc()));
-                } catch (NumberFormatException e) {
-                    logger.error("Error parsing decrypted yearlyCtc: {}", projection.getYearly_ctc());
-                }
-            }
-
-            salaryInfoDTO.setEmpStructureId(projection.getEmp_structure_id());
-            salaryInfoDTO.setEmpStructureName(projection.getEmp_structure_name());
-            salaryInfoDTO.setGradeId(projection.getGrade_id());
-            salaryInfoDTO.setGradeName(projection.getGrade_name());
-            salaryInfoDTO.setCostCenterId(projection.getCost_center_id());
-            salaryInfoDTO.setCostCenterName(projection.getCost_center_name());
-
-            // Convert Integer to Boolean (1 = true, 0 = false)
-            salaryInfoDTO
-                    .setIsPfEligible(projection.getIs_pf_eligible() != null && projection.getIs_pf_eligible() == 1);
-            salaryInfoDTO
-                    .setIsEsiEligible(projection.getIs_esi_eligible() != null && projection.getIs_esi_eligible() == 1);
+            mapDecryptedSalary(projection, salaryInfoDTO);
 
         } catch (Exception e) {
             // Fallback: If native decryption query fails (likely due to permissions or
@@ -1116,37 +1101,7 @@ public class EmpSalaryInfoService {
             empId = projection.getEmp_id();
             salaryInfoDTO.setTempPayrollId(projection.getTemp_payroll_id());
 
-            // Map decrypted fields (handle null and parsing)
-            if (projection.getMonthly_take_home() != null) {
-                try {
-                    salaryInfoDTO.setMonthlyTakeHome(Double.parseDouble(projection.getMonthly_take_home()));
-                } catch (NumberFormatException e) {
-                    logger.error("Error parsing decrypted monthlyTakeHome: {}", projection.getMonthly_take_home());
-                }
-            }
-
-            salaryInfoDTO.setCtcWords(projection.getCtc_words());
-
-            if (projection.getYearly_ctc() != null) {
-                try {
-                    salaryInfoDTO.setYearlyCtc(Double.parseDouble(projection.getYearly_ctc()));
-                } catch (NumberFormatException e) {
-                    logger.error("Error parsing decrypted yearlyCtc: {}", projection.getYearly_ctc());
-                }
-            }
-
-            salaryInfoDTO.setEmpStructureId(projection.getEmp_structure_id());
-            salaryInfoDTO.setEmpStructureName(projection.getEmp_structure_name());
-            salaryInfoDTO.setGradeId(projection.getGrade_id());
-            salaryInfoDTO.setGradeName(projection.getGrade_name());
-            salaryInfoDTO.setCostCenterId(projection.getCost_center_id());
-            salaryInfoDTO.setCostCenterName(projection.getCost_center_name());
-
-            // Convert Integer to Boolean (1 = true, 0 = false)
-            salaryInfoDTO
-                    .setIsPfEligible(projection.getIs_pf_eligible() != null && projection.getIs_pf_eligible() == 1);
-            salaryInfoDTO
-                    .setIsEsiEligible(projection.getIs_esi_eligible() != null && projection.getIs_esi_eligible() == 1);
+            mapDecryptedSalary(projection, salaryInfoDTO);
 
         } catch (Exception e) {
             // Fallback: If native decryption query fails
@@ -1154,12 +1109,11 @@ public class EmpSalaryInfoService {
                     "Decryption query failed for payroll_id: {}, falling back to standard data retrieval. Error: {}",
                     payrollId, e.getMessage());
 
-            Employee employee = employeeRepository.findByPayRollId(payrollId)
+            empId = employeeIdResolver.findEmpIdByPayrollId(payrollId)
                     .orElseThrow(
                             () -> new ResourceNotFoundException("Employee not found with payroll_id: " + payrollId));
-
-            empId = employee.getEmp_id();
-            salaryInfoDTO.setTempPayrollId(employee.getTempPayrollId());
+            // The temp payroll ID no longer changes once the permanent one is assigned
+            salaryInfoDTO.setTempPayrollId(employeeIdResolver.findTempPayrollId(empId).orElse(null));
 
             EmpSalaryInfo empSalaryInfo = empSalaryInfoRepository.findByEmpIdAndIsActive(empId, 1)
                     .orElseThrow(() -> new ResourceNotFoundException(
@@ -1197,6 +1151,99 @@ public class EmpSalaryInfoService {
         return salaryInfoDTO;
     }
 
+    /**
+     * Decrypted salary info of many employees in one database call, for payroll
+     * review: either of the given payroll / temp payroll IDs, or of the active
+     * employees of a campus and/or department. Each DTO carries the IDs, the
+     * employee name and the salary fields; PF/ESI numbers and organization are
+     * left to the single-employee reads.
+     *
+     * There is no per-employee fallback: if fn_decrypt_sal cannot be called
+     * the error is returned rather than one query per employee.
+     *
+     * @throws IllegalArgumentException if neither IDs nor a filter are given,
+     *                                  or more than {@value #MAX_BULK_SALARY_IDS}
+     *                                  IDs are given or employees match the
+     *                                  filter
+     */
+    @Transactional(readOnly = true)
+    public List<SalaryInfoDTO> getSalaryInfoInBulk(List<String> payrollIds, Integer campusId, Integer departmentId) {
+        Stream<DecryptedSalaryInfoProjection> rows;
+        if (payrollIds != null) {
+            String[] ids = payrollIds.stream()
+                    .filter(id -> id != null && !id.trim().isEmpty())
+                    .map(String::trim)
+                    .distinct()
+                    .toArray(String[]::new);
+            if (ids.length == 0) {
+                return new ArrayList<>();
+            }
+            if (ids.length > MAX_BULK_SALARY_IDS) {
+                throw new IllegalArgumentException("At most " + MAX_BULK_SALARY_IDS + " payroll IDs per request");
+            }
+            rows = empSalaryInfoRepository.streamDecryptedByPayrollIds(ids);
+        } else if (campusId != null || departmentId != null) {
+            // One row over the cap tells a full result from a truncated one
+            rows = empSalaryInfoRepository.streamDecryptedByCampusAndDepartment(campusId, departmentId,
+                    MAX_BULK_SALARY_IDS + 1);
+        } else {
+            throw new IllegalArgumentException("payrollIds, campusId or departmentId is required");
+        }
+
+        List<SalaryInfoDTO> result = new ArrayList<>();
+        try (rows) {
+            rows.forEach(projection -> {
+                SalaryInfoDTO salaryInfoDTO = new SalaryInfoDTO();
+                salaryInfoDTO.setPayrollId(projection.getPayroll_id());
+                salaryInfoDTO.setTempPayrollId(projection.getTemp_payroll_id());
+                salaryInfoDTO.setEmployeeName(Stream.of(projection.getFirst_name(), projection.getLast_name())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.joining(" ")));
+                mapDecryptedSalary(projection, salaryInfoDTO);
+                result.add(salaryInfoDTO);
+            });
+        }
+        if (result.size() > MAX_BULK_SALARY_IDS) {
+            throw new IllegalArgumentException("More than " + MAX_BULK_SALARY_IDS
+                    + " employees match; narrow the filter or request by payroll IDs");
+        }
+        logger.info("Fetched salary info of {} employees in bulk", result.size());
+        return result;
+    }
+
+    /** Copies the decrypted salary fields and their names from the native query row. */
+    private void mapDecryptedSalary(DecryptedSalaryInfoProjection projection, SalaryInfoDTO salaryInfoDTO) {
+        // Map decrypted fields (handle null and parsing)
+        if (projection.getMonthly_take_home() != null) {
+            try {
+                salaryInfoDTO.setMonthlyTakeHome(Double.parseDouble(projection.getMonthly_take_home()));
+            } catch (NumberFormatException e) {
+                logger.error("Error parsing decrypted monthlyTakeHome: {}", projection.getMonthly_take_home());
+            }
+        }
+
+        salaryInfoDTO.setCtcWords(projection.getCtc_words());
+
+        if (projection.getYearly_ctc() != null) {
+            try {
+                salaryInfoDTO.setYearlyCtc(Double.parseDouble(projection.getYearly_ctc()));
+            } catch (NumberFormatException e) {
+                logger.error("Error parsing decrypted yearlyCtc: {}", projection.getYearly_ctc());
+            }
+        }
+
+        salaryInfoDTO.setEmpStructureId(projection.getEmp_structure_id());
+        salaryInfoDTO.setEmpStructureName(projection.getEmp_structure_name());
+        salaryInfoDTO.setGradeId(projection.getGrade_id());
+        salaryInfoDTO.setGradeName(projection.getGrade_name());
+        salaryInfoDTO.setCostCenterId(projection.getCost_center_id());
+        salaryInfoDTO.setCostCenterName(projection.getCost_center_name());
+
+        // Convert Integer to Boolean (1 = true, 0 = false)
+        salaryInfoDTO.setIsPfEligible(projection.getIs_pf_eligible() != null && projection.getIs_pf_eligible() == 1);
+        salaryInfoDTO.setIsEsiEligible(projection.getIs_esi_eligible() != null && projection.getIs_esi_eligible() == 1);
+    }
+
     private void populateRelatedSalaryInfo(SalaryInfoDTO salaryInfoDTO, Integer empId) {
         // Step 2: Get PF/ESI/UAN details from EmpPfDetails
         Optional<EmpPfDetails> empPfDetailsOpt = empPfDetailsRepository.findByEmployeeId(empId);
@@ -1368,6 +1415,7 @@ public class EmpSalaryInfoService {
         empPfDetails.setIs_active(1);
 
         empPfDetailsRepository.save(empPfDetails);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(empId, "salary-info"));
 
         populateRelatedSalaryInfo(salaryInfoDTO, empId);
         return salaryInfoDTO;
@@ -1480,6 +1528,7 @@ public class EmpSalaryInfoService {
 
         // Save employee updates (status, remarks)
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "salary-info"));
         logger.info("Successfully sent employee (emp_id: {}, temp_payroll_id: '{}') back to campus with remarks",
                 empId, backToCampusDTO.getTempPayrollId());
 
@@ -1519,6 +1568,7 @@ public class EmpSalaryInfoService {
         employee.setUpdated_date(LocalDateTime.now());
 
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "salary-info"));
         return dto;
     }
 
@@ -1683,6 +1733,7 @@ public class EmpSalaryInfoService {
             employeeRepository.save(employee);
             logger.info("Updated Organization (org_id: {}) for employee: {}", dto.getOrgId(), dto.getTempPayrollId());
         }
+        eventPublisher.publishEvent(new EmployeeChangedEvent(empId, "salary-info"));
 
         logger.info(
                 "Successfully saved salary and PF info at CO level for temp_payroll_id: {}. Employee status/checklist remains untouched.",
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -75,6 +76,12 @@ public class EmployeeBasicInfoTabService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeIdResolver employeeIdResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Autowired
     private QualificationRepository qualificationRepository;
 
@@ -256,6 +263,8 @@ public class EmployeeBasicInfoTabService {
             }
             // Step 5: Save to database ONLY after all validations pass
             employee = employeeRepository.save(employee);
+            employeeIdResolver.register(employee);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "basic-info"));
             logger.info("✅ Employee ID {} {} - proceeding with child entity saves",
                     isUpdate ? "updated" : "generated and consumed from sequence", employee.getEmp_id());
 
@@ -311,6 +320,7 @@ public class EmployeeBasicInfoTabService {
         try {
             // Step 2: Find employee (read-only operation)
             Employee employee = findEmployeeByTempPayrollId(tempPayrollId);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "address-info"));
 
             // Step 3: Save to database ONLY after all validations pass
             Integer createdBy = addressInfo.getCreatedBy();
@@ -350,6 +360,7 @@ public class EmployeeBasicInfoTabService {
         try {
             // Step 2: Find employee (read-only operation)
             Employee employee = findEmployeeByTempPayrollId(tempPayrollId);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "family-info"));
 
             // Step 3: Save to database ONLY after all validations pass
             Integer createdBy = familyInfo.getCreatedBy();
@@ -392,6 +403,7 @@ public class EmployeeBasicInfoTabService {
         try {
             // Step 2: Find employee (read-only operation)
             Employee employee = findEmployeeByTempPayrollId(tempPayrollId);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "previous-employer-info"));
 
             // Step 3: Save to database ONLY after all validations pass
             Integer createdBy = previousEmployerInfo.getCreatedBy();
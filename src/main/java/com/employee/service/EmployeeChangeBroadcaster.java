@@ -0,0 +1,146 @@
+package com.employee.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Carries {@link EmployeeChangedEvent}s to the other nodes of the cluster, so
+ * their per-employee caches ({@link EmployeeReadModelCache},
+ * {@link DocumentCompletenessService}) drop the employee as well.
+ *
+ * Each change is sent with pg_notify on the changing transaction's connection:
+ * PostgreSQL delivers it only if and when that transaction commits. Every node
+ * LISTENs on a dedicated connection outside the pool and evicts the employee
+ * from its caches; the sending node receives its own notification too, which
+ * is harmless. If the listening connection is lost, notifications may have
+ * been missed, so both caches are cleared when it reconnects.
+ *
+ * Only active on PostgreSQL (disabled on any other database, e.g. H2 in tests).
+ */
+@Service
+public class EmployeeChangeBroadcaster {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeBroadcaster.class);
+
+	static final String CHANNEL = "employee_changed";
+
+	private static final long RECONNECT_DELAY_MS = 5_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final DataSourceProperties dataSourceProperties;
+	private final EmployeeReadModelCache readModelCache;
+	private final DocumentCompletenessService documentCompletenessService;
+	private final boolean enabled;
+	private final int pollMs;
+
+	private volatile boolean running = true;
+	private Thread listener;
+
+	public EmployeeChangeBroadcaster(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+			EmployeeReadModelCache readModelCache, DocumentCompletenessService documentCompletenessService,
+			@Value("${employee.cache-invalidation.enabled:true}") boolean enabled,
+			@Value("${employee.cache-invalidation.poll-ms:1000}") int pollMs) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.dataSourceProperties = dataSourceProperties;
+		this.readModelCache = readModelCache;
+		this.documentCompletenessService = documentCompletenessService;
+		String url = dataSourceProperties.determineUrl();
+		this.enabled = enabled && url != null && url.startsWith("jdbc:postgresql:");
+		this.pollMs = Math.max(pollMs, 100);
+	}
+
+	/** Sends the change; inside a transaction it goes out when the transaction commits. */
+	@EventListener
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (!enabled) {
+			return;
+		}
+		// Identical notifications of one transaction are delivered once
+		jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, Integer.toString(event.empId()));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (!enabled) {
+			logger.info("Cross-node employee cache invalidation disabled (not on PostgreSQL)");
+			return;
+		}
+		listener = new Thread(this::listen, "employee-change-listener");
+		listener.setDaemon(true);
+		listener.start();
+	}
+
+	@PreDestroy
+	void stop() {
+		running = false;
+		if (listener != null) {
+			listener.interrupt();
+		}
+	}
+
+	private void listen() {
+		boolean reconnecting = false;
+		while (running) {
+			try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+					dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("LISTEN " + CHANNEL);
+				}
+				if (reconnecting) {
+					// Changes made while we were not listening were missed
+					readModelCache.evictAll();
+					documentCompletenessService.evictAll();
+					logger.info("Listening for employee changes again; employee caches cleared");
+				}
+				PGConnection pgConnection = connection.unwrap(PGConnection.class);
+				while (running) {
+					PGNotification[] notifications = pgConnection.getNotifications(pollMs);
+					if (notifications == null) {
+						continue;
+					}
+					for (PGNotification notification : notifications) {
+						evict(notification.getParameter());
+					}
+				}
+			} catch (SQLException e) {
+				if (!running) {
+					return;
+				}
+				logger.warn("Employee change listener lost its connection, retrying in {} ms: {}",
+						RECONNECT_DELAY_MS, e.getMessage());
+				reconnecting = true;
+				try {
+					Thread.sleep(RECONNECT_DELAY_MS);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private void evict(String payload) {
+		try {
+			int empId = Integer.parseInt(payload);
+			readModelCache.evict(empId);
+			documentCompletenessService.evict(empId);
+		} catch (NumberFormatException e) {
+			logger.warn("Ignoring employee change notification with payload '{}'", payload);
+		}
+	}
+}
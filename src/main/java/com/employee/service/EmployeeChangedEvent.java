@@ -0,0 +1,13 @@
+package com.employee.service;
+
+/**
+ * Published (through the ApplicationEventPublisher) by every service that
+ * writes an employee or one of the employee's child rows, so per-employee
+ * caches can drop what they hold for that emp_id. Listeners must also
+ * evict after the surrounding transaction commits.
+ *
+ * @param empId  the employee whose data changed
+ * @param change what was saved, for logging only (e.g. "bank-info")
+ */
+public record EmployeeChangedEvent(int empId, String change) {
+}
@@ -0,0 +1,199 @@
+package com.employee.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.employee.entity.Employee;
+import com.employee.repository.EmployeeIdentityProjection;
+import com.employee.repository.EmployeeRepository;
+
+/**
+ * Resolves payroll IDs and temp payroll IDs to emp_id (and back) without
+ * loading the Employee, for read paths that only need the key.
+ *
+ * Both directions are held in memory: warmed from sce_emp at startup, updated
+ * when an employee is saved with a new ID ({@link #register}, applied after the
+ * transaction commits), and filled from an index-only lookup on a miss. Misses
+ * are not cached, so an ID assigned on another node is found on first use. An
+ * ID that belongs to more than one row is never cached and resolves as not
+ * found, where findByPayRollId would have failed on the duplicate anyway.
+ */
+@Service
+public class EmployeeIdResolver {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeIdResolver.class);
+
+	private final EmployeeRepository employeeRepository;
+
+	private final Map<String, Integer> empIdByPayrollId = new ConcurrentHashMap<>();
+	private final Map<String, Integer> empIdByTempPayrollId = new ConcurrentHashMap<>();
+	private final Map<Integer, String> payrollIdByEmpId = new ConcurrentHashMap<>();
+	private final Map<Integer, String> tempPayrollIdByEmpId = new ConcurrentHashMap<>();
+
+	public EmployeeIdResolver(EmployeeRepository employeeRepository) {
+		this.employeeRepository = employeeRepository;
+	}
+
+	/** emp_id of the employee with this permanent payroll ID. */
+	public Optional<Integer> findEmpIdByPayrollId(String payrollId) {
+		if (isBlank(payrollId)) {
+			return Optional.empty();
+		}
+		Integer empId = empIdByPayrollId.get(payrollId);
+		if (empId != null) {
+			return Optional.of(empId);
+		}
+		return lookup(() -> employeeRepository.findIdentityByPayrollId(payrollId), payrollId);
+	}
+
+	/** emp_id of the employee with this temp payroll ID. */
+	public Optional<Integer> findEmpIdByTempPayrollId(String tempPayrollId) {
+		if (isBlank(tempPayrollId)) {
+			return Optional.empty();
+		}
+		Integer empId = empIdByTempPayrollId.get(tempPayrollId);
+		if (empId != null) {
+			return Optional.of(empId);
+		}
+		return lookup(() -> employeeRepository.findIdentityByTempPayrollId(tempPayrollId), tempPayrollId);
+	}
+
+	/** emp_id for an ID that may be either kind; the temp payroll ID is tried first. */
+	public Optional<Integer> findEmpIdByAnyPayrollId(String id) {
+		if (isBlank(id)) {
+			return Optional.empty();
+		}
+		// Both maps before any query, so a cached permanent ID costs no temp ID lookup
+		Integer empId = empIdByTempPayrollId.getOrDefault(id, empIdByPayrollId.get(id));
+		if (empId != null) {
+			return Optional.of(empId);
+		}
+		Optional<Integer> byTemp = findEmpIdByTempPayrollId(id);
+		return byTemp.isPresent() ? byTemp : findEmpIdByPayrollId(id);
+	}
+
+	/** Permanent payroll ID of the employee, if it is known here. */
+	public Optional<String> findPayrollId(int empId) {
+		return Optional.ofNullable(payrollIdByEmpId.get(empId));
+	}
+
+	/** Temp payroll ID of the employee, if it is known here. */
+	public Optional<String> findTempPayrollId(int empId) {
+		return Optional.ofNullable(tempPayrollIdByEmpId.get(empId));
+	}
+
+	/**
+	 * Records the employee's current IDs once the surrounding transaction
+	 * commits (at once if there is none). Call after saving an employee whose
+	 * payroll ID or temp payroll ID may have been assigned or changed.
+	 */
+	public void register(Employee employee) {
+		int empId = employee.getEmp_id();
+		String payrollId = employee.getPayRollId();
+		String tempPayrollId = employee.getTempPayrollId();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			put(empId, payrollId, tempPayrollId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				put(empId, payrollId, tempPayrollId);
+			}
+		});
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warm() {
+		long start = System.currentTimeMillis();
+		List<EmployeeIdentityProjection> identities;
+		try {
+			identities = employeeRepository.findAllIdentities();
+		} catch (Exception e) {
+			logger.warn("Could not warm the employee ID cache (IDs resolve from the database): {}", e.getMessage());
+			return;
+		}
+		Set<String> duplicatePayrollIds = new HashSet<>();
+		Set<String> duplicateTempPayrollIds = new HashSet<>();
+		for (EmployeeIdentityProjection identity : identities) {
+			int empId = identity.getEmpId();
+			// putIfAbsent: an ID registered while the query ran is newer than the snapshot
+			cacheKey(empIdByPayrollId, identity.getPayrollId(), empId, duplicatePayrollIds);
+			cacheKey(empIdByTempPayrollId, identity.getTempPayrollId(), empId, duplicateTempPayrollIds);
+			if (identity.getPayrollId() != null) {
+				payrollIdByEmpId.putIfAbsent(empId, identity.getPayrollId());
+			}
+			if (identity.getTempPayrollId() != null) {
+				tempPayrollIdByEmpId.putIfAbsent(empId, identity.getTempPayrollId());
+			}
+		}
+		duplicatePayrollIds.forEach(empIdByPayrollId::remove);
+		duplicateTempPayrollIds.forEach(empIdByTempPayrollId::remove);
+		if (!duplicatePayrollIds.isEmpty() || !duplicateTempPayrollIds.isEmpty()) {
+			logger.warn("Payroll IDs used by more than one employee are not cached: {} {}", duplicatePayrollIds,
+					duplicateTempPayrollIds);
+		}
+		logger.info("Employee ID cache warmed with {} employees in {} ms", identities.size(),
+				System.currentTimeMillis() - start);
+	}
+
+	private Optional<Integer> lookup(Supplier<Optional<EmployeeIdentityProjection>> query, String id) {
+		try {
+			Optional<EmployeeIdentityProjection> identity = query.get();
+			identity.ifPresent(found -> put(found.getEmpId(), found.getPayrollId(), found.getTempPayrollId()));
+			return identity.map(EmployeeIdentityProjection::getEmpId);
+		} catch (IncorrectResultSizeDataAccessException e) {
+			logger.warn("Payroll ID {} belongs to more than one employee", id);
+			return Optional.empty();
+		}
+	}
+
+	private void put(int empId, String payrollId, String tempPayrollId) {
+		String oldPayrollId = replace(payrollIdByEmpId, empId, payrollId);
+		if (oldPayrollId != null && !oldPayrollId.equals(payrollId)) {
+			empIdByPayrollId.remove(oldPayrollId, empId);
+		}
+		String oldTempPayrollId = replace(tempPayrollIdByEmpId, empId, tempPayrollId);
+		if (oldTempPayrollId != null && !oldTempPayrollId.equals(tempPayrollId)) {
+			empIdByTempPayrollId.remove(oldTempPayrollId, empId);
+		}
+		if (payrollId != null) {
+			empIdByPayrollId.put(payrollId, empId);
+		}
+		if (tempPayrollId != null) {
+			empIdByTempPayrollId.put(tempPayrollId, empId);
+		}
+	}
+
+	private static String replace(Map<Integer, String> idByEmpId, int empId, String id) {
+		return id != null ? idByEmpId.put(empId, id) : idByEmpId.remove(empId);
+	}
+
+	private static void cacheKey(Map<String, Integer> empIdById, String id, int empId, Set<String> duplicates) {
+		if (id == null) {
+			return;
+		}
+		Integer existing = empIdById.putIfAbsent(id, empId);
+		if (existing != null && existing != empId) {
+			duplicates.add(id);
+		}
+	}
+
+	private static boolean isBlank(String id) {
+		return id == null || id.isBlank();
+	}
+}
@@ -6,7 +6,7 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +35,12 @@ public class EmployeeOnboardingService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeIdResolver employeeIdResolver;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Autowired
     private EmpDetailsRepository empDetailsRepository;
 
@@ -56,8 +62,8 @@ public class EmployeeOnboardingService {
     @Autowired
     private CampusRepository campusRepository;
 
-    @Value("${spring.datasource.url}")
-    private String dbUrl;
+    @Autowired
+    private TempPayrollIdAllocator tempPayrollIdAllocator;
 
     @Transactional
     public TempPayrollIdResponseDTO generateOrValidateTempPayrollId(Integer hrEmployeeId, BasicInfoDTO basicInfo) {
@@ -267,52 +273,10 @@ public class EmployeeOnboardingService {
             logger.info(
                     "Employee NOT found in SkillTestDetails, Employee, or EmpDetails tables. Generating new tempPayrollId...");
 
-            String maxInSkillTest = skillTestDetailsRepository.findMaxTempPayrollIdByKey(baseKey + "%");
-            String maxInEmployee = employeeRepository.findMaxTempPayrollIdByKey(baseKey + "%");
-
-            logger.info("Max tempPayrollId in SkillTestDetails: {}", maxInSkillTest);
-            logger.info("Max tempPayrollId in Employee: {}", maxInEmployee);
-
-            int maxValue = 0;
-
-            if (maxInSkillTest != null) {
-                try {
-                    String numberPart = maxInSkillTest.substring(baseKey.length());
-                    int value = Integer.parseInt(numberPart);
-                    if (value > maxValue) {
-                        maxValue = value;
-                    }
-                } catch (NumberFormatException e) {
-                    logger.warn("Could not parse number part from SkillTestDetails: {}", maxInSkillTest);
-                }
-            }
-
-            if (maxInEmployee != null) {
-                try {
-                    String numberPart = maxInEmployee.substring(baseKey.length());
-                    int value = Integer.parseInt(numberPart);
-                    if (value > maxValue) {
-                        maxValue = value;
-                    }
-                } catch (NumberFormatException e) {
-                    logger.warn("Could not parse number part from Employee: {}", maxInEmployee);
-                }
-            }
-
-            int nextValue = maxValue + 1;
-
-            // QA Server Sequence Start Logic: if on QA (DB URL contains '20.21'),
-            // ensure temp IDs start from 10001 (same logic as SkillTestDetailsService)
-            if (dbUrl != null && dbUrl.contains("20.21")) {
-                if (nextValue < 10001) {
-                    nextValue = 10001;
-                }
-            }
-
-            String paddedValue = String.format("%04d", nextValue);
-            finalTempPayrollId = baseKey + paddedValue;
+            // Served from this node's reserved block; unique across nodes
+            finalTempPayrollId = tempPayrollIdAllocator.nextTempPayrollId(campusCodeInt);
 
-            logger.info("Generated new tempPayrollId: {} (next value: {})", finalTempPayrollId, nextValue);
+            logger.info("Generated new tempPayrollId: {}", finalTempPayrollId);
         }
 
         logger.info("✅ All validations passed. Proceeding with entity preparation and database save...");
@@ -363,6 +327,8 @@ public class EmployeeOnboardingService {
 
         // Save to database ONLY after all validations pass
         employee = employeeRepository.save(employee);
+        employeeIdResolver.register(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "onboarding"));
 
         Integer employeeId = employee.getEmp_id();
 
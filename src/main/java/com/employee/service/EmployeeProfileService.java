@@ -0,0 +1,276 @@
+package com.employee.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.dto.EmployeeProfileDTO;
+import com.employee.entity.Employee;
+import com.employee.exception.ResourceNotFoundException;
+import com.employee.exception.ServiceUnavailableException;
+import com.employee.repository.EmployeeRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Builds an employee's whole HR profile in one call instead of one request per
+ * section.
+ *
+ * The payroll ID is resolved to emp_id once ({@link EmployeeIdResolver});
+ * every section then gets that payroll ID and a reference to the employee (no
+ * payroll ID lookup of its own, and no query at all for sections that only
+ * need emp_id) and runs on the profile worker pool in its own read-only
+ * transaction, so the profile takes about as long as its slowest section.
+ * Each section gets deadline-ms from the moment it starts running, so time
+ * spent queued behind other requests does not count against it. Sections
+ * still running at their deadline are cancelled and reported in errors, as
+ * are sections that throw; the rest of the profile is returned regardless.
+ *
+ * The pool is shared by all requests and bounded by
+ * employee.profile.concurrency, which caps the database connections profile
+ * loads can hold at once (keep it below the Hikari pool size). At most
+ * employee.profile.queue-capacity sections wait for a worker; a request that
+ * does not fit is rejected with 503 instead of queueing without bound.
+ */
+@Service
+public class EmployeeProfileService {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeProfileService.class);
+
+	/** Loads a section from the employee reference and its payroll ID. */
+	private record Section<T>(BiFunction<Employee, String, T> loader, BiConsumer<EmployeeProfileDTO, T> setter) {
+
+		@SuppressWarnings("unchecked")
+		void apply(EmployeeProfileDTO profile, Object value) {
+			setter.accept(profile, (T) value);
+		}
+	}
+
+	private final EmployeeRepository employeeRepository;
+	private final EmployeeIdResolver employeeIdResolver;
+	private final TransactionTemplate readOnlyTransaction;
+	private final long deadlineMs;
+	private final ThreadPoolExecutor workers;
+	private final ScheduledExecutorService deadlines;
+	private final Map<String, Section<?>> sections = new LinkedHashMap<>();
+
+	public EmployeeProfileService(EmployeeRepository employeeRepository, EmployeeIdResolver employeeIdResolver,
+			HREmpDetlService hrEmpDetlService,
+			GetEmpDetailsService getEmpDetailsService, EmpSalaryInfoService empSalaryInfoService,
+			PlatformTransactionManager transactionManager,
+			@Value("${employee.profile.concurrency:6}") int concurrency,
+			@Value("${employee.profile.deadline-ms:3000}") long deadlineMs,
+			@Value("${employee.profile.queue-capacity:44}") int queueCapacity) {
+		if (concurrency < 1 || deadlineMs < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException(
+					"employee.profile concurrency, deadline-ms and queue-capacity must be at least 1");
+		}
+		this.employeeRepository = employeeRepository;
+		this.employeeIdResolver = employeeIdResolver;
+		this.deadlineMs = deadlineMs;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+		// Statements still running after the deadline are cancelled by the driver
+		readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(deadlineMs + 999)));
+		this.workers = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), workerThreadFactory("profile-loader-"));
+		this.deadlines = Executors.newSingleThreadScheduledExecutor(workerThreadFactory("profile-deadline-"));
+
+		payrollSection("basicInfo", id -> hrEmpDetlService.getBasicInfoByPayrollId(id).orElse(null),
+				EmployeeProfileDTO::setBasicInfo);
+		payrollSection("profile", id -> getEmpDetailsService.getProfileByPayrollId(id).orElse(null),
+				EmployeeProfileDTO::setProfile);
+		section("currentInfo", hrEmpDetlService::getCurrentInfo, EmployeeProfileDTO::setCurrentInfo);
+		section("campusInfo", hrEmpDetlService::getEmployeeCampusInfo, EmployeeProfileDTO::setCampusInfo);
+		section("manager", hrEmpDetlService::getManagerDetails, EmployeeProfileDTO::setManager);
+		section("reference", hrEmpDetlService::getReferenceDetails, EmployeeProfileDTO::setReference);
+		section("hiredBy", hrEmpDetlService::getHiredByDetails, EmployeeProfileDTO::setHiredBy);
+		section("reportingManager", hrEmpDetlService::getReportingManagerDetails,
+				EmployeeProfileDTO::setReportingManager);
+		section("family", hrEmpDetlService::getFamilyMembers, EmployeeProfileDTO::setFamily);
+		section("familyInOrganization", hrEmpDetlService::getFamilyMembersInOrganization,
+				EmployeeProfileDTO::setFamilyInOrganization);
+		payrollSection("addresses", hrEmpDetlService::getAddressByPayrollIdGrouped,
+				EmployeeProfileDTO::setAddresses);
+		payrollSection("bankContacts", hrEmpDetlService::getBankContactsByPayrollId,
+				EmployeeProfileDTO::setBankContacts);
+		section("bankDetails", hrEmpDetlService::getBankDetails, EmployeeProfileDTO::setBankDetails);
+		section("experience", hrEmpDetlService::getEmployeeExperience, EmployeeProfileDTO::setExperience);
+		section("agreement", hrEmpDetlService::getChequeDetails, EmployeeProfileDTO::setAgreement);
+		section("qualificationNames", hrEmpDetlService::getQualificationNames,
+				EmployeeProfileDTO::setQualificationNames);
+		payrollSection("qualifications", hrEmpDetlService::getQualificationsByPayrollId,
+				EmployeeProfileDTO::setQualifications);
+		section("educationalDocuments", hrEmpDetlService::getEducationalDocumentsStatus,
+				EmployeeProfileDTO::setEducationalDocuments);
+		section("idProofDocuments", hrEmpDetlService::getIdProofDocumentsStatus,
+				EmployeeProfileDTO::setIdProofDocuments);
+		section("specificDocuments", hrEmpDetlService::getSpecificDocumentsStatus,
+				EmployeeProfileDTO::setSpecificDocuments);
+		section("pfEsi", getEmpDetailsService::getPfEsiDetails, EmployeeProfileDTO::setPfEsi);
+		payrollSection("salary", empSalaryInfoService::getSalaryInfoByPayrollIdAsDTO,
+				EmployeeProfileDTO::setSalary);
+	}
+
+	private <T> void section(String name, Function<Employee, T> loader, BiConsumer<EmployeeProfileDTO, T> setter) {
+		sections.put(name, new Section<>((employee, payrollId) -> loader.apply(employee), setter));
+	}
+
+	/** A section queried by payroll ID; it does not touch the employee row. */
+	private <T> void payrollSection(String name, Function<String, T> loader, BiConsumer<EmployeeProfileDTO, T> setter) {
+		sections.put(name, new Section<>((employee, payrollId) -> loader.apply(payrollId), setter));
+	}
+
+	/** Names accepted in the sections parameter, in response order. */
+	public List<String> sectionNames() {
+		return List.copyOf(sections.keySet());
+	}
+
+	/**
+	 * Loads the requested sections (all if none are given) of the employee's
+	 * profile.
+	 *
+	 * @throws IllegalArgumentException  if a section name is unknown
+	 * @throws ResourceNotFoundException if no employee has the payroll ID
+	 * @throws ServiceUnavailableException if the worker queue has no room for the sections
+	 */
+	public EmployeeProfileDTO getProfile(String payrollId, Collection<String> requested) {
+		long start = System.nanoTime();
+		List<String> names = resolveSections(requested);
+
+		int empId = employeeIdResolver.findEmpIdByPayrollId(payrollId)
+				.orElseThrow(() -> new ResourceNotFoundException("Employee not found for payrollId: " + payrollId));
+
+		List<SectionTask> tasks = new ArrayList<>(names.size());
+		try {
+			for (String name : names) {
+				Section<?> section = sections.get(name);
+				SectionTask task = new SectionTask(() -> readOnlyTransaction.execute(status -> {
+					// A reference only: the row is read (by primary key) if the section needs its columns
+					Employee employee = employeeRepository.getReferenceById(empId);
+					return section.loader().apply(employee, payrollId);
+				}));
+				workers.execute(task);
+				tasks.add(task);
+			}
+		} catch (RejectedExecutionException e) {
+			cancelAll(tasks);
+			throw new ServiceUnavailableException("Too many profile loads in progress; retry shortly");
+		}
+
+		EmployeeProfileDTO profile = new EmployeeProfileDTO();
+		profile.setPayrollId(payrollId);
+		profile.setSections(names);
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i);
+			try {
+				// Returns once the section finished or was cancelled at its deadline
+				sections.get(name).apply(profile, tasks.get(i).get());
+			} catch (CancellationException e) {
+				profile.getErrors().put(name, "Not loaded within " + deadlineMs + " ms");
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause() != null ? e.getCause() : e;
+				// The cause may carry SQL or driver text; keep it in the log only
+				profile.getErrors().put(name, "Could not be loaded");
+				logger.warn("Profile section {} of {} failed", name, payrollId, cause);
+			} catch (InterruptedException e) {
+				cancelAll(tasks);
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while loading profile of " + payrollId, e);
+			}
+		}
+		profile.setLoadMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		if (!profile.getErrors().isEmpty()) {
+			logger.info("Profile of {} loaded in {} ms with {} of {} sections missing: {}", payrollId,
+					profile.getLoadMillis(), profile.getErrors().size(), names.size(), profile.getErrors().keySet());
+		}
+		return profile;
+	}
+
+	private List<String> resolveSections(Collection<String> requested) {
+		if (requested == null || requested.isEmpty()) {
+			return sectionNames();
+		}
+		Set<String> names = new LinkedHashSet<>();
+		for (String name : requested) {
+			if (name == null || name.isBlank()) {
+				continue;
+			}
+			if (!sections.containsKey(name.trim())) {
+				throw new IllegalArgumentException("Unknown profile section '" + name.trim() + "'; expected one of "
+						+ sections.keySet());
+			}
+			names.add(name.trim());
+		}
+		return names.isEmpty() ? sectionNames() : List.copyOf(names);
+	}
+
+	/** Cancels the tasks and frees the queue slots of those not started yet. */
+	private void cancelAll(List<SectionTask> tasks) {
+		for (SectionTask task : tasks) {
+			task.cancel(true);
+			workers.remove(task);
+		}
+	}
+
+	/** A section load whose deadline starts when a worker picks it up. */
+	private final class SectionTask extends FutureTask<Object> {
+
+		SectionTask(Callable<Object> load) {
+			super(load);
+		}
+
+		@Override
+		public void run() {
+			// Cancelling interrupts the worker; the statement itself is bounded by the transaction timeout
+			ScheduledFuture<?> deadline = deadlines.schedule(() -> cancel(true), deadlineMs, TimeUnit.MILLISECONDS);
+			try {
+				super.run();
+			} finally {
+				deadline.cancel(false);
+			}
+		}
+	}
+
+	private static ThreadFactory workerThreadFactory(String prefix) {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+		deadlines.shutdownNow();
+	}
+}
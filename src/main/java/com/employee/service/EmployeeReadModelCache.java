@@ -0,0 +1,113 @@
+package com.employee.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.employee.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Per-employee read model of the profile / detail sections served by
+ * {@link GetEmpDetailsService}: one entry per emp_id, holding the DTO of each
+ * section that has been read since the employee last changed.
+ *
+ * All sections of an employee are dropped on {@link EmployeeChangedEvent},
+ * which the tab-save, salary, central office and manager mapping services
+ * publish, both at once and after the transaction commits. A section loaded
+ * while any employee was being invalidated is returned but not stored, so a
+ * read that saw the data before a commit cannot outlive it. Sections are not
+ * stored from inside a read-write transaction (uncommitted data).
+ *
+ * Names of other employees shown in a section (manager, replacement, hired
+ * by, family member's employee record) are refreshed when the entry expires.
+ * Changes made on other nodes arrive through {@link EmployeeChangeBroadcaster}.
+ */
+@Service
+public class EmployeeReadModelCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeReadModelCache.class);
+
+	public enum Section {
+		WORKING_INFO, HIGHEST_QUALIFICATION, FAMILY_WITH_ADDRESS, BASIC_INFO, PF_ESI, BANK_DETAILS, AGREEMENT_CHEQUES
+	}
+
+	private final Cache<Object, Object> sectionsByEmpId;
+
+	/** Bumped before every eviction; a load that straddles a bump is not stored. */
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public EmployeeReadModelCache(CacheManager cacheManager) {
+		this.sectionsByEmpId = ((CaffeineCache) cacheManager.getCache(CacheConfig.EMPLOYEE_READ_MODEL_CACHE))
+				.getNativeCache();
+	}
+
+	/**
+	 * The employee's section from memory, else from the loader. Exceptions and
+	 * null results of the loader are passed through and not cached.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(int empId, Section section, Supplier<T> loader) {
+		Map<Section, Object> sections = (Map<Section, Object>) sectionsByEmpId.getIfPresent(empId);
+		Object cached = sections != null ? sections.get(section) : null;
+		if (cached != null) {
+			return (T) cached;
+		}
+		long before = invalidations.get();
+		T value = loader.get();
+		if (value == null || !cacheable()) {
+			return value;
+		}
+		sectionsByEmpId.asMap().compute(empId, (key, current) -> {
+			if (invalidations.get() != before) {
+				return current;
+			}
+			Map<Section, Object> updated = current != null ? (Map<Section, Object>) current
+					: new ConcurrentHashMap<>();
+			updated.put(section, value);
+			return updated;
+		});
+		return value;
+	}
+
+	@EventListener
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		evict(event.empId());
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict(event.empId());
+				}
+			});
+		}
+		logger.debug("Read model of emp_id {} invalidated ({})", event.empId(), event.change());
+	}
+
+	/** Drops all sections of the employee. */
+	public void evict(int empId) {
+		invalidations.incrementAndGet();
+		sectionsByEmpId.invalidate(empId);
+	}
+
+	/** Drops every employee, e.g. after changes on other nodes may have been missed. */
+	public void evictAll() {
+		invalidations.incrementAndGet();
+		sectionsByEmpId.invalidateAll();
+	}
+
+	private static boolean cacheable() {
+		return !TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+}
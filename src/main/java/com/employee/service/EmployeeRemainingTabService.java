@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -92,6 +93,9 @@ public class EmployeeRemainingTabService {
     @Autowired
     private EmpDocumentsRepository empDocumentsRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Autowired
     private EmpDocTypeRepository empDocTypeRepository;
 
@@ -171,6 +175,7 @@ public class EmployeeRemainingTabService {
         try {
             // Step 2: Find employee (read-only operation)
             Employee employee = findEmployeeByTempPayrollId(tempPayrollId);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "qualification"));
 
             // Step 3: Prepare entities in memory (NO database writes yet)
             Integer createdBy = qualification.getCreatedBy();
@@ -218,6 +223,7 @@ public class EmployeeRemainingTabService {
         try {
             // Step 2: Find employee (read-only operation)
             Employee employee = findEmployeeByTempPayrollId(tempPayrollId);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "documents"));
 
             // Step 3: Prepare entities in memory (NO database writes yet)
             Integer createdBy = documents.getCreatedBy();
@@ -260,6 +266,7 @@ public class EmployeeRemainingTabService {
         try {
             // Step 2: Find employee (read-only operation)
             Employee employee = findEmployeeByTempPayrollId(tempPayrollId);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "category-info"));
 
             // Step 3: Prepare updates in memory (NO database writes yet)
             Integer createdBy = categoryInfo.getCreatedBy();
@@ -305,6 +312,7 @@ public class EmployeeRemainingTabService {
         try {
             // Step 2: Find employee (read-only operation)
             Employee employee = findEmployeeByTempPayrollId(tempPayrollId);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "bank-info"));
 
             // Step 3: Prepare entities in memory (NO database writes yet)
             Integer createdBy = bankInfo.getCreatedBy();
@@ -356,6 +364,7 @@ public class EmployeeRemainingTabService {
         try {
             // Step 2: Find employee (read-only operation)
             Employee employee = findEmployeeByTempPayrollId(tempPayrollId);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "agreement-info"));
 
             // Step 3: Prepare updates in memory (NO database writes yet)
             // Safely extract fields from DTO (handle null DTO)
@@ -455,6 +464,7 @@ public class EmployeeRemainingTabService {
         changeStatusToPendingAtDO(employee, updatedBy);
         employee.setRemarks(null);
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "pending-at-do"));
 
         logger.info("Successfully changed employee {} status to Pending at DO and cleared remarks.", tempPayrollId);
         return "Employee status changed to Pending at DO successfully.";
@@ -760,6 +770,7 @@ public class EmployeeRemainingTabService {
 
         // Save employee updates (org_id, status, and cleared remarks)
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(empId, "forward-to-do"));
 
         logger.info("✅ Successfully forwarded employee (emp_id: {}, temp_payroll_id: '{}') to Divisional Office",
                 empId, tempPayrollId);
@@ -0,0 +1,102 @@
+package com.employee.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.employee.dto.EmpExamDataDTO;
+import com.employee.dto.ExamResultDTO;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+
+/**
+ * Calls to the external exam platform: saveEmpBioDetails (push candidate bio
+ * data) and getEmpTestResult (pull exam results).
+ *
+ * Each endpoint has its own circuit breaker and bulkhead, configured under
+ * resilience4j.*.instances.examBioApi / examResultApi, so a slow or failing
+ * endpoint cannot tie up every caller and callers fail fast with
+ * CallNotPermittedException while the remote API is down. Only the idempotent
+ * result GET is retried, with jittered exponential backoff. Breaker, bulkhead
+ * and retry metrics are published by the resilience4j Micrometer binding;
+ * latency and status by http.client.requests (IDs are passed as URI variables
+ * so the uri tag stays one value per endpoint).
+ */
+@Component
+public class ExamApiClient {
+
+	public static final String BIO_API = "examBioApi";
+	public static final String RESULT_API = "examResultApi";
+
+
+	// Credentials from Email
+	private static final String API_USERNAME = "ScaitsQB";
+	private static final String API_PASSWORD = "QBemp$est";
+
+	private final RestTemplate restTemplate;
+	private final String saveEmpUrl;
+	private final String fetchResultUrl;
+	private final CircuitBreaker bioBreaker;
+	private final Bulkhead bioBulkhead;
+	private final CircuitBreaker resultBreaker;
+	private final Bulkhead resultBulkhead;
+	private final Retry resultRetry;
+
+	public ExamApiClient(RestTemplate examApiRestTemplate, CircuitBreakerRegistry circuitBreakerRegistry,
+			BulkheadRegistry bulkheadRegistry, RetryRegistry retryRegistry,
+			@Value("${employee.exam-api.base-url:https://testreportsapi.scaits.net/scaits}") String baseUrl) {
+		this.restTemplate = examApiRestTemplate;
+		this.saveEmpUrl = baseUrl + "/saveEmpBioDetails";
+		this.fetchResultUrl = baseUrl + "/getEmpTestResult";
+		this.bioBreaker = circuitBreakerRegistry.circuitBreaker(BIO_API);
+		this.bioBulkhead = bulkheadRegistry.bulkhead(BIO_API);
+		this.resultBreaker = circuitBreakerRegistry.circuitBreaker(RESULT_API);
+		this.resultBulkhead = bulkheadRegistry.bulkhead(RESULT_API);
+		this.resultRetry = retryRegistry.retry(RESULT_API);
+	}
+
+	/**
+	 * Pushes candidate bio data and returns the response body. Not retried: the
+	 * remote save is not known to be idempotent.
+	 */
+	public String saveEmpBioDetails(String empId, EmpExamDataDTO employeeData) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.setBasicAuth(API_USERNAME, API_PASSWORD);
+		HttpEntity<EmpExamDataDTO> requestEntity = new HttpEntity<>(employeeData, headers);
+
+		Supplier<String> call = () -> restTemplate
+				.exchange(saveEmpUrl + "?empId={empId}", HttpMethod.POST, requestEntity, String.class, empId)
+				.getBody();
+		return CircuitBreaker.decorateSupplier(bioBreaker, Bulkhead.decorateSupplier(bioBulkhead, call)).get();
+	}
+
+	/**
+	 * Fetches the exam result of a candidate. A candidate who has not attempted
+	 * the exam yet surfaces as HttpClientErrorException.UnprocessableEntity (422),
+	 * which neither trips the breaker nor is retried.
+	 */
+	public ExamResultDTO getEmpTestResult(String payrollId) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		HttpEntity<String> requestEntity = new HttpEntity<>(headers);
+
+		Supplier<ExamResultDTO> call = () -> restTemplate
+				.exchange(fetchResultUrl + "?empPayrollId={payrollId}", HttpMethod.GET, requestEntity,
+						ExamResultDTO.class, payrollId)
+				.getBody();
+		return Retry.decorateSupplier(resultRetry,
+				CircuitBreaker.decorateSupplier(resultBreaker, Bulkhead.decorateSupplier(resultBulkhead, call))).get();
+	}
+}
@@ -0,0 +1,83 @@
+package com.employee.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.employee.repository.ExamPollCandidateProjection;
+import com.employee.repository.SkillTestPollStateRepository;
+
+/**
+ * Decides which skill test candidates the exam-result harvest polls, based on
+ * the poll state kept in sce_skill_test_poll_state.
+ *
+ * A candidate that answers 422 ("not attempted") waits base, 2 x base,
+ * 4 x base ... up to the cap before it is polled again. Transport failures do
+ * not count as 422s and are retried on the next run. A successful push through
+ * syncEmployeeFromDb resets the wait and moves the candidate to the front.
+ */
+@Service
+public class ExamPollStateService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExamPollStateService.class);
+
+	private final SkillTestPollStateRepository pollStateRepository;
+	private final Duration backoffBase;
+	private final Duration backoffMax;
+
+	public ExamPollStateService(SkillTestPollStateRepository pollStateRepository,
+			@Value("${employee.exam-harvest.backoff-base-minutes:60}") long backoffBaseMinutes,
+			@Value("${employee.exam-harvest.backoff-max-minutes:1440}") long backoffMaxMinutes) {
+		this.pollStateRepository = pollStateRepository;
+		this.backoffBase = Duration.ofMinutes(backoffBaseMinutes);
+		this.backoffMax = Duration.ofMinutes(Math.max(backoffMaxMinutes, backoffBaseMinutes));
+	}
+
+	/** Candidates due for a poll now, highest priority first. */
+	public List<ExamPollCandidateProjection> findDueCandidates() {
+		return pollStateRepository.findDueForPoll(LocalDateTime.now());
+	}
+
+	/** Stores the outcome of one poll and schedules the next one. */
+	public void recordPoll(ExamPollCandidateProjection candidate, ExamResultHarvester.Outcome outcome) {
+		LocalDateTime now = LocalDateTime.now();
+		int notAttempted = candidate.getConsecutiveNotAttempted() != null ? candidate.getConsecutiveNotAttempted() : 0;
+		LocalDateTime nextEligibleAt = null;
+		switch (outcome) {
+			case NOT_ATTEMPTED -> {
+				notAttempted++;
+				nextEligibleAt = now.plus(backoffFor(notAttempted));
+			}
+			case FETCHED -> notAttempted = 0;
+			case FAILED -> {
+				// Not the candidate's fault: keep the 422 streak, retry on the next run
+			}
+		}
+		try {
+			pollStateRepository.recordPoll(candidate.getSkillTestDetlId(), now, notAttempted, nextEligibleAt);
+		} catch (Exception e) {
+			logger.warn("Could not record exam poll state for {}: {}", candidate.getTempPayrollId(), e.getMessage());
+		}
+	}
+
+	/** Marks a candidate as just pushed to the exam platform. */
+	public void recordSync(Integer skillTestDetlId) {
+		try {
+			pollStateRepository.recordSync(skillTestDetlId, LocalDateTime.now());
+		} catch (Exception e) {
+			logger.warn("Could not record exam sync state for skill test {}: {}", skillTestDetlId, e.getMessage());
+		}
+	}
+
+	/** Wait after the given number of consecutive 422 answers: base * 2^(n-1), capped. */
+	Duration backoffFor(int consecutiveNotAttempted) {
+		int doublings = Math.min(Math.max(consecutiveNotAttempted - 1, 0), 30);
+		Duration wait = backoffBase.multipliedBy(1L << doublings);
+		return wait.compareTo(backoffMax) > 0 ? backoffMax : wait;
+	}
+}
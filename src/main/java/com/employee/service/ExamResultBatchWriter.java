@@ -0,0 +1,318 @@
+package com.employee.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.dto.ExamResultDTO;
+import com.employee.entity.SkillTestDetails;
+import com.employee.repository.SkillTestApprovalStatusRepository;
+import com.employee.repository.SkillTestDetailsRepository;
+import com.employee.repository.SkillTestResultRepository;
+
+/**
+ * Persists exam results from the exam platform (harvest and webhook) in chunks.
+ *
+ * Saving is idempotent on (payroll ID, exam date): only a result newer than
+ * the candidate's active result replaces it. One dated on or before the active
+ * result (a redelivery, or a late delivery of an older exam) is skipped and
+ * counted as stale, so it can never displace a newer, possibly approved,
+ * result. A result without a valid exam date is skipped and counted as
+ * invalid: the date is part of that key, so it is never invented. Per chunk: one query locks the SkillTestDetails rows (so a webhook
+ * delivery and a harvest cannot both insert for one candidate), one reads the
+ * active results' exam dates, then replaced results are deactivated
+ * and the new rows inserted as JDBC batches, all in one transaction. sce_skill_test_result uses an identity key,
+ * which Hibernate cannot batch, hence plain JDBC for the writes.
+ */
+@Service
+public class ExamResultBatchWriter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExamResultBatchWriter.class);
+
+	// "Skill Test Approval"
+	private static final int INITIAL_APPROVAL_STATUS_ID = 1;
+	private static final int SYSTEM_USER_ID = 1;
+
+	private static final DateTimeFormatter EXAM_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+			.withResolverStyle(ResolverStyle.STRICT);
+
+	private static final String DEACTIVATE_SQL = "UPDATE sce_employee.sce_skill_test_result "
+			+ "SET is_active = 0, updated_by = :updatedBy, updated_date = now() "
+			+ "WHERE skill_test_detl_id = :skillTestDetlId AND is_active = 1";
+
+	private static final String INSERT_SQL = "INSERT INTO sce_employee.sce_skill_test_result "
+			+ "(skill_test_detl_id, emp_name, exam_date, no_of_question, no_of_ques_attempt, no_of_ques_unattempt, "
+			+ "no_of_ques_correct, no_of_ques_wrong, total_marks, is_active, created_by, skill_test_approval_status_id) "
+			+ "VALUES (:skillTestDetlId, :empName, :examDate, :noOfQuestion, :attempted, :unattempted, "
+			+ ":correct, :wrong, :totalMarks, 1, :createdBy, :approvalStatusId)";
+
+	private final SkillTestDetailsRepository skillTestRepository;
+	private final SkillTestResultRepository skillTestResultRepository;
+	private final SkillTestApprovalStatusRepository skillTestApprovalStatusRepository;
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	// Resolved once; the status master row does not change at runtime
+	private volatile Integer approvalStatusId;
+	private volatile boolean approvalStatusResolved;
+
+	public ExamResultBatchWriter(SkillTestDetailsRepository skillTestRepository,
+			SkillTestResultRepository skillTestResultRepository,
+			SkillTestApprovalStatusRepository skillTestApprovalStatusRepository,
+			NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+			@Value("${employee.exam-harvest.write-chunk-size:100}") int chunkSize) {
+		this.skillTestRepository = skillTestRepository;
+		this.skillTestResultRepository = skillTestResultRepository;
+		this.skillTestApprovalStatusRepository = skillTestApprovalStatusRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = Math.max(chunkSize, 1);
+	}
+
+	/**
+	 * Rows inserted, results skipped as not newer than the active result, and
+	 * results skipped for a missing or malformed exam date.
+	 */
+	public record SaveOutcome(int saved, int stale, int invalid) {
+	}
+
+	/** New buffer that writes every chunkSize results; close it to write the rest. */
+	public Buffer newBuffer() {
+		return new Buffer();
+	}
+
+	/**
+	 * Saves results in one transaction. Results without a payroll ID or for an
+	 * unknown candidate are skipped, and so are (as stale) results dated on or
+	 * before the candidate's active result and (as invalid) results without a
+	 * valid dd-MM-yyyy exam date; of several results for one candidate the latest
+	 * exam date wins.
+	 */
+	public SaveOutcome save(Collection<ExamResultDTO> results) {
+		Map<String, ParsedResult> byPayrollId = new LinkedHashMap<>();
+		int invalid = 0;
+		for (ExamResultDTO dto : results) {
+			if (dto != null && dto.getPayrollId() != null) {
+				Date examDate = parseExamDate(dto);
+				if (examDate == null) {
+					invalid++;
+					continue;
+				}
+				byPayrollId.merge(dto.getPayrollId(), new ParsedResult(dto, examDate),
+						(kept, next) -> next.examDate().after(kept.examDate()) ? next : kept);
+			}
+		}
+		if (byPayrollId.isEmpty()) {
+			return new SaveOutcome(0, 0, invalid);
+		}
+		SaveOutcome outcome = transactionTemplate.execute(status -> saveInTransaction(byPayrollId));
+		return new SaveOutcome(outcome.saved(), outcome.stale(), invalid);
+	}
+
+	private SaveOutcome saveInTransaction(Map<String, ParsedResult> byPayrollId) {
+		Map<String, SkillTestDetails> detailsByPayrollId = new HashMap<>();
+		for (SkillTestDetails details : skillTestRepository.lockByTempPayrollIdIn(byPayrollId.keySet())) {
+			detailsByPayrollId.putIfAbsent(details.getTempPayrollId(), details);
+		}
+		Map<String, LocalDate> latestActive = new HashMap<>();
+		for (Object[] key : skillTestResultRepository.findActiveResultKeys(byPayrollId.keySet())) {
+			latestActive.merge((String) key[0], toLocalDate((java.util.Date) key[1]),
+					(a, b) -> a.isAfter(b) ? a : b);
+		}
+
+		Integer statusId = approvalStatusId();
+		List<SqlParameterSource> deactivations = new ArrayList<>();
+		List<SqlParameterSource> inserts = new ArrayList<>();
+		int stale = 0;
+		for (Map.Entry<String, ParsedResult> entry : byPayrollId.entrySet()) {
+			String payrollId = entry.getKey();
+			ParsedResult result = entry.getValue();
+			LocalDate active = latestActive.get(payrollId);
+			if (active != null && !result.examDate().toLocalDate().isAfter(active)) {
+				logger.info("Stale exam result of {} for {} (active result is of {}), skipping.", result.examDate(),
+						payrollId, active);
+				stale++;
+				continue;
+			}
+			SkillTestDetails employee = detailsByPayrollId.get(payrollId);
+			if (employee == null) {
+				logger.error("Error Saving Local Result for {}: Employee not found for Result Sync", payrollId);
+				continue;
+			}
+			if (active != null) {
+				// A newer exam: the candidate's active result is replaced
+				deactivations.add(new MapSqlParameterSource()
+						.addValue("skillTestDetlId", employee.getSkillTestDetlId())
+						.addValue("updatedBy", SYSTEM_USER_ID));
+			}
+			inserts.add(insertParams(employee, result, statusId));
+		}
+
+		if (!deactivations.isEmpty()) {
+			jdbcTemplate.batchUpdate(DEACTIVATE_SQL, deactivations.toArray(SqlParameterSource[]::new));
+		}
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_SQL, inserts.toArray(SqlParameterSource[]::new));
+			logger.info("Saved {} exam results in one batch", inserts.size());
+		}
+		return new SaveOutcome(inserts.size(), stale, 0);
+	}
+
+	private SqlParameterSource insertParams(SkillTestDetails employee, ParsedResult result, Integer statusId) {
+		ExamResultDTO dto = result.dto();
+		return new MapSqlParameterSource()
+				.addValue("skillTestDetlId", employee.getSkillTestDetlId())
+				.addValue("empName", employee.getFirstName() + " " + employee.getLastName())
+				.addValue("examDate", result.examDate())
+				.addValue("noOfQuestion", parseInteger(dto.getTotalQuestions()))
+				.addValue("attempted", parseInteger(dto.getAttempted()))
+				.addValue("unattempted", parseInteger(dto.getUnAttempted()))
+				.addValue("correct", parseInteger(dto.getCorrect()))
+				.addValue("wrong", parseInteger(dto.getWrong()))
+				// Stored as int in DB, but might come as "16.0" from API
+				.addValue("totalMarks", (int) parseDouble(dto.getTotalMarks()))
+				.addValue("createdBy", SYSTEM_USER_ID)
+				.addValue("approvalStatusId", statusId);
+	}
+
+	private Integer approvalStatusId() {
+		if (!approvalStatusResolved) {
+			approvalStatusId = skillTestApprovalStatusRepository.existsById(INITIAL_APPROVAL_STATUS_ID)
+					? INITIAL_APPROVAL_STATUS_ID
+					: null;
+			approvalStatusResolved = true;
+		}
+		return approvalStatusId;
+	}
+
+	private static LocalDate toLocalDate(java.util.Date date) {
+		return new Date(date.getTime()).toLocalDate();
+	}
+
+	private record ParsedResult(ExamResultDTO dto, Date examDate) {
+	}
+
+	// Parse Date (dd-MM-yyyy -> SQL Date), null if missing or malformed
+	private static Date parseExamDate(ExamResultDTO dto) {
+		if (dto.getExamDate() == null || dto.getExamDate().trim().isEmpty()) {
+			logger.warn("Exam date is missing for {}, skipping the result", dto.getPayrollId());
+			return null;
+		}
+		try {
+			return Date.valueOf(LocalDate.parse(dto.getExamDate().trim(), EXAM_DATE_FORMAT));
+		} catch (DateTimeParseException e) {
+			logger.warn("Exam date '{}' of {} is not dd-MM-yyyy, skipping the result", dto.getExamDate(),
+					dto.getPayrollId());
+			return null;
+		}
+	}
+
+	private static int parseInteger(String val) {
+		try {
+			return (int) Double.parseDouble(val); // Handle "30.0" or "30"
+		} catch (Exception e) {
+			return 0;
+		}
+	}
+
+	private static double parseDouble(String val) {
+		try {
+			return Double.parseDouble(val);
+		} catch (Exception e) {
+			return 0.0;
+		}
+	}
+
+	/**
+	 * Collects results from concurrent fetchers and writes them a chunk at a time.
+	 * The chunk is handed off under the lock and written outside it, so fetchers
+	 * only wait for a list swap, not for the database.
+	 */
+	public final class Buffer implements AutoCloseable {
+
+		private List<ExamResultDTO> pending = new ArrayList<>();
+		private int saved;
+		private int stale;
+		private int invalid;
+		private boolean closed;
+
+		private Buffer() {
+		}
+
+		public void add(ExamResultDTO dto) {
+			List<ExamResultDTO> full = null;
+			synchronized (this) {
+				pending.add(dto);
+				// A fetch that outlived the run deadline arrives after close: write it right away
+				if (closed || pending.size() >= chunkSize) {
+					full = pending;
+					pending = new ArrayList<>();
+				}
+			}
+			if (full != null) {
+				write(full);
+			}
+		}
+
+		/** Rows inserted so far. */
+		public synchronized int getSaved() {
+			return saved;
+		}
+
+		/** Results skipped so far as not newer than the active result. */
+		public synchronized int getStale() {
+			return stale;
+		}
+
+		/** Results skipped so far for a missing or malformed exam date. */
+		public synchronized int getInvalid() {
+			return invalid;
+		}
+
+		@Override
+		public void close() {
+			List<ExamResultDTO> rest;
+			synchronized (this) {
+				closed = true;
+				rest = pending;
+				pending = new ArrayList<>();
+			}
+			write(rest);
+		}
+
+		private void write(List<ExamResultDTO> chunk) {
+			if (chunk.isEmpty()) {
+				return;
+			}
+			try {
+				SaveOutcome outcome = save(chunk);
+				synchronized (this) {
+					saved += outcome.saved();
+					stale += outcome.stale();
+					invalid += outcome.invalid();
+				}
+			} catch (Exception e) {
+				logger.error("Error saving chunk of {} exam results: {}", chunk.size(), e.getMessage());
+			}
+		}
+	}
+}
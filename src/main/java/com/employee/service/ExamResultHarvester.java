@@ -0,0 +1,182 @@
+package com.employee.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs one exam-result fetch per payroll ID against the external
+ * getEmpTestResult API with bounded concurrency, a call rate limit and an
+ * overall deadline.
+ *
+ * Calls run on a dedicated, fixed-size pool (not the common ForkJoinPool), so
+ * a slow remote API cannot starve parallel streams or request handling. Once
+ * the deadline passes no new calls are started; IDs not reached are counted as
+ * skipped and picked up by the next run. Calls still in flight are interrupted
+ * and the run waits for them to return (each is bounded by the exam API
+ * client's timeouts), so only one run's calls are ever active at a time.
+ */
+@Component
+public class ExamResultHarvester {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExamResultHarvester.class);
+
+	/** Outcome of a single fetch. */
+	public enum Outcome {
+		FETCHED, NOT_ATTEMPTED, FAILED
+	}
+
+	/** Totals for one run. */
+	public record Summary(int requested, int fetched, int notAttempted, int failed, int skipped, long durationMs) {
+
+		@Override
+		public String toString() {
+			return String.format("requested=%d, fetched=%d, notAttempted(422)=%d, failed=%d, skipped=%d, duration=%dms",
+					requested, fetched, notAttempted, failed, skipped, durationMs);
+		}
+	}
+
+	private final int concurrency;
+	private final Duration runDeadline;
+	private final RateLimiter rateLimiter;
+	private final ExecutorService workers;
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public ExamResultHarvester(RateLimiterRegistry rateLimiterRegistry,
+			@Value("${employee.exam-harvest.concurrency:8}") int concurrency,
+			@Value("${employee.exam-harvest.calls-per-second:20}") int callsPerSecond,
+			@Value("${employee.exam-harvest.run-deadline-ms:2700000}") long runDeadlineMs) {
+		if (concurrency < 1 || callsPerSecond < 1) {
+			throw new IllegalArgumentException("employee.exam-harvest concurrency and calls-per-second must be at least 1");
+		}
+		this.concurrency = concurrency;
+		this.runDeadline = Duration.ofMillis(runDeadlineMs);
+		this.rateLimiter = rateLimiterRegistry.rateLimiter("examResultHarvest", RateLimiterConfig.custom()
+				.limitForPeriod(callsPerSecond)
+				.limitRefreshPeriod(Duration.ofSeconds(1))
+				.timeoutDuration(Duration.ofSeconds(5))
+				.build());
+		this.workers = Executors.newFixedThreadPool(concurrency, workerThreadFactory());
+	}
+
+	/**
+	 * Fetches every payroll ID with the given fetcher and blocks until all calls
+	 * have finished or the run deadline has passed. Returns null if another run
+	 * is still in progress.
+	 */
+	public Summary harvest(Collection<String> payrollIds, Function<String, Outcome> fetcher) {
+		if (!running.compareAndSet(false, true)) {
+			logger.warn("Exam result harvest already running, skipping this trigger");
+			return null;
+		}
+		try {
+			return run(payrollIds, fetcher);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private Summary run(Collection<String> payrollIds, Function<String, Outcome> fetcher) {
+		long start = System.nanoTime();
+		long deadline = start + runDeadline.toNanos();
+		Semaphore slots = new Semaphore(concurrency);
+		AtomicBoolean cancelled = new AtomicBoolean();
+		Set<Thread> callers = ConcurrentHashMap.newKeySet();
+		AtomicInteger fetched = new AtomicInteger();
+		AtomicInteger notAttempted = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		int started = 0;
+
+		try {
+			for (String payrollId : payrollIds) {
+				if (!acquireBefore(slots, deadline)) {
+					break;
+				}
+				started++;
+				workers.execute(() -> {
+					callers.add(Thread.currentThread());
+					try {
+						if (cancelled.get()) {
+							failed.incrementAndGet(); // queued when the deadline passed
+							return;
+						}
+						Outcome outcome = rateLimiter.executeSupplier(() -> fetcher.apply(payrollId));
+						(outcome == Outcome.FETCHED ? fetched : outcome == Outcome.NOT_ATTEMPTED ? notAttempted : failed)
+								.incrementAndGet();
+					} catch (Exception e) {
+						logger.warn("Exam result fetch for {} not started: {}", payrollId, e.getMessage());
+						failed.incrementAndGet();
+					} finally {
+						callers.remove(Thread.currentThread());
+						slots.release();
+					}
+				});
+			}
+			if (!acquireBefore(slots, deadline, concurrency)) {
+				cancelled.set(true);
+				callers.forEach(Thread::interrupt);
+				logger.warn("Exam result harvest hit its {} ms deadline, cancelling {} calls still in flight",
+						runDeadline.toMillis(), callers.size());
+				// Returns once the cancelled calls have, at the latest after the API client's timeouts
+				slots.acquire(concurrency);
+				slots.release(concurrency);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.warn("Exam result harvest interrupted");
+		}
+
+		Summary summary = new Summary(payrollIds.size(), fetched.get(), notAttempted.get(), failed.get(),
+				payrollIds.size() - started, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		logger.info("Exam result harvest finished: {}", summary);
+		return summary;
+	}
+
+	private static boolean acquireBefore(Semaphore slots, long deadline) throws InterruptedException {
+		return acquireBefore(slots, deadline, 1);
+	}
+
+	private static boolean acquireBefore(Semaphore slots, long deadline, int permits) throws InterruptedException {
+		long remaining = deadline - System.nanoTime();
+		if (remaining <= 0 || !slots.tryAcquire(permits, remaining, TimeUnit.NANOSECONDS)) {
+			return false;
+		}
+		if (permits > 1) {
+			slots.release(permits);
+		}
+		return true;
+	}
+
+	private static ThreadFactory workerThreadFactory() {
+		AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "exam-harvest-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+	}
+}
@@ -0,0 +1,127 @@
+package com.employee.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.employee.dto.ExamResultDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exam results pushed by the exam platform (POST /api/integration/exam-results).
+ *
+ * The platform signs each delivery with the shared secret: X-Exam-Timestamp
+ * (epoch seconds) and X-Exam-Signature = "sha256=" + hex HMAC-SHA256 of
+ * "timestamp.body". Deliveries older than max-skew-seconds are refused so a
+ * captured request cannot be replayed later. The body is a single result or
+ * an array of them; they go through {@link ExamResultBatchWriter}, the same
+ * persistence as the harvest, so redelivery of a result is a no-op and a result
+ * not newer than the candidate's active one is reported as stale.
+ */
+@Service
+public class ExamResultWebhookService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExamResultWebhookService.class);
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final String SIGNATURE_PREFIX = "sha256=";
+
+	/** Outcome of one delivery; invalid results lack a valid exam date and were not stored. */
+	public record Receipt(int received, int saved, int stale, int invalid) {
+	}
+
+	private final ExamResultBatchWriter resultBatchWriter;
+	private final ObjectMapper objectMapper;
+	private final byte[] secret;
+	private final long maxSkewSeconds;
+	private final int maxBatchSize;
+
+	public ExamResultWebhookService(ExamResultBatchWriter resultBatchWriter, ObjectMapper objectMapper,
+			@Value("${employee.exam-webhook.secret:}") String secret,
+			@Value("${employee.exam-webhook.max-skew-seconds:300}") long maxSkewSeconds,
+			@Value("${employee.exam-webhook.max-batch-size:500}") int maxBatchSize) {
+		this.resultBatchWriter = resultBatchWriter;
+		this.objectMapper = objectMapper;
+		this.secret = secret.getBytes(StandardCharsets.UTF_8);
+		this.maxSkewSeconds = maxSkewSeconds;
+		this.maxBatchSize = maxBatchSize;
+		if (secret.isBlank()) {
+			logger.warn("employee.exam-webhook.secret is not set; exam result webhook deliveries will be refused");
+		}
+	}
+
+	/** True if the delivery carries a valid, fresh signature. Always false while no secret is configured. */
+	public boolean isAuthentic(String timestamp, String signature, String body) {
+		if (secret.length == 0 || timestamp == null || signature == null || !signature.startsWith(SIGNATURE_PREFIX)) {
+			return false;
+		}
+		long sentAt;
+		try {
+			sentAt = Long.parseLong(timestamp.trim());
+		} catch (NumberFormatException e) {
+			return false;
+		}
+		if (Math.abs(Instant.now().getEpochSecond() - sentAt) > maxSkewSeconds) {
+			return false;
+		}
+		byte[] expected;
+		byte[] actual;
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+			expected = mac.doFinal((timestamp.trim() + "." + body).getBytes(StandardCharsets.UTF_8));
+			actual = HexFormat.of().parseHex(signature.substring(SIGNATURE_PREFIX.length()).trim());
+		} catch (IllegalArgumentException e) {
+			return false; // not hex
+		} catch (java.security.GeneralSecurityException e) {
+			throw new IllegalStateException("HmacSHA256 not available", e);
+		}
+		return MessageDigest.isEqual(expected, actual);
+	}
+
+	/**
+	 * Parses and stores a delivery.
+	 *
+	 * @throws IllegalArgumentException if the body is not a result or an array of
+	 *                                  results, or the batch is too large
+	 */
+	public Receipt ingest(String body) {
+		List<ExamResultDTO> results = parse(body);
+		ExamResultBatchWriter.SaveOutcome outcome = resultBatchWriter.save(results);
+		logger.info("Exam result webhook: {} received, {} saved, {} stale, {} invalid", results.size(),
+				outcome.saved(), outcome.stale(), outcome.invalid());
+		return new Receipt(results.size(), outcome.saved(), outcome.stale(), outcome.invalid());
+	}
+
+	private List<ExamResultDTO> parse(String body) {
+		try {
+			JsonNode root = objectMapper.readTree(body);
+			if (root == null || !(root.isArray() || root.isObject())) {
+				throw new IllegalArgumentException("Expected an exam result or an array of exam results");
+			}
+			if (root.isObject()) {
+				return List.of(objectMapper.treeToValue(root, ExamResultDTO.class));
+			}
+			if (root.size() > maxBatchSize) {
+				throw new IllegalArgumentException(
+						"At most " + maxBatchSize + " exam results per delivery, got " + root.size());
+			}
+			return Arrays.asList(objectMapper.treeToValue(root, ExamResultDTO[].class));
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Malformed exam result payload: " + e.getOriginalMessage());
+		}
+	}
+}
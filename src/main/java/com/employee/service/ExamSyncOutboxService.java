@@ -0,0 +1,291 @@
+package com.employee.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.employee.entity.ExamSyncOutbox;
+import com.employee.entity.SkillTestDetails;
+import com.employee.exception.ResourceNotFoundException;
+import com.employee.repository.ExamSyncOutboxRepository;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Delivers candidate bio data to the exam platform through the
+ * sce_exam_sync_outbox table.
+ *
+ * {@link #enqueue} is called inside the transaction that registers the skill
+ * test, so a candidate is queued exactly when the registration commits and the
+ * HR-facing save never waits on the remote API. The dispatcher then claims due
+ * rows in batches (FOR UPDATE SKIP LOCKED, so several nodes can run it) and
+ * pushes each through {@link EmpExamIntegrationService#pushEmployeeToExamPlatform}.
+ *
+ * Failed pushes are retried with jittered exponential backoff, or after the
+ * Retry-After the platform sent with a 408 or 429. After max-attempts, or at
+ * once for a permanent failure (unknown candidate, any other 4xx), a row is
+ * parked as FAILED and logged at ERROR; the count is exposed as the
+ * exam.sync.outbox gauge and on /api/integration/outbox/status, and
+ * /api/integration/outbox/retry-failed queues those rows again. Delivered rows
+ * are deleted, in batches, once they are older than sent-retention-days.
+ */
+@Service
+public class ExamSyncOutboxService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExamSyncOutboxService.class);
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final ExamSyncOutboxRepository outboxRepository;
+	private final EmpExamIntegrationService integrationService;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean dispatchEnabled;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final int leaseSeconds;
+	private final Duration retryBase;
+	private final Duration retryMax;
+	private final int sentRetentionDays;
+	private final int purgeBatchSize;
+
+	private final AtomicBoolean dispatching = new AtomicBoolean();
+	private final AtomicLong pendingCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+
+	public ExamSyncOutboxService(ExamSyncOutboxRepository outboxRepository,
+			EmpExamIntegrationService integrationService, PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${employee.exam-sync.dispatch-enabled:true}") boolean dispatchEnabled,
+			@Value("${employee.exam-sync.batch-size:50}") int batchSize,
+			@Value("${employee.exam-sync.max-attempts:10}") int maxAttempts,
+			@Value("${employee.exam-sync.lease-seconds:120}") int leaseSeconds,
+			@Value("${employee.exam-sync.retry-base-seconds:30}") long retryBaseSeconds,
+			@Value("${employee.exam-sync.retry-max-seconds:3600}") long retryMaxSeconds,
+			@Value("${employee.exam-sync.sent-retention-days:30}") int sentRetentionDays,
+			@Value("${employee.exam-sync.purge-batch-size:1000}") int purgeBatchSize) {
+		this.outboxRepository = outboxRepository;
+		this.integrationService = integrationService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.dispatchEnabled = dispatchEnabled;
+		this.batchSize = Math.max(batchSize, 1);
+		this.maxAttempts = Math.max(maxAttempts, 1);
+		this.leaseSeconds = Math.max(leaseSeconds, 1);
+		this.retryBase = Duration.ofSeconds(retryBaseSeconds);
+		this.retryMax = Duration.ofSeconds(Math.max(retryMaxSeconds, retryBaseSeconds));
+		this.sentRetentionDays = Math.max(sentRetentionDays, 1);
+		this.purgeBatchSize = Math.max(purgeBatchSize, 1);
+
+		Gauge.builder("exam.sync.outbox", pendingCount, AtomicLong::get).tag("status", "pending")
+				.description("Bio-data pushes waiting for delivery").register(meterRegistry);
+		Gauge.builder("exam.sync.outbox", failedCount, AtomicLong::get).tag("status", "failed")
+				.description("Bio-data pushes that gave up").register(meterRegistry);
+	}
+
+	/** Queues a push for the candidate in the caller's transaction. */
+	public void enqueue(SkillTestDetails details) {
+		outboxRepository.enqueue(details.getTempPayrollId(), details.getSkillTestDetlId());
+	}
+
+	/** Open rows by status (PENDING, SENDING, FAILED). */
+	public Map<String, Long> statusCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		counts.put(ExamSyncOutbox.PENDING, 0L);
+		counts.put(ExamSyncOutbox.SENDING, 0L);
+		counts.put(ExamSyncOutbox.FAILED, 0L);
+		for (Object[] row : outboxRepository.countOpenByStatus()) {
+			counts.put((String) row[0], ((Number) row[1]).longValue());
+		}
+		pendingCount.set(counts.get(ExamSyncOutbox.PENDING) + counts.get(ExamSyncOutbox.SENDING));
+		failedCount.set(counts.get(ExamSyncOutbox.FAILED));
+		return counts;
+	}
+
+	/** Puts every FAILED push back in the queue. Returns the number of rows requeued. */
+	public int retryFailed() {
+		Integer requeued = transactionTemplate.execute(status -> {
+			outboxRepository.deleteSupersededFailed();
+			return outboxRepository.requeueFailed();
+		});
+		logger.info("Requeued {} failed exam platform pushes", requeued);
+		return requeued;
+	}
+
+	/**
+	 * Delivers due pushes until the queue has nothing due or the exam platform
+	 * stops accepting calls. Overlapping runs on one node are skipped.
+	 */
+	@Scheduled(fixedDelayString = "${employee.exam-sync.dispatch-interval-ms:5000}",
+			initialDelayString = "${employee.exam-sync.dispatch-interval-ms:5000}")
+	public void dispatch() {
+		if (!dispatchEnabled || !dispatching.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			int delivered = 0;
+			List<ExamSyncOutbox> batch;
+			do {
+				batch = transactionTemplate.execute(status -> outboxRepository.claimBatch(batchSize, leaseSeconds));
+				if (batch == null || batch.isEmpty()) {
+					break;
+				}
+				int sent = deliver(batch);
+				if (sent < 0) {
+					break; // circuit open: the rest of the batch was released
+				}
+				delivered += sent;
+			} while (batch.size() == batchSize);
+			if (delivered > 0) {
+				logger.info("Delivered {} candidate pushes to the exam platform", delivered);
+			}
+			statusCounts();
+		} catch (Exception e) {
+			logger.error("Exam sync outbox dispatch failed: {}", e.getMessage(), e);
+		} finally {
+			dispatching.set(false);
+		}
+	}
+
+	/**
+	 * Deletes delivered pushes older than sent-retention-days, one batch per
+	 * transaction so no single delete holds many row locks. Nodes running it
+	 * at the same time skip each other's rows.
+	 */
+	@Scheduled(fixedDelayString = "${employee.exam-sync.purge-interval-ms:3600000}",
+			initialDelayString = "${employee.exam-sync.purge-interval-ms:3600000}")
+	public void purgeSent() {
+		if (!dispatchEnabled) {
+			return;
+		}
+		try {
+			LocalDateTime cutoff = LocalDateTime.now().minusDays(sentRetentionDays);
+			int purged = 0;
+			int deleted;
+			do {
+				deleted = outboxRepository.deleteSentBefore(cutoff, purgeBatchSize);
+				purged += deleted;
+			} while (deleted == purgeBatchSize);
+			if (purged > 0) {
+				logger.info("Purged {} exam platform pushes sent before {}", purged, cutoff);
+			}
+		} catch (Exception e) {
+			logger.error("Exam sync outbox purge failed: {}", e.getMessage(), e);
+		}
+	}
+
+	/** Pushes one claimed batch in order. Returns rows sent, or -1 if the circuit opened. */
+	private int deliver(List<ExamSyncOutbox> batch) {
+		int sent = 0;
+		for (int i = 0; i < batch.size(); i++) {
+			ExamSyncOutbox row = batch.get(i);
+			try {
+				integrationService.pushEmployeeToExamPlatform(row.getTempPayrollId());
+				outboxRepository.markSent(row.getOutboxId(), LocalDateTime.now());
+				sent++;
+			} catch (CallNotPermittedException e) {
+				// Breaker open: no call was made, so these attempts do not count
+				LocalDateTime retryAt = LocalDateTime.now().plus(retryBase);
+				for (ExamSyncOutbox unsent : batch.subList(i, batch.size())) {
+					requeue(unsent, retryAt, null, false);
+				}
+				logger.warn("Exam platform circuit open, postponing {} pushes", batch.size() - i);
+				return -1;
+			} catch (Exception e) {
+				handleFailure(row, e);
+			}
+		}
+		return sent;
+	}
+
+	private void handleFailure(ExamSyncOutbox row, Exception e) {
+		String error = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+		boolean permanent = e instanceof ResourceNotFoundException
+				|| (e instanceof HttpClientErrorException clientError && !isRetryable(clientError));
+		if (permanent || row.getAttempts() >= maxAttempts) {
+			outboxRepository.markFailed(row.getOutboxId(), error, LocalDateTime.now());
+			logger.error("Gave up pushing {} to the exam platform after {} attempts: {}", row.getTempPayrollId(),
+					row.getAttempts(), error);
+			return;
+		}
+		Duration delay = e instanceof HttpClientErrorException clientError
+				? retryAfter(clientError).orElseGet(() -> retryDelay(row.getAttempts()))
+				: retryDelay(row.getAttempts());
+		LocalDateTime nextAttemptAt = LocalDateTime.now().plus(delay);
+		requeue(row, nextAttemptAt, error, true);
+		logger.warn("Push of {} to the exam platform failed (attempt {}), retrying at {}: {}",
+				row.getTempPayrollId(), row.getAttempts(), nextAttemptAt, error);
+	}
+
+	private void requeue(ExamSyncOutbox row, LocalDateTime nextAttemptAt, String error, boolean countAttempt) {
+		if (outboxRepository.requeue(row.getOutboxId(), nextAttemptAt, error, countAttempt) == 0) {
+			// Queued again while in flight; the newer row pushes the current data
+			outboxRepository.deleteById(row.getOutboxId());
+		}
+	}
+
+	/** 408 Request Timeout and 429 Too Many Requests are transient; any other 4xx is permanent. */
+	static boolean isRetryable(HttpClientErrorException e) {
+		return e.getStatusCode().value() == HttpStatus.REQUEST_TIMEOUT.value()
+				|| e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+	}
+
+	/** The response's Retry-After (seconds or HTTP date), capped at retry-max, if it has a usable one. */
+	Optional<Duration> retryAfter(HttpClientErrorException e) {
+		String value = e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER)
+				: null;
+		if (value == null || value.isBlank()) {
+			return Optional.empty();
+		}
+		Duration delay;
+		try {
+			delay = Duration.ofSeconds(Long.parseLong(value.trim()));
+		} catch (NumberFormatException notSeconds) {
+			try {
+				delay = Duration.between(ZonedDateTime.now(),
+						ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+			} catch (DateTimeParseException notDate) {
+				return Optional.empty();
+			}
+		}
+		if (delay.isNegative()) {
+			delay = Duration.ZERO;
+		}
+		return Optional.of(delay.compareTo(retryMax) > 0 ? retryMax : delay);
+	}
+
+	/** base * 2^(attempts-1), capped, with +-25% jitter so failed rows do not retry in lockstep. */
+	Duration retryDelay(int attempts) {
+		int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+		Duration delay = retryBase.multipliedBy(1L << doublings);
+		if (delay.compareTo(retryMax) > 0 || delay.isNegative()) {
+			delay = retryMax;
+		}
+		long millis = delay.toMillis();
+		return Duration.ofMillis(millis * 3 / 4 + ThreadLocalRandom.current().nextLong(millis / 2 + 1));
+	}
+
+	private static String truncate(String error) {
+		return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+	}
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,7 +38,6 @@ import com.employee.entity.EmpDetails;
 import com.employee.entity.EmpDocuments;
 import com.employee.entity.EmpExperienceDetails;
 import com.employee.entity.EmpFamilyDetails;
-import com.employee.entity.EmpOnboardingStatusView;
 import com.employee.entity.EmpProfileView;
 import com.employee.entity.EmpQualification;
 import com.employee.entity.EmpaddressInfo;
@@ -46,6 +46,7 @@ import com.employee.entity.EmployeeOnboardingView;
 import com.employee.entity.SkillTestApproval;
 import com.employee.exception.ResourceNotFoundException;
 import com.employee.repository.*;
+import com.employee.service.EmployeeReadModelCache.Section;
 
 @Service
 public class GetEmpDetailsService {
@@ -59,6 +60,12 @@ public class GetEmpDetailsService {
 	@Autowired
 	EmployeeRepository employeeRepo;
 	@Autowired
+	EmployeeIdResolver employeeIdResolver;
+	@Autowired
+	EmployeeReadModelCache readModelCache;
+	@Autowired
+	SparseFieldsetService sparseFieldsetService;
+	@Autowired
 	BankDetailsRepository bankDetailsRepository;
 	@Autowired
 	EmpSubjectRepository empSubjectRepository;
@@ -76,8 +83,6 @@ public class GetEmpDetailsService {
 	EmpDocumentsRepository empDocumentsRepository;
 	@Autowired
 	EmpaddressInfoRepository empAddressInfoRepo;
-	@Autowired
-	EmpOnboardingStatusViewRepository empOnboardingStatusViewRepository;
 
 	@Autowired
 	EmpPfDetailsRepository empPfDetailsRepository;
@@ -218,10 +223,14 @@ public class GetEmpDetailsService {
 	}
 
 	public EmployeeBankDetailsResponseDTO getBankDetailsByTempPayrollId(String tempPayrollId) {
+		return cached(tempPayrollId, Section.BANK_DETAILS, () -> loadBankDetails(tempPayrollId));
+	}
+
+	private EmployeeBankDetailsResponseDTO loadBankDetails(String tempPayrollId) {
 
 		// Step 1: Get employee by tempPayrollId
 
-		Employee employee = employeeRepo.findByTempPayrollId(tempPayrollId)
+		Employee employee = findEmployeeByTempPayrollId(tempPayrollId)
 
 				.orElseThrow(() -> new RuntimeException("Employee not found for tempPayrollId: " + tempPayrollId));
 
@@ -298,7 +307,7 @@ public class GetEmpDetailsService {
 
 	// MangerDetailsOf the employee
 	public ManagerDTO getManagerDetailsByTempPayrollId(String tempPayrollId) {
-		return employeeRepo.findByTempPayrollId(tempPayrollId).map(emp -> {
+		return findEmployeeByTempPayrollId(tempPayrollId).map(emp -> {
 			Employee manager = emp.getEmployee_manager_id();
 			if (manager == null) {
 				return null; // or throw custom exception
@@ -312,7 +321,7 @@ public class GetEmpDetailsService {
 	}
 
 	public ReferenceDTO getReferenceDetailsByTempPayrollId(String tempPayrollId) {
-		return employeeRepo.findByTempPayrollId(tempPayrollId).map(emp -> {
+		return findEmployeeByTempPayrollId(tempPayrollId).map(emp -> {
 			Employee reference = emp.getEmployee_reference();
 			if (reference == null) {
 				return null; // or throw an exception like new EntityNotFoundException("No reference found");
@@ -337,7 +346,11 @@ public class GetEmpDetailsService {
 
 	// @Transactional(readOnly = true)
 	public EmployeeAgreementDetailsDto getAgreementChequeInfo(String tempPayrollId) {
-		Optional<Employee> employeeOpt = employeeRepo.findByTempPayrollId(tempPayrollId);
+		return cached(tempPayrollId, Section.AGREEMENT_CHEQUES, () -> loadAgreementChequeInfo(tempPayrollId));
+	}
+
+	private EmployeeAgreementDetailsDto loadAgreementChequeInfo(String tempPayrollId) {
+		Optional<Employee> employeeOpt = findEmployeeByTempPayrollId(tempPayrollId);
 
 		if (employeeOpt.isEmpty()) {
 			throw new RuntimeException("Employee not found for tempPayrollId: " + tempPayrollId);
@@ -409,7 +422,7 @@ public class GetEmpDetailsService {
 	public AllDocumentsDTO getAllDocumentsByTempPayrollId(String tempPayrollId) {
 
 		// Step 1: Find employee by temp_payroll_id
-		Employee employee = employeeRepo.findByTempPayrollId(tempPayrollId).orElseThrow(
+		Employee employee = findEmployeeByTempPayrollId(tempPayrollId).orElseThrow(
 				() -> new ResourceNotFoundException("Employee not found with temp_payroll_id: " + tempPayrollId));
 
 		Integer empId = employee.getEmp_id();
@@ -531,6 +544,10 @@ public class GetEmpDetailsService {
 	// }
 
 	public WorkingInfoDTO getWorkingInfoByTempPayrollId(String tempPayrollId) {
+		return cached(tempPayrollId, Section.WORKING_INFO, () -> loadWorkingInfo(tempPayrollId));
+	}
+
+	private WorkingInfoDTO loadWorkingInfo(String tempPayrollId) {
 		// 1. Fetch the Employee entity with all required joins
 		Employee employee = employeeRepo.findWorkingInfoByTempPayrollId(tempPayrollId)
 				.orElseThrow(() -> new RuntimeException("Employee not found with tempPayrollId: " + tempPayrollId)); // Use
@@ -598,6 +615,10 @@ public class GetEmpDetailsService {
 	}
 
 	public QualificationInfoDTO getHighestQualificationDetails(String tempPayrollId) {
+		return cached(tempPayrollId, Section.HIGHEST_QUALIFICATION, () -> loadHighestQualificationDetails(tempPayrollId));
+	}
+
+	private QualificationInfoDTO loadHighestQualificationDetails(String tempPayrollId) {
 
 		// 1. Fetch the Employee record with the highest qualification type
 		Employee employee = employeeRepo.findHighestQualificationDetailsByTempPayrollId(tempPayrollId)
@@ -644,18 +665,14 @@ public class GetEmpDetailsService {
 		return dto;
 	}
 
-	public List<EmpOnboardingStatusView> getEmpStatus() {
-		return empOnboardingStatusViewRepository.findAllDistinct();
-	}
-
-	public List<EmpOnboardingStatusView> getEmpStatusByCategoryName(String categoryName) {
-		return empOnboardingStatusViewRepository.findByCategoryName(categoryName);
+	public FamilyInfoResponseDTO getFamilyDetailsWithAddressInfo(String tempPayrollId) {
+		return cached(tempPayrollId, Section.FAMILY_WITH_ADDRESS, () -> loadFamilyDetailsWithAddressInfo(tempPayrollId));
 	}
 
-	public FamilyInfoResponseDTO getFamilyDetailsWithAddressInfo(String tempPayrollId) {
+	private FamilyInfoResponseDTO loadFamilyDetailsWithAddressInfo(String tempPayrollId) {
 
 		// 1. Find the Employee
-		Employee employee = employeeRepo.findByTempPayrollId(tempPayrollId).orElseThrow(
+		Employee employee = findEmployeeByTempPayrollId(tempPayrollId).orElseThrow(
 				() -> new RuntimeException("Employee with tempPayrollId: " + tempPayrollId + " not found."));
 
 		// 2. Fetch Family Details
@@ -754,7 +771,11 @@ public class GetEmpDetailsService {
 	}
 
 	public FullBasicInfoDto getEmployeeDetailsByTempPayrollId(String tempPayrollId) {
-		return employeeRepo.findFullEmployeeDetailsByTempPayrollId(tempPayrollId)
+		return cached(tempPayrollId, Section.BASIC_INFO, () -> loadEmployeeDetails(tempPayrollId));
+	}
+
+	private FullBasicInfoDto loadEmployeeDetails(String tempPayrollId) {
+		return sparseFieldsetService.findFullBasicInfo(tempPayrollId)
 				.orElseThrow(() -> new RuntimeException("Employee not found for tempPayrollId: " + tempPayrollId));
 	}
 
@@ -854,7 +875,7 @@ public class GetEmpDetailsService {
 	 */
 	public SameInstituteEmployeesDTO getEmployeesWithSameInstitute(String payrollId) {
 		// 1. Find employee by payrollId
-		Employee employee = employeeRepo.findByPayRollId(payrollId)
+		Employee employee = findEmployeeByPayrollId(payrollId)
 				.orElseThrow(() -> new ResourceNotFoundException("Employee not found with payrollId: " + payrollId));
 
 		// 2. Get the highest qualification_id from Employee
@@ -924,10 +945,17 @@ public class GetEmpDetailsService {
 	}
 
 	public EmpPfEsiResponseDTO getPfEsiDetailsByTempPayrollId(String tempPayrollId) {
-		Employee employee = employeeRepo.findByTempPayrollId(tempPayrollId)
+		return cached(tempPayrollId, Section.PF_ESI, () -> loadPfEsiDetails(tempPayrollId));
+	}
+
+	private EmpPfEsiResponseDTO loadPfEsiDetails(String tempPayrollId) {
+		Employee employee = findEmployeeByTempPayrollId(tempPayrollId)
 				.orElseThrow(
 						() -> new ResourceNotFoundException("Employee not found for tempPayrollId: " + tempPayrollId));
+		return getPfEsiDetails(employee);
+	}
 
+	public EmpPfEsiResponseDTO getPfEsiDetails(Employee employee) {
 		// Fetch UAN from EmpDetails table
 		Long uanNo = null;
 		Optional<EmpDetails> empDetailsOpt = empDetailsRepository.findByEmployeeId(employee.getEmp_id());
@@ -952,4 +980,20 @@ public class GetEmpDetailsService {
 				pfDetails.getPf_no()); // PF number from pf_esi_uan table
 	}
 
+	// Served from the employee's read model when the ID resolves to an emp_id
+	private <T> T cached(String tempPayrollId, Section section, Supplier<T> loader) {
+		return employeeIdResolver.findEmpIdByTempPayrollId(tempPayrollId)
+				.map(empId -> readModelCache.get(empId, section, loader))
+				.orElseGet(loader);
+	}
+
+	// emp_id comes from the resolver; the employee row is only read if the caller
+	// needs more than its id (the request's persistence context stays open)
+	private Optional<Employee> findEmployeeByTempPayrollId(String tempPayrollId) {
+		return employeeIdResolver.findEmpIdByTempPayrollId(tempPayrollId).map(employeeRepo::getReferenceById);
+	}
+
+	private Optional<Employee> findEmployeeByPayrollId(String payrollId) {
+		return employeeIdResolver.findEmpIdByPayrollId(payrollId).map(employeeRepo::getReferenceById);
+	}
 }
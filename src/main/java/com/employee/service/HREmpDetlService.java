@@ -999,7 +999,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -1030,7 +1029,6 @@ import com.employee.entity.BankDetails;
 import com.employee.entity.Campus;
 import com.employee.entity.CampusContact;
 import com.employee.entity.EmpChequeDetails;
-import com.employee.entity.EmpDocType;
 import com.employee.entity.EmpDocuments;
 import com.employee.entity.EmpExperienceDetails;
 import com.employee.entity.EmpFamilyDetails;
@@ -1045,7 +1043,6 @@ import com.employee.repository.BankDetailsRepository;
 import com.employee.repository.CampusContactRepository;
 import com.employee.repository.EmpBasicInfoViewRepo;
 import com.employee.repository.EmpChequeDetailsRepository;
-import com.employee.repository.EmpDocTypeRepository;
 import com.employee.repository.EmpDocumentsRepository;
 import com.employee.repository.EmpExperienceDetailsRepository;
 import com.employee.repository.EmpFamilyDetailsRepository;
@@ -1087,23 +1084,34 @@ public class HREmpDetlService {
     @Autowired
     private EmpDocumentsRepository empDocumentsRepository;
     @Autowired
-    private EmpDocTypeRepository empDocTypeRepository;
+    private EmployeeIdResolver employeeIdResolver;
+
+    @Autowired
+    private DocumentCompletenessService documentCompletenessService;
+
+    // emp_id comes from the resolver; the employee row is only read if the caller
+    // needs more than its id (the request's persistence context stays open)
+    private Optional<Employee> findEmployee(String payrollId) {
+        return employeeIdResolver.findEmpIdByPayrollId(payrollId).map(employeeRepository::getReferenceById);
+    }
 
     public List<EmpFamilyDetailsDTO> getFamilyMembersByPayrollId(String payrollId) {
         // Step 1: Find employee to get emp_id for photo lookup
-        Employee employee = employeeRepository.findByPayRollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new RuntimeException("Employee not found for payrollId: " + payrollId));
+        return getFamilyMembers(employee);
+    }
 
+    public List<EmpFamilyDetailsDTO> getFamilyMembers(Employee employee) {
         // Step 2: Fetch family photo path (Shared attribute for the employee)
         String familyPhotoPath = empDocumentsRepository
-                .findByEmpIdAndDocName(employee.getEmp_id(), "Family Group Photo")
+                .findDocPathsByEmpIdAndDocName(employee.getEmp_id(), "Family Group Photo")
                 .stream()
                 .findFirst()
-                .map(doc -> doc.getDoc_path())
                 .orElse(null);
 
-        // Step 3: Fetch family records
-        List<EmpFamilyDetails> familyList = empFamilyDetailsRepository.findByEmp_id_PayrollIdAndIsActive(payrollId, 1);
+        // Step 3: Fetch family records (with gender, blood group, relation and parent in the same query)
+        List<EmpFamilyDetails> familyList = empFamilyDetailsRepository.findActiveDetailsByEmpId(employee.getEmp_id());
 
         return familyList.stream().map(fam -> {
             EmpFamilyDetailsDTO dto = new EmpFamilyDetailsDTO();
@@ -1173,9 +1181,12 @@ public class HREmpDetlService {
 
     public List<FamilyMemberInOrgDTO> getFamilyMembersInOrganization(String payrollId) {
         // Step 1: Get the main employee
-        Employee employee = employeeRepository.findByPayRollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new RuntimeException("Employee not found for payrollId: " + payrollId));
+        return getFamilyMembersInOrganization(employee);
+    }
 
+    public List<FamilyMemberInOrgDTO> getFamilyMembersInOrganization(Employee employee) {
         // Step 2: Get family records
         List<EmpFamilyDetails> familyList = empFamilyDetailsRepository.findByEmp_id_EmpId(employee.getEmp_id());
 
@@ -1196,36 +1207,48 @@ public class HREmpDetlService {
 
     // 🔹 Manager Details
     public EmployeeRelationDTO getManagerDetails(String payrollId) {
-        Employee employee = employeeRepository.findByPayRollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
+        return getManagerDetails(employee);
+    }
 
+    public EmployeeRelationDTO getManagerDetails(Employee employee) {
         Employee manager = employee.getEmployee_manager_id();
         return mapToDTO(manager);
     }
 
     // 🔹 Reference Details
     public EmployeeRelationDTO getReferenceDetails(String payrollId) {
-        Employee employee = employeeRepository.findByPayRollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
+        return getReferenceDetails(employee);
+    }
 
+    public EmployeeRelationDTO getReferenceDetails(Employee employee) {
         Employee reference = employee.getEmployee_reference();
         return mapToDTO(reference);
     }
 
     // 🔹 Hired By Details
     public EmployeeRelationDTO getHiredByDetails(String payrollId) {
-        Employee employee = employeeRepository.findByPayRollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
+        return getHiredByDetails(employee);
+    }
 
+    public EmployeeRelationDTO getHiredByDetails(Employee employee) {
         Employee hiredBy = employee.getEmployee_hired();
         return mapToDTO(hiredBy);
     }
 
     // 🔹 Reporting Manager Details
     public EmployeeRelationDTO getReportingManagerDetails(String payrollId) {
-        Employee employee = employeeRepository.findByPayRollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
+        return getReportingManagerDetails(employee);
+    }
 
+    public EmployeeRelationDTO getReportingManagerDetails(Employee employee) {
         Employee reportingManager = employee.getEmployee_reporting_id();
         return mapToDTO(reportingManager);
     }
@@ -1263,18 +1286,21 @@ public class HREmpDetlService {
     public EmployeeBankDetailsResponseDTO getBankDetailsByPayrollId(String payrollId) {
 
         // ✅ 1. Find employee
-        Optional<Employee> employeeOpt = employeeRepository.findByPayRollId(payrollId);
+        Optional<Employee> employeeOpt = findEmployee(payrollId);
         if (employeeOpt.isEmpty()) {
             throw new RuntimeException("Employee not found for payrollId: " + payrollId);
         }
 
-        Employee employee = employeeOpt.get();
+        return getBankDetails(employeeOpt.get());
+    }
+
+    public EmployeeBankDetailsResponseDTO getBankDetails(Employee employee) {
 
         // ✅ 2. Fetch active bank details
         List<BankDetails> bankDetailsList = bankDetailsRepository.findActiveBankDetailsByEmpId(employee.getEmp_id());
 
         if (bankDetailsList.isEmpty()) {
-            throw new RuntimeException("No bank details found for payrollId: " + payrollId);
+            throw new RuntimeException("No bank details found for payrollId: " + employee.getPayRollId());
         }
 
         BankInfoGetDTO personalBankInfo = null;
@@ -1373,11 +1399,14 @@ public class HREmpDetlService {
     public EmployeeCurrentInfoDTO getCurrentInfoByPayrollId(String payrollId) {
 
         // 1. Fetch Employee
-        Optional<Employee> optionalEmp = employeeRepository.findByPayRollId(payrollId);
+        Optional<Employee> optionalEmp = findEmployee(payrollId);
         if (optionalEmp.isEmpty()) {
             throw new RuntimeException("Employee not found");
         }
-        Employee emp = optionalEmp.get();
+        return getCurrentInfo(optionalEmp.get());
+    }
+
+    public EmployeeCurrentInfoDTO getCurrentInfo(Employee emp) {
 
         // 2. Prepare DTO
         EmployeeCurrentInfoDTO dto = new EmployeeCurrentInfoDTO();
@@ -1407,19 +1436,22 @@ public class HREmpDetlService {
     public List<EmpExperienceDetailsDTO> getEmployeeExperienceByPayrollId(String payrollId) {
 
         // ✅ Step 1: Find employee
-        Optional<Employee> empOpt = employeeRepository.findByPayRollId(payrollId);
+        Optional<Employee> empOpt = findEmployee(payrollId);
         if (empOpt.isEmpty()) {
             throw new RuntimeException("Employee not found for payrollId: " + payrollId);
         }
 
-        Employee employee = empOpt.get();
+        return getEmployeeExperience(empOpt.get());
+    }
+
+    public List<EmpExperienceDetailsDTO> getEmployeeExperience(Employee employee) {
 
         // ✅ Step 2: Fetch experience records
         List<EmpExperienceDetails> expList = empExperienceDetailsRepository
                 .findActiveByEmployeeId(employee.getEmp_id());
 
         if (expList.isEmpty()) {
-            throw new RuntimeException("No experience records found for employee: " + payrollId);
+            throw new RuntimeException("No experience records found for employee: " + employee.getPayRollId());
         }
 
         // ✅ Step 3: Convert to DTO list
@@ -1580,13 +1612,16 @@ public class HREmpDetlService {
     public EmployeeAgreementDetailsDto getChequeDetailsByPayrollId(String payrollId) {
 
         // 1. Find employee using correct field name payRollId (capital R)
-        Optional<Employee> empOpt = employeeRepository.findByPayRollId(payrollId);
+        Optional<Employee> empOpt = findEmployee(payrollId);
 
         if (empOpt.isEmpty()) {
             throw new RuntimeException("Employee not found for payrollId: " + payrollId);
         }
 
-        Employee emp = empOpt.get();
+        return getChequeDetails(empOpt.get());
+    }
+
+    public EmployeeAgreementDetailsDto getChequeDetails(Employee emp) {
 
         // 2. Fetch Cheques using correct getter emp.getEmp_id()
         List<EmpChequeDetails> cheques = empChequeDetailsRepository.findActiveChequesByEmpId(emp.getEmp_id());
@@ -1646,8 +1681,14 @@ public class HREmpDetlService {
     public EmployeeCampusInfoDTO getEmployeeCampusInfo(String payrollId) {
 
         // 1. Fetch the employee by payrollId
-        Employee employee = employeeRepository.findByPayRollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new RuntimeException("Employee not found with payrollId: " + payrollId));
+        return getEmployeeCampusInfo(employee);
+    }
+
+    public EmployeeCampusInfoDTO getEmployeeCampusInfo(Employee employee) {
+        // Load the employee with the campus, designation, work mode, joining type and replacement in one query
+        employee = employeeRepository.findWithCampusInfoById(employee.getEmp_id()).orElse(employee);
 
         Campus campus = employee.getCampus_id();
         if (campus == null) {
@@ -1709,10 +1750,12 @@ public class HREmpDetlService {
     }
 
     public List<String> getQualificationNamesByPayrollId(String payrollId) {
-        Optional<Employee> employee = employeeRepository.findByPayRollId(payrollId);
+        return findEmployee(payrollId).map(this::getQualificationNames).orElseGet(List::of);
+    }
 
+    public List<String> getQualificationNames(Employee employee) {
         List<EmpQualification> qualifications = empQualificationRepository
-                .findActiveQualificationsByEmployee(employee);
+                .findActiveQualificationsByEmpId(employee.getEmp_id());
 
         return qualifications.stream()
                 .map(eq -> eq.getQualification_id().getQualification_name()) // Assumes getQualificationName()
@@ -1827,109 +1870,13 @@ public class HREmpDetlService {
     public EducationalDocumentStatusDTO getEducationalDocumentsStatusByPayrollId(String payrollId) {
         logger.info("Getting educational documents status for payroll_id: {}", payrollId);
 
-        Employee employee = employeeRepository.findByPayrollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with payroll_id: " + payrollId));
+        return getEducationalDocumentsStatus(employee);
+    }
 
-        Integer empId = employee.getEmp_id();
-        logger.info("Found employee - emp_id: {}, payroll_id: {}, temp_payroll_id: {}",
-                empId, employee.getPayRollId(), employee.getTempPayrollId());
-
-        List<EmpQualification> employeeQualifications = empQualificationRepository.findByEmpIdAndIsActive(empId);
-
-        if (employeeQualifications.isEmpty()) {
-            throw new ResourceNotFoundException(
-                    "Employee (emp_id: " + empId + ") does not have any qualifications in EmpQualification table");
-        }
-
-        Set<Integer> employeeQualificationIds = employeeQualifications.stream()
-                .map(eq -> eq.getQualification_id().getQualification_id())
-                .collect(Collectors.toSet());
-
-        logger.info("Employee has qualifications with IDs: {}", employeeQualificationIds);
-
-        Integer highestQualificationId = employee.getQualification_id() != null
-                ? employee.getQualification_id().getQualification_id()
-                : employeeQualificationIds.stream().mapToInt(Integer::intValue).max().orElse(0);
-
-        String qualificationName = employee.getQualification_id() != null
-                ? employee.getQualification_id().getQualification_name()
-                : "Multiple Qualifications";
-
-        List<EmpDocType> educationalDocTypes = empDocTypeRepository.findByDocTypeAndIsActive("Educational Document");
-        if (educationalDocTypes.isEmpty()) {
-            logger.warn("No active Educational Document types found, trying all records");
-            educationalDocTypes = empDocTypeRepository.findByDocType("Educational Document");
-        }
-
-        educationalDocTypes.sort((a, b) -> Integer.compare(a.getDoc_type_id(), b.getDoc_type_id()));
-
-        List<EmpDocType> requiredDocTypes = new ArrayList<>();
-        for (Integer qualId : employeeQualificationIds) {
-            EmpDocType matchingDoc = educationalDocTypes.stream()
-                    .filter(dt -> dt.getDoc_type_id() == qualId)
-                    .findFirst()
-                    .orElse(null);
-            if (matchingDoc != null && !requiredDocTypes.contains(matchingDoc)) {
-                requiredDocTypes.add(matchingDoc);
-            }
-        }
-
-        requiredDocTypes.sort((a, b) -> Integer.compare(a.getDoc_type_id(), b.getDoc_type_id()));
-
-        List<Integer> requiredDocTypeIds = requiredDocTypes.stream()
-                .mapToInt(EmpDocType::getDoc_type_id)
-                .boxed()
-                .collect(Collectors.toList());
-
-        List<EmpDocuments> uploadedDocs = empDocumentsRepository.findByEmpIdAndDocTypeIds(empId, requiredDocTypeIds);
-        Set<Integer> uploadedDocTypeIds = uploadedDocs.stream()
-                .map(doc -> doc.getEmp_doc_type_id().getDoc_type_id())
-                .collect(Collectors.toSet());
-
-        EducationalDocumentStatusDTO response = new EducationalDocumentStatusDTO();
-        response.setEmpId(empId);
-        response.setPayrollId(employee.getPayRollId());
-        response.setTempPayrollId(employee.getTempPayrollId());
-        response.setQualificationId(highestQualificationId);
-        response.setQualificationName(qualificationName);
-
-        List<EducationalDocumentStatusDTO.DocumentStatusDTO> requiredDocumentsList = new ArrayList<>();
-        List<EducationalDocumentStatusDTO.DocumentStatusDTO> uploadedDocumentsList = new ArrayList<>();
-        List<EducationalDocumentStatusDTO.DocumentStatusDTO> missingDocumentsList = new ArrayList<>();
-
-        for (EmpDocType docType : requiredDocTypes) {
-            EducationalDocumentStatusDTO.DocumentStatusDTO docStatus = new EducationalDocumentStatusDTO.DocumentStatusDTO();
-            docStatus.setDocTypeId(docType.getDoc_type_id());
-            docStatus.setDocName(docType.getDoc_name());
-            docStatus.setDocType(docType.getDoc_type());
-
-            boolean isUploaded = uploadedDocTypeIds.contains(docType.getDoc_type_id());
-            docStatus.setIsUploaded(isUploaded);
-
-            if (isUploaded) {
-                EmpDocuments uploadedDoc = uploadedDocs.stream()
-                        .filter(doc -> doc.getEmp_doc_type_id().getDoc_type_id() == docType.getDoc_type_id())
-                        .findFirst()
-                        .orElse(null);
-                if (uploadedDoc != null) {
-                    docStatus.setDocPath(uploadedDoc.getDoc_path());
-                    docStatus.setCreatedBy(uploadedDoc.getCreated_by());
-                    docStatus.setCreatedDate(uploadedDoc.getCreated_date());
-                    docStatus.setUpdatedBy(uploadedDoc.getUpdated_by());
-                    docStatus.setUpdatedDate(uploadedDoc.getUpdated_date());
-                }
-                uploadedDocumentsList.add(docStatus);
-            } else {
-                missingDocumentsList.add(docStatus);
-            }
-            requiredDocumentsList.add(docStatus);
-        }
-
-        response.setRequiredDocuments(requiredDocumentsList);
-        response.setUploadedDocuments(uploadedDocumentsList);
-        response.setMissingDocuments(missingDocumentsList);
-
-        return response;
+    public EducationalDocumentStatusDTO getEducationalDocumentsStatus(Employee employee) {
+        return documentCompletenessService.getEducationalStatus(employee.getEmp_id());
     }
 
     /**
@@ -1970,72 +1917,13 @@ public class HREmpDetlService {
     public EducationalDocumentStatusDTO getIdProofDocumentsStatusByPayrollId(String payrollId) {
         logger.info("Getting ID Proof documents status for payroll_id: {}", payrollId);
 
-        Employee employee = employeeRepository.findByPayrollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with payroll_id: " + payrollId));
+        return getIdProofDocumentsStatus(employee);
+    }
 
-        Integer empId = employee.getEmp_id();
-        logger.info("Found employee - emp_id: {}, payroll_id: {}", empId, employee.getPayRollId());
-
-        List<EmpDocType> idProofDocTypes = empDocTypeRepository.findByDocTypeAndIsActive("ID Proof");
-        if (idProofDocTypes.isEmpty()) {
-            logger.warn("No active ID Proof Document types found, trying all records");
-            idProofDocTypes = empDocTypeRepository.findByDocType("ID Proof");
-        }
-
-        idProofDocTypes.sort((a, b) -> Integer.compare(a.getDoc_type_id(), b.getDoc_type_id()));
-
-        List<Integer> idProofDocTypeIds = idProofDocTypes.stream()
-                .mapToInt(EmpDocType::getDoc_type_id)
-                .boxed()
-                .collect(Collectors.toList());
-
-        List<EmpDocuments> uploadedDocs = empDocumentsRepository.findByEmpIdAndDocTypeIds(empId, idProofDocTypeIds);
-        Set<Integer> uploadedDocTypeIds = uploadedDocs.stream()
-                .map(doc -> doc.getEmp_doc_type_id().getDoc_type_id())
-                .collect(Collectors.toSet());
-
-        EducationalDocumentStatusDTO response = new EducationalDocumentStatusDTO();
-        response.setEmpId(empId);
-        response.setPayrollId(employee.getPayRollId());
-        response.setTempPayrollId(employee.getTempPayrollId());
-
-        List<EducationalDocumentStatusDTO.DocumentStatusDTO> requiredDocumentsList = new ArrayList<>();
-        List<EducationalDocumentStatusDTO.DocumentStatusDTO> uploadedDocumentsList = new ArrayList<>();
-        List<EducationalDocumentStatusDTO.DocumentStatusDTO> missingDocumentsList = new ArrayList<>();
-
-        for (EmpDocType docType : idProofDocTypes) {
-            EducationalDocumentStatusDTO.DocumentStatusDTO docStatus = new EducationalDocumentStatusDTO.DocumentStatusDTO();
-            docStatus.setDocTypeId(docType.getDoc_type_id());
-            docStatus.setDocName(docType.getDoc_name());
-            docStatus.setDocType(docType.getDoc_type());
-
-            boolean isUploaded = uploadedDocTypeIds.contains(docType.getDoc_type_id());
-            docStatus.setIsUploaded(isUploaded);
-
-            if (isUploaded) {
-                EmpDocuments uploadedDoc = uploadedDocs.stream()
-                        .filter(doc -> doc.getEmp_doc_type_id().getDoc_type_id() == docType.getDoc_type_id())
-                        .findFirst()
-                        .orElse(null);
-                if (uploadedDoc != null) {
-                    docStatus.setDocPath(uploadedDoc.getDoc_path());
-                    docStatus.setCreatedBy(uploadedDoc.getCreated_by());
-                    docStatus.setCreatedDate(uploadedDoc.getCreated_date());
-                    docStatus.setUpdatedBy(uploadedDoc.getUpdated_by());
-                    docStatus.setUpdatedDate(uploadedDoc.getUpdated_date());
-                }
-                uploadedDocumentsList.add(docStatus);
-            } else {
-                missingDocumentsList.add(docStatus);
-            }
-            requiredDocumentsList.add(docStatus);
-        }
-
-        response.setRequiredDocuments(requiredDocumentsList);
-        response.setUploadedDocuments(uploadedDocumentsList);
-        response.setMissingDocuments(missingDocumentsList);
-
-        return response;
+    public EducationalDocumentStatusDTO getIdProofDocumentsStatus(Employee employee) {
+        return documentCompletenessService.getIdProofStatus(employee.getEmp_id());
     }
 
     /**
@@ -2075,92 +1963,13 @@ public class HREmpDetlService {
     public EducationalDocumentStatusDTO getSpecificDocumentsStatusByPayrollId(String payrollId) {
         logger.info("Getting specific documents status for payroll_id: {}", payrollId);
 
-        Employee employee = employeeRepository.findByPayrollId(payrollId)
+        Employee employee = findEmployee(payrollId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with payroll_id: " + payrollId));
+        return getSpecificDocumentsStatus(employee);
+    }
 
-        Integer empId = employee.getEmp_id();
-        logger.info("Found employee - emp_id: {}, payroll_id: {}", empId, employee.getPayRollId());
-
-        List<EmpDocType> personalDocTypes = empDocTypeRepository.findByDocTypeAndIsActive("Personal Document");
-        if (personalDocTypes.isEmpty()) {
-            personalDocTypes = empDocTypeRepository.findByDocType("Personal Document");
-        }
-
-        Optional<EmpDocType> prevEmployeeDocOpt = empDocTypeRepository.findByDocNameAndIsActive("PrevEmployeeDoc", 1);
-        if (prevEmployeeDocOpt.isEmpty()) {
-            prevEmployeeDocOpt = empDocTypeRepository.findByDocName("PrevEmployeeDoc");
-        }
-
-        Optional<EmpDocType> gratuityDocOpt = empDocTypeRepository.findByDocNameAndIsActive("Gratuity", 1);
-        if (gratuityDocOpt.isEmpty()) {
-            gratuityDocOpt = empDocTypeRepository.findByDocName("Gratuity");
-        }
-        if (gratuityDocOpt.isEmpty()) {
-            gratuityDocOpt = empDocTypeRepository.findByDocName("Gratuity From");
-        }
-
-        List<EmpDocType> requiredDocTypes = new ArrayList<>(personalDocTypes);
-        if (prevEmployeeDocOpt.isPresent()) {
-            requiredDocTypes.add(prevEmployeeDocOpt.get());
-        }
-        if (gratuityDocOpt.isPresent()) {
-            requiredDocTypes.add(gratuityDocOpt.get());
-        }
-
-        requiredDocTypes.sort((a, b) -> Integer.compare(a.getDoc_type_id(), b.getDoc_type_id()));
-
-        List<Integer> requiredDocTypeIds = requiredDocTypes.stream()
-                .mapToInt(EmpDocType::getDoc_type_id)
-                .boxed()
-                .collect(Collectors.toList());
-
-        List<EmpDocuments> uploadedDocs = empDocumentsRepository.findByEmpIdAndDocTypeIds(empId, requiredDocTypeIds);
-        Set<Integer> uploadedDocTypeIds = uploadedDocs.stream()
-                .map(doc -> doc.getEmp_doc_type_id().getDoc_type_id())
-                .collect(Collectors.toSet());
-
-        EducationalDocumentStatusDTO response = new EducationalDocumentStatusDTO();
-        response.setEmpId(empId);
-        response.setPayrollId(employee.getPayRollId());
-        response.setTempPayrollId(employee.getTempPayrollId());
-
-        List<EducationalDocumentStatusDTO.DocumentStatusDTO> requiredDocumentsList = new ArrayList<>();
-        List<EducationalDocumentStatusDTO.DocumentStatusDTO> uploadedDocumentsList = new ArrayList<>();
-        List<EducationalDocumentStatusDTO.DocumentStatusDTO> missingDocumentsList = new ArrayList<>();
-
-        for (EmpDocType docType : requiredDocTypes) {
-            EducationalDocumentStatusDTO.DocumentStatusDTO docStatus = new EducationalDocumentStatusDTO.DocumentStatusDTO();
-            docStatus.setDocTypeId(docType.getDoc_type_id());
-            docStatus.setDocName(docType.getDoc_name());
-            docStatus.setDocType(docType.getDoc_type());
-
-            boolean isUploaded = uploadedDocTypeIds.contains(docType.getDoc_type_id());
-            docStatus.setIsUploaded(isUploaded);
-
-            if (isUploaded) {
-                EmpDocuments uploadedDoc = uploadedDocs.stream()
-                        .filter(doc -> doc.getEmp_doc_type_id().getDoc_type_id() == docType.getDoc_type_id())
-                        .findFirst()
-                        .orElse(null);
-                if (uploadedDoc != null) {
-                    docStatus.setDocPath(uploadedDoc.getDoc_path());
-                    docStatus.setCreatedBy(uploadedDoc.getCreated_by());
-                    docStatus.setCreatedDate(uploadedDoc.getCreated_date());
-                    docStatus.setUpdatedBy(uploadedDoc.getUpdated_by());
-                    docStatus.setUpdatedDate(uploadedDoc.getUpdated_date());
-                }
-                uploadedDocumentsList.add(docStatus);
-            } else {
-                missingDocumentsList.add(docStatus);
-            }
-            requiredDocumentsList.add(docStatus);
-        }
-
-        response.setRequiredDocuments(requiredDocumentsList);
-        response.setUploadedDocuments(uploadedDocumentsList);
-        response.setMissingDocuments(missingDocumentsList);
-
-        return response;
+    public EducationalDocumentStatusDTO getSpecificDocumentsStatus(Employee employee) {
+        return documentCompletenessService.getSpecificStatus(employee.getEmp_id());
     }
 
     /**
@@ -3,7 +3,9 @@ package com.employee.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +15,7 @@ import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,19 +32,14 @@ import com.employee.dto.ManagerMappingDTO;
 import com.employee.dto.SelectiveBulkUnmappingDTO;
 import com.employee.dto.SelectiveUnmappingDTO;
 import com.employee.dto.UnmappingDTO;
-import com.employee.entity.Building;
-import com.employee.entity.BuildingAddress;
 import com.employee.entity.Campus;
 import com.employee.entity.CampusEmployee;
-import com.employee.entity.City;
 import com.employee.entity.Department;
 import com.employee.entity.Designation;
 import com.employee.entity.Employee;
 import com.employee.entity.SharedEmployee;
 import com.employee.entity.Subject;
 import com.employee.exception.ResourceNotFoundException;
-import com.employee.repository.BuildingAddressRepository;
-import com.employee.repository.BuildingRepository;
 import com.employee.repository.CampusEmployeeRepository;
 import com.employee.repository.CampusRepository;
 import com.employee.repository.CityRepository;
@@ -74,6 +72,9 @@ public class ManagerMappingService {
     @Autowired
     private DesignationRepository designationRepository;
 
+    @Autowired
+    private OrgStructureIndex orgStructureIndex;
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
@@ -84,19 +85,22 @@ public class ManagerMappingService {
     private SubjectRepository subjectRepository;
 
     @Autowired
-    private BuildingRepository buildingRepository;
+    private RoleRepository roleRepository;
 
     @Autowired
-    private BuildingAddressRepository buildingAddressRepository;
+    private CampusEmployeeRepository campusEmployeeRepository;
 
     @Autowired
-    private RoleRepository roleRepository;
+    private CampusContactRepository campusContactRepository;
 
     @Autowired
-    private CampusEmployeeRepository campusEmployeeRepository;
+    private EmployeeIdResolver employeeIdResolver;
 
     @Autowired
-    private CampusContactRepository campusContactRepository;
+    private CampusAddressIndex campusAddressIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     /**
      * 
@@ -151,9 +155,7 @@ public class ManagerMappingService {
                     if (dto.getDepartmentId() != null && dto.getDepartmentId() > 0) {
                         if (employee.getDepartment() == null
                                 || employee.getDepartment().getDepartment_id() != dto.getDepartmentId()) {
-                            Department newDept = departmentRepository.findByIdAndIsActive(dto.getDepartmentId(), 1)
-                                    .orElseThrow(() -> new ResourceNotFoundException(
-                                            "Active Department not found: " + dto.getDepartmentId()));
+                            Department newDept = requireActiveDepartment(dto.getDepartmentId(), "Active Department not found: ");
                             employee.setDepartment(newDept);
                             employeeChanged = true;
                         }
@@ -165,9 +167,7 @@ public class ManagerMappingService {
                     if (dto.getDesignationId() != null && dto.getDesignationId() > 0) {
                         if (employee.getDesignation() == null
                                 || employee.getDesignation().getDesignation_id() != dto.getDesignationId()) {
-                            Designation newDesig = designationRepository.findByIdAndIsActive(dto.getDesignationId(), 1)
-                                    .orElseThrow(() -> new ResourceNotFoundException(
-                                            "Active Designation not found: " + dto.getDesignationId()));
+                            Designation newDesig = requireActiveDesignation(dto.getDesignationId(), "Active Designation not found: ");
                             employee.setDesignation(newDesig);
                             employeeChanged = true;
                         }
@@ -258,6 +258,7 @@ public class ManagerMappingService {
             employee.setUpdated_by(mappingDTO.getUpdatedBy());
             employee.setUpdated_date(LocalDateTime.now());
             employeeRepository.save(employee);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "manager-mapping"));
         }
 
         return mappingDTO;
@@ -304,10 +305,7 @@ public class ManagerMappingService {
                 // Validate Department exists and is active (if provided)
                 Department campusDepartment = null;
                 if (campusMapping.getDepartmentId() != null && campusMapping.getDepartmentId() > 0) {
-                    campusDepartment = departmentRepository
-                            .findByIdAndIsActive(campusMapping.getDepartmentId(), 1)
-                            .orElseThrow(() -> new ResourceNotFoundException(
-                                    "Active Department not found with ID: " + campusMapping.getDepartmentId()));
+                    campusDepartment = requireActiveDepartment(campusMapping.getDepartmentId(), "Active Department not found with ID: ");
                 }
 
                 // Validate Campus is active and exists in the City
@@ -324,12 +322,10 @@ public class ManagerMappingService {
                 // Validate Designation exists and is active (if provided)
                 Designation designation = null;
                 if (campusMapping.getDesignationId() != null && campusMapping.getDesignationId() > 0) {
-                    designation = designationRepository.findByIdAndIsActive(campusMapping.getDesignationId(), 1)
-                            .orElseThrow(() -> new ResourceNotFoundException(
-                                    "Active Designation not found with ID: " + campusMapping.getDesignationId()));
+                    designation = requireActiveDesignation(campusMapping.getDesignationId(), "Active Designation not found with ID: ");
 
-                    if (campusDepartment != null && (designation.getDepartment() == null
-                            || designation.getDepartment().getDepartment_id() != campusMapping.getDepartmentId())) {
+                    if (campusDepartment != null
+                            && !designationBelongsToDepartment(designation, campusMapping.getDepartmentId())) {
                         throw new ResourceNotFoundException(
                                 String.format("Designation with ID %d does not belong to Department with ID %d",
                                         campusMapping.getDesignationId(), campusMapping.getDepartmentId()));
@@ -481,10 +477,7 @@ public class ManagerMappingService {
                             if (dto.getDepartmentId() != null && dto.getDepartmentId() > 0) {
                                 if (employee.getDepartment() == null
                                         || employee.getDepartment().getDepartment_id() != dto.getDepartmentId()) {
-                                    Department newBulkDept = departmentRepository
-                                            .findByIdAndIsActive(dto.getDepartmentId(), 1)
-                                            .orElseThrow(() -> new ResourceNotFoundException(
-                                                    "Active Department not found: " + dto.getDepartmentId()));
+                                    Department newBulkDept = requireActiveDepartment(dto.getDepartmentId(), "Active Department not found: ");
                                     employee.setDepartment(newBulkDept);
                                     empChangedForBulk = true;
                                 }
@@ -496,10 +489,7 @@ public class ManagerMappingService {
                             if (dto.getDesignationId() != null && dto.getDesignationId() > 0) {
                                 if (employee.getDesignation() == null
                                         || employee.getDesignation().getDesignation_id() != dto.getDesignationId()) {
-                                    Designation newBulkDesig = designationRepository
-                                            .findByIdAndIsActive(dto.getDesignationId(), 1)
-                                            .orElseThrow(() -> new ResourceNotFoundException(
-                                                    "Active Designation not found: " + dto.getDesignationId()));
+                                    Designation newBulkDesig = requireActiveDesignation(dto.getDesignationId(), "Active Designation not found: ");
                                     employee.setDesignation(newBulkDesig);
                                     empChangedForBulk = true;
                                 }
@@ -567,6 +557,7 @@ public class ManagerMappingService {
                     employee.setUpdated_by(bulkMappingDTO.getUpdatedBy());
                     employee.setUpdated_date(LocalDateTime.now());
                     employeeRepository.save(employee);
+                    eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "manager-mapping"));
                 }
                 processedPayrollIds.add(payrollId);
 
@@ -592,19 +583,10 @@ public class ManagerMappingService {
             throw new IllegalArgumentException("payrollId is required");
         }
 
-        // Try to find by tempPayrollId first
-        Optional<Employee> employeeByTemp = employeeRepository.findByTempPayrollId(payrollId);
-        if (employeeByTemp.isPresent()) {
-            return employeeByTemp.get();
-        }
-
-        // Try to find by payRollId
-        Optional<Employee> employeeByPayroll = employeeRepository.findByPayRollId(payrollId);
-        if (employeeByPayroll.isPresent()) {
-            return employeeByPayroll.get();
-        }
-
-        throw new ResourceNotFoundException("Employee not found with payrollId: " + payrollId);
+        // tempPayrollId first, then payRollId; the employee is then loaded by emp_id
+        return employeeIdResolver.findEmpIdByAnyPayrollId(payrollId)
+                .flatMap(employeeRepository::findById)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with payrollId: " + payrollId));
     }
 
     /**
@@ -642,9 +624,7 @@ public class ManagerMappingService {
             // Validation (if provided)
             Department campusDepartment = null;
             if (dto.getDepartmentId() != null && dto.getDepartmentId() > 0) {
-                campusDepartment = departmentRepository.findByIdAndIsActive(dto.getDepartmentId(), 1)
-                        .orElseThrow(() -> new ResourceNotFoundException(
-                                "Active Department not found with ID: " + dto.getDepartmentId()));
+                campusDepartment = requireActiveDepartment(dto.getDepartmentId(), "Active Department not found with ID: ");
             }
 
             Campus campus = campusRepository.findByCampusIdAndIsActive(dto.getCampusId(), 1)
@@ -653,12 +633,10 @@ public class ManagerMappingService {
 
             Designation designation = null;
             if (dto.getDesignationId() != null && dto.getDesignationId() > 0) {
-                designation = designationRepository.findByIdAndIsActive(dto.getDesignationId(), 1)
-                        .orElseThrow(() -> new ResourceNotFoundException(
-                                "Active Designation not found with ID: " + dto.getDesignationId()));
+                designation = requireActiveDesignation(dto.getDesignationId(), "Active Designation not found with ID: ");
 
-                if (campusDepartment != null && (designation.getDepartment() == null
-                        || designation.getDepartment().getDepartment_id() != dto.getDepartmentId())) {
+                if (campusDepartment != null
+                        && !designationBelongsToDepartment(designation, dto.getDepartmentId())) {
                     throw new ResourceNotFoundException(
                             String.format("Designation with ID %d does not belong to Department with ID %d",
                                     dto.getDesignationId(), dto.getDepartmentId()));
@@ -713,6 +691,43 @@ public class ManagerMappingService {
         }
     }
 
+    /**
+     * Returns an active department for assignment. An id the org structure index
+     * knows as active is loaded by primary key (no query if the persistence
+     * context already holds it) and its status re-checked, since the index can
+     * lag by one refresh; an id it does not know may be newer than the index and
+     * is looked up in the database.
+     */
+    private Department requireActiveDepartment(Integer departmentId, String notFoundMessage) {
+        Optional<Department> department = orgStructureIndex.isActiveDepartment(departmentId)
+                ? departmentRepository.findById(departmentId).filter(d -> Integer.valueOf(1).equals(d.getIsActive()))
+                : departmentRepository.findByIdAndIsActive(departmentId, 1);
+        return department.orElseThrow(() -> new ResourceNotFoundException(notFoundMessage + departmentId));
+    }
+
+    /**
+     * Returns an active designation for assignment, see
+     * {@link #requireActiveDepartment(Integer, String)}.
+     */
+    private Designation requireActiveDesignation(Integer designationId, String notFoundMessage) {
+        Optional<Designation> designation = orgStructureIndex.isActiveDesignation(designationId)
+                ? designationRepository.findById(designationId).filter(d -> Integer.valueOf(1).equals(d.getIsActive()))
+                : designationRepository.findByIdAndIsActive(designationId, 1);
+        return designation.orElseThrow(() -> new ResourceNotFoundException(notFoundMessage + designationId));
+    }
+
+    /**
+     * Checks a designation's department against the org structure index, or
+     * against the loaded row for a designation newer than the index.
+     */
+    private boolean designationBelongsToDepartment(Designation designation, int departmentId) {
+        if (orgStructureIndex.isActiveDesignation(designation.getDesignation_id())) {
+            return orgStructureIndex.findDepartmentOfDesignation(designation.getDesignation_id())
+                    .filter(id -> id == departmentId).isPresent();
+        }
+        return designation.getDepartment() != null && designation.getDepartment().getDepartment_id() == departmentId;
+    }
+
     /**
      * Creates a NEW SharedEmployee record (always active=1).
      */
@@ -1005,6 +1020,7 @@ public class ManagerMappingService {
         employee.setUpdated_date(LocalDateTime.now());
 
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "manager-mapping"));
 
         return unmappingDTO;
     }
@@ -1156,6 +1172,7 @@ public class ManagerMappingService {
                 employee.setUpdated_date(LocalDateTime.now());
 
                 employeeRepository.save(employee);
+                eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "manager-mapping"));
 
             } catch (Exception e) {
                 // Log and continue for other employees
@@ -1174,13 +1191,35 @@ public class ManagerMappingService {
         }
 
         // Fetch all employees in the list at once (handles both temp and permanent IDs)
-        List<Employee> employees = employeeRepository.findAllByPayRollIdInOrTempPayrollIdIn(payrollIds);
+        List<Employee> employees = employeeRepository.findAllByPayRollIdInOrTempPayrollIdIn(payrollIds).stream()
+                .filter(emp -> emp.getIs_active() == 1) // Only process active employees
+                .collect(Collectors.toList());
+        if (employees.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Mappings, campus addresses and roles of the whole batch, a fixed number of queries
+        CampusLookups lookups = loadCampusLookups(employees);
+        Map<Integer, String> roleNameByEmpId = new HashMap<>();
+        Map<String, com.employee.entity.Role> roleByName = new HashMap<>();
+        try {
+            for (Object[] row : employeeRepository.findRoleNamesByEmpIds(lookups.empIds())) {
+                if (row[0] != null && row[1] != null) {
+                    roleNameByEmpId.putIfAbsent(((Number) row[0]).intValue(), (String) row[1]);
+                }
+            }
+            if (!roleNameByEmpId.isEmpty()) {
+                roleRepository.findByRoleNameIn(new HashSet<>(roleNameByEmpId.values()))
+                        .forEach(role -> roleByName.putIfAbsent(role.getRoleName(), role));
+            }
+        } catch (Exception e) {
+            // Ignore view errors
+        }
 
         return employees.stream()
-                .filter(emp -> emp.getIs_active() == 1) // Only process active employees
                 .map(emp -> {
                     // Process to get prioritized and consolidated list of active campuses
-                    List<EmployeeCampusAddressDTO> flatList = processSingleEmployee(emp, payrollIds, false);
+                    List<EmployeeCampusAddressDTO> flatList = processSingleEmployee(emp, payrollIds, false, lookups);
 
                     EmployeeBatchCampusDTO batchDTO = new EmployeeBatchCampusDTO();
 
@@ -1193,10 +1232,9 @@ public class ManagerMappingService {
                         // Fetch shared mappings to enrich primary campus details if they exist
                         // PRIORITY 1: CampusEmployee (Role)
                         // PRIORITY 2: SharedEmployee (Subject/Designation)
-                        List<com.employee.entity.CampusEmployee> campusEmployees = campusEmployeeRepository
-                                .findByEmpId(emp.getEmp_id());
-                        List<SharedEmployee> sharedEmployees = sharedEmployeeRepository
-                                .findActiveByEmpId(emp.getEmp_id());
+                        List<com.employee.entity.CampusEmployee> campusEmployees = lookups
+                                .campusEmployees(emp.getEmp_id());
+                        List<SharedEmployee> sharedEmployees = lookups.sharedEmployees(emp.getEmp_id());
 
                         if (campusEmployees != null) {
                             matchingMapping = campusEmployees.stream()
@@ -1214,7 +1252,7 @@ public class ManagerMappingService {
 
                         // Create detailed DTO for primary campus
                         top = createDTOForCampus(emp, emp.getCampus_id(), payrollIds, false,
-                                matchingMapping);
+                                matchingMapping, lookups);
 
                         batchDTO.setCampusId(top.getCampusId());
                         batchDTO.setCampusName(top.getCampusName());
@@ -1282,20 +1320,15 @@ public class ManagerMappingService {
 
                     // 5.5 Fetch Global Role Info (BEFORE Mapping Promotion to allow Mapping
                     // priority)
-                    try {
-                        List<String> rolesFromView = employeeRepository.findRoleNameByEmpId(emp.getEmp_id());
-                        if (rolesFromView != null && !rolesFromView.isEmpty()) {
-                            String roleNameFromView = rolesFromView.get(0);
-                            com.employee.entity.Role roleEntity = roleRepository.findByRoleName(roleNameFromView);
-                            if (roleEntity != null) {
-                                batchDTO.setRoleId(roleEntity.getRoleId());
-                                batchDTO.setRole(roleEntity.getRoleName());
-                            } else {
-                                batchDTO.setRole(roleNameFromView);
-                            }
+                    String roleNameFromView = roleNameByEmpId.get(emp.getEmp_id());
+                    if (roleNameFromView != null) {
+                        com.employee.entity.Role roleEntity = roleByName.get(roleNameFromView);
+                        if (roleEntity != null) {
+                            batchDTO.setRoleId(roleEntity.getRoleId());
+                            batchDTO.setRole(roleEntity.getRoleName());
+                        } else {
+                            batchDTO.setRole(roleNameFromView);
                         }
-                    } catch (Exception e) {
-                        // Ignore view errors
                     }
 
                     // 5.9 Promote Mapping Info to Top Level (PRIORITY OVER GLOBAL)
@@ -1350,12 +1383,70 @@ public class ManagerMappingService {
                 }).collect(Collectors.toList());
     }
 
+    /**
+     * Campus mappings (active CampusEmployee and SharedEmployee records), campus
+     * addresses and mapping role names of a set of employees, prefetched so that
+     * building their campus address DTOs issues no further queries.
+     */
+    private record CampusLookups(Set<Integer> empIds,
+            Map<Integer, List<com.employee.entity.CampusEmployee>> campusEmployeesByEmpId,
+            Map<Integer, List<SharedEmployee>> sharedEmployeesByEmpId,
+            Map<Integer, CampusAddressIndex.CampusAddress> addressByCampusId,
+            Map<Integer, String> roleNameById) {
+
+        List<com.employee.entity.CampusEmployee> campusEmployees(int empId) {
+            return campusEmployeesByEmpId.getOrDefault(empId, Collections.emptyList());
+        }
+
+        List<SharedEmployee> sharedEmployees(int empId) {
+            return sharedEmployeesByEmpId.getOrDefault(empId, Collections.emptyList());
+        }
+    }
+
+    /**
+     * Loads the mappings of all the employees in two queries, then the
+     * addresses of their primary and mapped campuses (cached) and the role
+     * names of their CampusEmployee mappings in at most one query each.
+     */
+    private CampusLookups loadCampusLookups(List<Employee> employees) {
+        Set<Integer> empIds = employees.stream().map(Employee::getEmp_id)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Integer, List<com.employee.entity.CampusEmployee>> campusEmployeesByEmpId = campusEmployeeRepository
+                .findByEmpIdIn(empIds).stream()
+                .collect(Collectors.groupingBy(ce -> ce.getEmpId().getEmp_id()));
+        Map<Integer, List<SharedEmployee>> sharedEmployeesByEmpId = sharedEmployeeRepository
+                .findActiveByEmpIdIn(empIds).stream()
+                .collect(Collectors.groupingBy(se -> se.getEmpId().getEmp_id()));
+
+        Set<Integer> campusIds = new HashSet<>();
+        Set<Integer> roleIds = new HashSet<>();
+        employees.stream().filter(emp -> emp.getCampus_id() != null)
+                .forEach(emp -> campusIds.add(emp.getCampus_id().getCampusId()));
+        campusEmployeesByEmpId.values().forEach(list -> list.forEach(ce -> {
+            campusIds.add(ce.getCmpsId().getCampusId());
+            if (ce.getRoleId() != null) {
+                roleIds.add(ce.getRoleId());
+            }
+        }));
+        sharedEmployeesByEmpId.values()
+                .forEach(list -> list.forEach(se -> campusIds.add(se.getCmpsId().getCampusId())));
+
+        Map<Integer, String> roleNameById = new HashMap<>();
+        if (!roleIds.isEmpty()) {
+            roleRepository.findAllById(roleIds).forEach(role -> roleNameById.put(role.getRoleId(), role.getRoleName()));
+        }
+        return new CampusLookups(empIds, campusEmployeesByEmpId, sharedEmployeesByEmpId,
+                campusIds.isEmpty() ? Collections.emptyMap() : campusAddressIndex.getAll(campusIds), roleNameById);
+    }
+
     /**
      * SINGLE METHOD: Process one employee (Existing logic)
      */
     public EmployeeCampusAddressDTO getCampusAddress(String payrollId) {
         Employee emp = findEmployeeByPayrollId(payrollId);
-        List<EmployeeCampusAddressDTO> results = processSingleEmployee(emp, Collections.singletonList(payrollId), true);
+        List<EmployeeCampusAddressDTO> results = processSingleEmployee(emp, Collections.singletonList(payrollId), true,
+                loadCampusLookups(Collections.singletonList(emp)));
         return results.isEmpty() ? new EmployeeCampusAddressDTO() : results.get(0);
     }
 
@@ -1367,14 +1458,13 @@ public class ManagerMappingService {
      * Campuses)
      */
     private List<EmployeeCampusAddressDTO> processSingleEmployee(Employee emp, List<String> inputIds,
-            boolean includeFullDetails) {
+            boolean includeFullDetails, CampusLookups lookups) {
         // Use a list to maintain order and allow multiple mappings per campus
         List<EmployeeCampusAddressDTO> dtoList = new ArrayList<>();
 
-        // 0. Fetch mapping records upfront
-        List<com.employee.entity.CampusEmployee> campusEmployees = campusEmployeeRepository
-                .findByEmpId(emp.getEmp_id());
-        List<SharedEmployee> sharedEmployees = sharedEmployeeRepository.findActiveByEmpId(emp.getEmp_id());
+        // 0. Mapping records, prefetched for the whole batch
+        List<com.employee.entity.CampusEmployee> campusEmployees = lookups.campusEmployees(emp.getEmp_id());
+        List<SharedEmployee> sharedEmployees = lookups.sharedEmployees(emp.getEmp_id());
 
         // 1. Add CampusEmployee mappings (Active only)
         // Note: We no longer exclude the primary campus to ensure all mappings are
@@ -1383,7 +1473,7 @@ public class ManagerMappingService {
             for (com.employee.entity.CampusEmployee ce : campusEmployees) {
                 if (ce.getCmpsId() != null && Integer.valueOf(1).equals(ce.getCmpsId().getIsActive())
                         && Integer.valueOf(1).equals(ce.getIsActive())) {
-                    dtoList.add(createDTOForCampus(emp, ce.getCmpsId(), inputIds, includeFullDetails, ce));
+                    dtoList.add(createDTOForCampus(emp, ce.getCmpsId(), inputIds, includeFullDetails, ce, lookups));
                 }
             }
         }
@@ -1393,7 +1483,7 @@ public class ManagerMappingService {
             for (SharedEmployee se : sharedEmployees) {
                 if (se.getCmpsId() != null && Integer.valueOf(1).equals(se.getCmpsId().getIsActive())
                         && Integer.valueOf(1).equals(se.getIsActive())) {
-                    dtoList.add(createDTOForCampus(emp, se.getCmpsId(), inputIds, includeFullDetails, se));
+                    dtoList.add(createDTOForCampus(emp, se.getCmpsId(), inputIds, includeFullDetails, se, lookups));
                 }
             }
         }
@@ -1409,7 +1499,7 @@ public class ManagerMappingService {
     }
 
     private EmployeeCampusAddressDTO createDTOForCampus(Employee emp, Campus campus, List<String> inputIds,
-            boolean includeFullDetails, Object mappingEntity) {
+            boolean includeFullDetails, Object mappingEntity, CampusLookups lookups) {
         EmployeeCampusAddressDTO dto = createBaseDTO(emp, inputIds, includeFullDetails);
 
         try {
@@ -1433,14 +1523,7 @@ public class ManagerMappingService {
                 com.employee.entity.CampusEmployee ce = (com.employee.entity.CampusEmployee) mappingEntity;
                 if (ce.getRoleId() != null) {
                     dto.setRoleId(ce.getRoleId());
-                    // Fetch Role Name if possible
-                    try {
-                        roleRepository.findById(ce.getRoleId()).ifPresent(role -> {
-                            dto.setRoleName(role.getRoleName());
-                        });
-                    } catch (Exception e) {
-                        // Ignore
-                    }
+                    dto.setRoleName(lookups.roleNameById().get(ce.getRoleId()));
                 }
                 // CampusEmployee doesn't have Subject/Designation, fall back to Employee's
                 // primary
@@ -1457,63 +1540,19 @@ public class ManagerMappingService {
 
             }
 
-            // Populate City from Campus
-            if (campus.getCity() != null) {
-                dto.setCity(campus.getCity().getCityName());
-                dto.setCityId(campus.getCity().getCityId());
-            } else {
-                // Try fetching if lazy loaded or null
-                City result = campusRepository.findByCampusId(campusId);
-                if (result != null) {
-                    dto.setCity(result.getCityName());
-                    dto.setCityId(result.getCityId());
-                }
-            }
-
-            // Fetch buildings
-            List<Building> buildings = buildingRepository.findBuildingsByCampusId(campusId);
-            if (buildings == null || buildings.isEmpty()) {
+            // City, address and contact from the campus address index
+            CampusAddressIndex.CampusAddress address = lookups.addressByCampusId().get(campusId);
+            if (address == null) {
                 dto.setFullAddress("Address: No buildings found for campus");
                 return dto;
             }
-
-            // Pick main building logic
-            Building selectedBuilding = buildings.stream()
-                    .filter(b -> b.getIsMainBuilding() == 1)
-                    .findFirst()
-                    .orElse(buildings.get(0));
-
-            // Fetch address
-            BuildingAddress buildingAddress = buildingAddressRepository.findByBuildingIdAndAddressType(
-                    selectedBuilding.getBuildingId(), "address");
-
-            if (buildingAddress == null) {
-                buildingAddress = buildingAddressRepository.findAddressByBuildingId(selectedBuilding.getBuildingId());
-            }
-
-            if (buildingAddress == null) {
-                dto.setFullAddress("Address: No address record found for building");
-                return dto;
-            }
-
-            // Build Address String
-            StringJoiner sj = new StringJoiner(", ");
-            if (buildingAddress.getPlot_no() != null)
-                sj.add(buildingAddress.getPlot_no());
-            if (buildingAddress.getArea() != null)
-                sj.add(buildingAddress.getArea());
-            if (buildingAddress.getStreet() != null)
-                sj.add(buildingAddress.getStreet());
-            if (buildingAddress.getLandmark() != null)
-                sj.add(buildingAddress.getLandmark());
-            if (buildingAddress.getPin_code() != null)
-                sj.add(String.valueOf(buildingAddress.getPin_code()));
-
-            dto.setFullAddress(sj.toString());
-            dto.setBuildingMobileNo(buildingAddress.getMobile_no());
+            dto.setCity(address.city());
+            dto.setCityId(address.cityId());
+            dto.setFullAddress(address.fullAddress());
+            dto.setBuildingMobileNo(address.mobileNo());
 
             // Populate campusContact with building mobile number as per new instruction
-            dto.setCampusContact(buildingAddress.getMobile_no());
+            dto.setCampusContact(address.mobileNo());
             // campusEmail remains null as it's not in the building address table
 
         } catch (Exception e) {
@@ -1789,6 +1828,7 @@ public class ManagerMappingService {
             employee.setUpdated_by(dto.getUpdatedBy() != null ? dto.getUpdatedBy() : 1);
             employee.setUpdated_date(LocalDateTime.now());
             employeeRepository.save(employee);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "manager-mapping"));
         }
 
         return dto;
@@ -1929,6 +1969,7 @@ public class ManagerMappingService {
             employee.setUpdated_by(dto.getUpdatedBy() != null ? dto.getUpdatedBy() : 1);
             employee.setUpdated_date(LocalDateTime.now());
             employeeRepository.save(employee);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmp_id(), "manager-mapping"));
         }
         // Set success message
         response.setMessage(
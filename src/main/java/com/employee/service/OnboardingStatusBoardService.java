@@ -0,0 +1,135 @@
+package com.employee.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.entity.EmpOnboardingStatusBoard;
+import com.employee.entity.EmpOnboardingStatusView;
+import com.employee.repository.EmpOnboardingStatusBoardRepository;
+import com.employee.repository.EmpOnboardingStatusViewRepository;
+
+/**
+ * Onboarding status board, read from sce_emp_onboarding_board instead of
+ * recomputing the emp_onboarding_status view over every onboarding record.
+ *
+ * Each {@link EmployeeChangedEvent} (DO forward, CO confirm, reject,
+ * back-to-campus, incompleted, tab saves) marks the employee; just before the
+ * transaction commits, the row of each marked employee is rewritten from the
+ * view for that emp_id only, or removed if the view no longer lists the
+ * employee. The board row is locked before the view is read, so of two
+ * transactions changing the same employee the second waits for the first to
+ * commit and rebuilds the row from both changes. A page of the board is one
+ * indexed keyset query whatever the history size.
+ */
+@Service
+public class OnboardingStatusBoardService {
+
+	private static final Logger logger = LoggerFactory.getLogger(OnboardingStatusBoardService.class);
+
+	public static final int MAX_PAGE_SIZE = 500;
+
+	/** Transaction resource key: emp_ids whose row is rewritten before commit. */
+	private static final Object PENDING_EMP_IDS = new Object();
+
+	private final EmpOnboardingStatusBoardRepository boardRepository;
+	private final EmpOnboardingStatusViewRepository viewRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	public OnboardingStatusBoardService(EmpOnboardingStatusBoardRepository boardRepository,
+			EmpOnboardingStatusViewRepository viewRepository, PlatformTransactionManager transactionManager) {
+		this.boardRepository = boardRepository;
+		this.viewRepository = viewRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * A page of the board in emp_id order. Pass the last row's emp_id as
+	 * afterId for the next page; null filters are ignored.
+	 *
+	 * @throws IllegalArgumentException if size is not between 1 and
+	 *                                  {@value #MAX_PAGE_SIZE}
+	 */
+	@Transactional(readOnly = true)
+	public List<EmpOnboardingStatusBoard> getBoard(Integer afterId, Integer size, String categoryName,
+			Integer categoryId, Integer campusId, String status) {
+		return boardRepository.findPage(afterId, blankToNull(categoryName), categoryId, campusId,
+				blankToNull(status), pageLimit(size));
+	}
+
+	@EventListener
+	@SuppressWarnings("unchecked")
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			// The row lock needs a transaction to hold it
+			transactionTemplate.executeWithoutResult(status -> refresh(event.empId()));
+			return;
+		}
+		Set<Integer> pending = (Set<Integer>) TransactionSynchronizationManager.getResource(PENDING_EMP_IDS);
+		if (pending == null) {
+			Set<Integer> empIds = new LinkedHashSet<>();
+			TransactionSynchronizationManager.bindResource(PENDING_EMP_IDS, empIds);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void beforeCommit(boolean readOnly) {
+					empIds.forEach(OnboardingStatusBoardService.this::refresh);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_EMP_IDS);
+				}
+			});
+			pending = empIds;
+		}
+		pending.add(event.empId());
+	}
+
+	/**
+	 * Rewrites the employee's board row from the view (one employee, one
+	 * lookup). Must run in a transaction, which keeps the row locked.
+	 */
+	void refresh(int empId) {
+		boardRepository.insertIfMissing(empId);
+		boardRepository.lockRow(empId);
+		List<EmpOnboardingStatusView> rows = viewRepository.findByEmpId(empId);
+		if (rows.isEmpty()) {
+			boardRepository.deleteById(empId);
+			logger.debug("emp_id {} removed from the onboarding status board", empId);
+			return;
+		}
+		EmpOnboardingStatusBoard row = new EmpOnboardingStatusBoard();
+		BeanUtils.copyProperties(rows.get(0), row);
+		row.setEmp_id(empId);
+		row.setUpdated_date(LocalDateTime.now());
+		boardRepository.save(row);
+		logger.debug("Onboarding status board row of emp_id {} set to '{}'", empId, row.getCheck_app_status_name());
+	}
+
+	private static Limit pageLimit(Integer size) {
+		if (size == null) {
+			return Limit.unlimited();
+		}
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+		}
+		return Limit.of(size);
+	}
+
+	private static String blankToNull(String value) {
+		return value != null && !value.trim().isEmpty() ? value.trim() : null;
+	}
+}
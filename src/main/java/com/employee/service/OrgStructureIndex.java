@@ -0,0 +1,289 @@
+package com.employee.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.dto.GenericDropdownDTO;
+import com.employee.entity.BusinessType;
+import com.employee.entity.Department;
+import com.employee.entity.Designation;
+import com.employee.entity.Subject;
+import com.employee.repository.BusinessTypeRepository;
+import com.employee.repository.DepartmentRepository;
+import com.employee.repository.DesignationRepository;
+import com.employee.repository.SubjectRepository;
+
+/**
+ * In-memory index of the organisation structure master data:
+ * category (business type) → departments, department → designations,
+ * employee type → designations and category → subjects.
+ *
+ * The whole index is rebuilt from four queries into an immutable snapshot and
+ * swapped in atomically, so readers never see a half-built index. It is built
+ * on first use and refreshed periodically, so it may lag the master tables by
+ * one refresh interval. Write paths use it to check department and designation
+ * membership without a query, then load the row by ID and confirm it; an ID the
+ * index does not know is looked up in the database, since it may be newer than
+ * the last refresh.
+ */
+@Service
+public class OrgStructureIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(OrgStructureIndex.class);
+
+	private static final int ACTIVE_STATUS = 1;
+
+	private final BusinessTypeRepository businessTypeRepository;
+	private final DepartmentRepository departmentRepository;
+	private final DesignationRepository designationRepository;
+	private final SubjectRepository subjectRepository;
+
+	private final TransactionTemplate readOnlyTransaction;
+
+	private volatile Snapshot snapshot;
+
+	public OrgStructureIndex(BusinessTypeRepository businessTypeRepository, DepartmentRepository departmentRepository,
+			DesignationRepository designationRepository, SubjectRepository subjectRepository,
+			PlatformTransactionManager transactionManager) {
+		this.businessTypeRepository = businessTypeRepository;
+		this.departmentRepository = departmentRepository;
+		this.designationRepository = designationRepository;
+		this.subjectRepository = subjectRepository;
+		// refresh() is also called from within this class, where @Transactional would not apply
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+	}
+
+	// ------------------------------------------------------------------
+	// Lookups
+	// ------------------------------------------------------------------
+
+	/**
+	 * Resolves a category (business type) name, ignoring case. Falls back to the
+	 * database on a miss and refreshes the index when the category turns out to
+	 * be new.
+	 */
+	public Optional<Integer> findCategoryId(String categoryName) {
+		if (categoryName == null) {
+			return Optional.empty();
+		}
+		Integer id = current().categoryIdByName.get(normalize(categoryName));
+		if (id != null) {
+			return Optional.of(id);
+		}
+		Optional<BusinessType> fromDb = businessTypeRepository.findByBusinessTypeNameIgnoreCase(categoryName.trim());
+		if (fromDb.isPresent()) {
+			refresh();
+		}
+		return fromDb.map(BusinessType::getBusinessTypeId);
+	}
+
+	/** Active departments of the given employee type within a category. */
+	public List<GenericDropdownDTO> getDepartments(int empTypeId, int categoryId) {
+		return lookup(current().departmentsByCategoryAndEmpType, pairKey(categoryId, empTypeId));
+	}
+
+	/** Active departments labelled "name - emp type", optionally for one category. */
+	public List<GenericDropdownDTO> getDepartmentsWithTypes(Integer categoryId) {
+		Snapshot current = current();
+		if (categoryId == null) {
+			return Collections.unmodifiableList(current.departmentsWithTypes);
+		}
+		return lookup(current.departmentsWithTypesByCategory, categoryId);
+	}
+
+	/** Active designations of a department. */
+	public List<GenericDropdownDTO> getDesignations(int departmentId) {
+		return lookup(current().designationsByDepartment, departmentId);
+	}
+
+	/**
+	 * Designations whose department belongs to the given employee type, or all
+	 * designations when empTypeId is null (same semantics as
+	 * {@link DesignationRepository#findDesignationsByEmpType}).
+	 */
+	public List<GenericDropdownDTO> getDesignationsByEmployeeType(Integer empTypeId) {
+		Snapshot current = current();
+		if (empTypeId == null) {
+			return Collections.unmodifiableList(current.allDesignations);
+		}
+		return lookup(current.designationsByEmpType, empTypeId);
+	}
+
+	/** Active subjects of a category, optionally narrowed to one emp_subject flag. */
+	public List<GenericDropdownDTO> getSubjects(int categoryId, Integer empSubject) {
+		Snapshot current = current();
+		if (empSubject == null) {
+			return lookup(current.subjectsByCategory, categoryId);
+		}
+		return lookup(current.subjectsByCategoryAndEmpSubject, pairKey(categoryId, empSubject));
+	}
+
+	/** All active subjects. */
+	public List<GenericDropdownDTO> getActiveSubjects() {
+		return Collections.unmodifiableList(current().activeSubjects);
+	}
+
+	/** True if the department was active at the last refresh. */
+	public boolean isActiveDepartment(int departmentId) {
+		return current().activeDepartmentIds.contains(departmentId);
+	}
+
+	/** True if the designation was active at the last refresh. */
+	public boolean isActiveDesignation(int designationId) {
+		return current().departmentByActiveDesignation.containsKey(designationId);
+	}
+
+	/**
+	 * Department of a designation that was active at the last refresh; empty if
+	 * the index does not know the designation or it has no department.
+	 */
+	public Optional<Integer> findDepartmentOfDesignation(int designationId) {
+		return Optional.ofNullable(current().departmentByActiveDesignation.get(designationId));
+	}
+
+	// ------------------------------------------------------------------
+	// Loading
+	// ------------------------------------------------------------------
+
+	/** Rebuilds the index from the master tables. */
+	@Scheduled(fixedDelayString = "${employee.org-structure-index.refresh-ms:900000}",
+			initialDelayString = "${employee.org-structure-index.refresh-ms:900000}")
+	public void refresh() {
+		long start = System.currentTimeMillis();
+		Snapshot built = readOnlyTransaction.execute(status -> new Snapshot(businessTypeRepository.findAll(),
+				departmentRepository.findAllWithEmpTypeAndCategory(),
+				designationRepository.findAllWithDepartment(),
+				subjectRepository.findActiveWithCategory(ACTIVE_STATUS)));
+		snapshot = built;
+		logger.info("Org structure index refreshed: {} departments, {} designations, {} subjects in {} ms",
+				built.activeDepartmentIds.size(), built.allDesignations.size(), built.activeSubjects.size(),
+				System.currentTimeMillis() - start);
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			synchronized (this) {
+				if (snapshot == null) {
+					refresh();
+				}
+				current = snapshot;
+			}
+		}
+		return current;
+	}
+
+	private static <K> List<GenericDropdownDTO> lookup(Map<K, List<GenericDropdownDTO>> index, K key) {
+		return Collections.unmodifiableList(index.getOrDefault(key, Collections.emptyList()));
+	}
+
+	private static String normalize(String name) {
+		return name.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static String typeLabel(String empType) {
+		return empType != null ? empType.replace('_', ' ') : "";
+	}
+
+	private static long pairKey(int first, int second) {
+		return ((long) first << 32) | (second & 0xFFFFFFFFL);
+	}
+
+	private static final class Snapshot {
+
+		private final Map<String, Integer> categoryIdByName = new HashMap<>();
+		private final Map<Long, List<GenericDropdownDTO>> departmentsByCategoryAndEmpType = new HashMap<>();
+		private final List<GenericDropdownDTO> departmentsWithTypes = new ArrayList<>();
+		private final Map<Integer, List<GenericDropdownDTO>> departmentsWithTypesByCategory = new HashMap<>();
+		private final Set<Integer> activeDepartmentIds = new HashSet<>();
+		private final Map<Integer, Integer> departmentByActiveDesignation = new HashMap<>();
+		private final Map<Integer, List<GenericDropdownDTO>> designationsByDepartment = new HashMap<>();
+		private final List<GenericDropdownDTO> allDesignations = new ArrayList<>();
+		private final Map<Integer, List<GenericDropdownDTO>> designationsByEmpType = new HashMap<>();
+		private final Map<Integer, List<GenericDropdownDTO>> subjectsByCategory = new HashMap<>();
+		private final Map<Long, List<GenericDropdownDTO>> subjectsByCategoryAndEmpSubject = new HashMap<>();
+		private final List<GenericDropdownDTO> activeSubjects = new ArrayList<>();
+
+		Snapshot(List<BusinessType> categories, List<Department> departments, List<Designation> designations,
+				List<Subject> subjects) {
+			for (BusinessType category : categories) {
+				if (category.getBusinessTypeName() != null) {
+					categoryIdByName.putIfAbsent(normalize(category.getBusinessTypeName()),
+							category.getBusinessTypeId());
+				}
+			}
+
+			for (Department dept : departments) {
+				if (dept.getIsActive() == null || dept.getIsActive() != ACTIVE_STATUS) {
+					continue;
+				}
+				activeDepartmentIds.add(dept.getDepartment_id());
+				Integer categoryId = dept.getDepartmentCategory() != null
+						? dept.getDepartmentCategory().getBusinessTypeId()
+						: null;
+
+				if (dept.getEmpTypeId() != null) {
+					GenericDropdownDTO withType = new GenericDropdownDTO(dept.getDepartment_id(),
+							dept.getDepartment_name() + " - " + typeLabel(dept.getEmpTypeId().getEmp_type()));
+					departmentsWithTypes.add(withType);
+					if (categoryId != null) {
+						departmentsWithTypesByCategory.computeIfAbsent(categoryId, k -> new ArrayList<>())
+								.add(withType);
+						departmentsByCategoryAndEmpType
+								.computeIfAbsent(pairKey(categoryId, dept.getEmpTypeId().getEmp_type_id()),
+										k -> new ArrayList<>())
+								.add(new GenericDropdownDTO(dept.getDepartment_id(), dept.getDepartment_name()));
+					}
+				}
+			}
+
+			for (Designation desig : designations) {
+				GenericDropdownDTO dto = new GenericDropdownDTO(desig.getDesignation_id(), desig.getDesignation_name());
+				allDesignations.add(dto);
+
+				Department dept = desig.getDepartment();
+				if (dept != null && dept.getEmpTypeId() != null) {
+					designationsByEmpType.computeIfAbsent(dept.getEmpTypeId().getEmp_type_id(), k -> new ArrayList<>())
+							.add(dto);
+				}
+				if (desig.getIsActive() != null && desig.getIsActive() == ACTIVE_STATUS) {
+					departmentByActiveDesignation.put(desig.getDesignation_id(),
+							dept != null ? dept.getDepartment_id() : null);
+					if (dept != null) {
+						designationsByDepartment.computeIfAbsent(dept.getDepartment_id(), k -> new ArrayList<>())
+								.add(dto);
+					}
+				}
+			}
+
+			for (Subject subject : subjects) {
+				GenericDropdownDTO dto = new GenericDropdownDTO(subject.getSubject_id(), subject.getSubject_name());
+				activeSubjects.add(dto);
+				if (subject.getSubjectCategory() != null) {
+					int categoryId = subject.getSubjectCategory().getBusinessTypeId();
+					subjectsByCategory.computeIfAbsent(categoryId, k -> new ArrayList<>()).add(dto);
+					if (subject.getEmpSubject() != null) {
+						subjectsByCategoryAndEmpSubject
+								.computeIfAbsent(pairKey(categoryId, subject.getEmpSubject()), k -> new ArrayList<>())
+								.add(dto);
+					}
+				}
+			}
+		}
+	}
+}
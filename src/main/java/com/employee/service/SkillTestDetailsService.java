@@ -7,11 +7,11 @@ import java.util.List;
 import java.util.Map;
 import com.employee.entity.Orientation;
 import com.employee.repository.OrientationRepository;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,6 +54,7 @@ import com.employee.repository.SkillTestResultRepository;
 import com.employee.repository.StreamRepository;
 import com.employee.repository.StructureRepository;
 import com.employee.repository.SubjectRepository;
+import com.employee.repository.TempPayrollSequenceProjection;
 import com.employee.repository.SkillTestApprovalRepository;
 import com.employee.entity.SkillTestApproval;
 import com.employee.entity.SkillTestApprovalStatus;
@@ -61,7 +62,6 @@ import com.employee.entity.SkillTestApprovalStatus;
 import com.employee.entity.OrientationGroup;
 import com.employee.repository.OrientationGroupRepository;
 
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -110,57 +110,92 @@ public class SkillTestDetailsService {
     private OrientationRepository orientationRepository;
     @Autowired
     private EmpDetailsRepository empDetailsRepository;
+    @Autowired
+    private TempPayrollIdAllocator tempPayrollIdAllocator;
+    @Autowired
+    private ExamSyncOutboxService examSyncOutboxService;
 
     private final Map<Long, Boolean> processingAadhaars = new java.util.concurrent.ConcurrentHashMap<>();
 
-    @org.springframework.beans.factory.annotation.Value("${spring.datasource.url}")
-    private String dbUrl;
+    private static final long COUNTER_WARM_UP_INITIAL_DELAY_MS = 1_000;
+    private static final long COUNTER_WARM_UP_MAX_DELAY_MS = 60_000;
+
+    private volatile boolean countersReady = false;
+
+    private volatile String countersError;
+
+    /**
+     * Starts counter warm-up on a background thread once the application is
+     * ready, so context refresh is not blocked by the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCountersAsync() {
+        Thread warmUp = new Thread(this::warmUpCounters, "skill-test-counter-warmup");
+        warmUp.setDaemon(true);
+        warmUp.start();
+    }
 
-    private Map<String, AtomicInteger> campusCounters = new ConcurrentHashMap<>();
+    /**
+     * Retries counter warm-up with exponential backoff until it succeeds, so a
+     * database outage at boot only delays readiness instead of blocking it.
+     */
+    private void warmUpCounters() {
+        long delayMs = COUNTER_WARM_UP_INITIAL_DELAY_MS;
+        while (!initializeCounters()) {
+            log.warn("Campus ID counter warm-up failed, retrying in {} ms: {}", delayMs, countersError);
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delayMs = Math.min(delayMs * 2, COUNTER_WARM_UP_MAX_DELAY_MS);
+        }
+    }
 
-    @PostConstruct
-    public void initializeCounters() {
+    /**
+     * Seeds the per-campus temp payroll counters from a single grouped query.
+     * Counters are only ever raised, so IDs handed out while warm-up runs are
+     * never reused. Returns false, keeping the error, if seeding failed.
+     */
+    public boolean initializeCounters() {
+        long start = System.currentTimeMillis();
         log.info("Initializing campus ID counters...");
         try {
-            List<Campus> allCampuses = campusrepository.findAllWithCodeNotNull();
-            for (Campus campus : allCampuses) {
-                String baseKey = "TEMP" + campus.getCode();
-                int lastValue = 0;
-                try {
-                    String lastIdInSkillTest = skillTestDetailsRepository.findMaxTempPayrollIdByKey(baseKey + "%");
-                    String lastIdInEmployee = employeeRepository.findMaxTempPayrollIdByKey(baseKey + "%");
-                    if (lastIdInSkillTest != null) {
-                        try {
-                            int val = Integer.parseInt(lastIdInSkillTest.substring(baseKey.length()));
-                            lastValue = Math.max(lastValue, val);
-                        } catch (Exception e) {
-                        }
-                    }
-                    if (lastIdInEmployee != null) {
-                        try {
-                            int val = Integer.parseInt(lastIdInEmployee.substring(baseKey.length()));
-                            lastValue = Math.max(lastValue, val);
-                        } catch (Exception e) {
-                        }
-                    }
-                } catch (Exception e) {
-                    log.error("Error for key {}: {}", baseKey, e.getMessage());
+            List<TempPayrollSequenceProjection> rows = skillTestDetailsRepository.findMaxTempPayrollSuffixPerCampus();
+            for (TempPayrollSequenceProjection row : rows) {
+                if (row.getBaseKey() == null || row.getMaxSuffix() == null) {
+                    continue;
                 }
-
-                // QA Sequence Start Logic
-                if (dbUrl != null && dbUrl.contains("20.21")) {
-                    if (lastValue < 10001) {
-                        lastValue = 10001;
-                    }
-                }
-                campusCounters.put(baseKey, new AtomicInteger(lastValue));
+                int lastValue = (int) Math.min(row.getMaxSuffix(), Integer.MAX_VALUE - 1);
+                tempPayrollIdAllocator.seed(row.getBaseKey(), lastValue);
             }
+            log.info("Campus ID counters initialized for {} campuses in {} ms", rows.size(),
+                    System.currentTimeMillis() - start);
+            countersError = null;
+            countersReady = true;
+            return true;
         } catch (Exception e) {
-            log.warn("Database connection unavailable at startup. Campus ID counters will not be initialized: {}",
-                    e.getMessage());
+            countersError = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            return false;
         }
     }
 
+    /**
+     * True once counter warm-up has seeded the counters. Exposed to the readiness
+     * health group.
+     */
+    public boolean isCountersReady() {
+        return countersReady;
+    }
+
+    /**
+     * Why the last counter warm-up attempt failed, or null if it has not failed.
+     */
+    public String getCountersError() {
+        return countersError;
+    }
+
     // ======================================
     // SAVE METHOD - UPDATED RETURN TYPE
     // ======================================
@@ -209,36 +244,6 @@ public class SkillTestDetailsService {
                             + ". Cannot generate temp_payroll_id.");
         }
 
-        // === Generate TempPayrollId ===
-        String baseKey = "TEMP" + campus.getCode();
-
-        // ... (Logic to calculate maxValue remains the same) ...
-        String max1 = skillTestDetailsRepository.findMaxTempPayrollIdByKey(baseKey + "%");
-        String max2 = employeeRepository.findMaxTempPayrollIdByKey(baseKey + "%");
-        int maxValue = 0;
-        try {
-            if (max1 != null)
-                maxValue = Math.max(maxValue, Integer.parseInt(max1.substring(baseKey.length())));
-        } catch (Exception e) {
-        }
-        try {
-            if (max2 != null)
-                maxValue = Math.max(maxValue, Integer.parseInt(max2.substring(baseKey.length())));
-        } catch (Exception e) {
-        }
-
-        int nextValue = maxValue + 1;
-
-        // QA Sequence Start Logic
-        if (dbUrl != null && dbUrl.contains("20.21")) {
-            if (nextValue < 10001) {
-                nextValue = 10001;
-            }
-        }
-
-        String generatedTempPayrollId = baseKey + String.format("%04d", nextValue);
-        campusCounters.computeIfAbsent(baseKey, k -> new AtomicInteger(0)).set(nextValue);
-
         // === Aadhaar Validation ===
         if (requestDto.getAadhaarNo() != null && requestDto.getAadhaarNo() > 0) {
             long aadhaarLong = requestDto.getAadhaarNo();
@@ -354,6 +359,9 @@ public class SkillTestDetailsService {
         newDetails.setEmail(requestDto.getEmail());
         newDetails.setTotalExperience(requestDto.getTotalExperience());
         newDetails.setContact_number(requestDto.getContactNumber());
+        // === Generate TempPayrollId ===
+        // Taken from this node's reserved block only after all validations passed
+        String generatedTempPayrollId = tempPayrollIdAllocator.nextTempPayrollId(campus.getCode());
         newDetails.setTempPayrollId(generatedTempPayrollId);
 
         // === Password Logic ===
@@ -395,6 +403,9 @@ public class SkillTestDetailsService {
         // === SAVE THE ENTITY ===
         SkillTestDetails savedDetails = skillTestDetailsRepository.save(newDetails);
 
+        // === QUEUE PUSH TO EXAM PLATFORM (same transaction, delivered by ExamSyncOutboxService) ===
+        examSyncOutboxService.enqueue(savedDetails);
+
         // === CONVERT ENTITY TO DTO AND RETURN ===
         return convertToDto(savedDetails);
     }
@@ -522,75 +533,44 @@ public class SkillTestDetailsService {
         return checksum == 0;
     }
 
-    public List<SkillTestDetailsResultDto> get_details_of_passed_employees() {
-
-        // 1. Get all results
-        List<SkillTestResult> testResults = skilltestresultrepository.findTestResultsWithIds();
+    /** Upper bound for one page of the skill test list / approval table. */
+    public static final int MAX_SKILL_TEST_PAGE_SIZE = 500;
 
-        // Safety check for null list from Repo
-        if (testResults == null || testResults.isEmpty()) {
-            return new ArrayList<>();
-        }
+    public List<SkillTestDetailsResultDto> get_details_of_passed_employees() {
+        return get_details_of_passed_employees(null, null, null, null, null);
+    }
 
-        // 2. Filter & Map directly from SkillTestResult
-        return testResults.stream()
-                .filter(result -> result.getSkillTestDetlId() != null) // Prevent NullPointer
-                .map(result -> {
+    /**
+     * Approval table rows (active results) in skillTestResultId order, read with
+     * one projection query. Pass the last row's skillTestResultId as afterId for
+     * the next page; a null size returns every row after the cursor. Null
+     * filters are ignored.
+     */
+    @Transactional(readOnly = true)
+    public List<SkillTestDetailsResultDto> get_details_of_passed_employees(Integer afterId, Integer size,
+            String campusCategory, Integer cityId, Integer statusId) {
+        return skilltestresultrepository
+                .findApprovalRows(afterId, blankToNull(campusCategory), cityId, statusId, pageLimit(size))
+                .stream()
+                .map(row -> {
                     SkillTestDetailsResultDto dto = new SkillTestDetailsResultDto();
-                    SkillTestDetails entity = result.getSkillTestDetlId();
-
-                    // FIX 1: Added Space in Name
-                    String fName = entity.getFirstName() != null ? entity.getFirstName() : "";
-                    String lName = entity.getLastName() != null ? entity.getLastName() : "";
-                    dto.setEmployeeName((fName + " " + lName).trim());
-
-                    dto.setTempPayrollId(entity.getTempPayrollId());
-                    dto.setPreviousChaitanyaId(entity.getPrevious_chaitanya_id());
-                    dto.setJoinDate(entity.getJoinDate());
-
-                    // FIX 2: Ensure getGenderName() exists in your Gender Entity!
-                    if (entity.getCity() != null) {
-                        dto.setCity(entity.getCity().getCityName());
-                    } else {
-                        dto.setCity("N/A");
+                    dto.setSkillTestResultId(row.getSkillTestResultId());
+                    dto.setEmployeeName(fullName(row.getFirstName(), row.getLastName()));
+                    dto.setTempPayrollId(row.getTempPayrollId());
+                    dto.setPreviousChaitanyaId(row.getPreviousChaitanyaId());
+                    dto.setJoinDate(row.getJoinDate());
+                    dto.setCity(row.getCityName() != null ? row.getCityName() : "N/A");
+                    dto.setCampus(row.getCampusName() != null ? row.getCampusName() : "N/A");
+                    dto.setEmployeeNumber(employeeNumber(row.getEmployeePayrollId(), row.getPreviousChaitanyaId()));
+                    // Status FROM SKILL TEST RESULT, NOT SKILL TEST DETAILS
+                    dto.setStatus(row.getStatusName() != null ? row.getStatusName() : "N/A");
+                    dto.setContactNumber(row.getContactNumber());
+                    dto.setTotalExperience(row.getTotalExperience());
+                    dto.setGender(row.getGenderName() != null ? row.getGenderName() : "N/A");
+                    if (row.getSubjectId() != null) {
+                        dto.setSubjectId(row.getSubjectId());
+                        dto.setSubjectName(trimTrailing(row.getSubjectName()));
                     }
-
-                    if (entity.getCampus() != null) {
-                        dto.setCampus(entity.getCampus().getCampusName());
-                    } else {
-                        dto.setCampus("N/A");
-                    }
-
-                    // Populate Employee Number (from Employee entity if available, else
-                    // previous_chaitanya_id as fallback)
-                    if (entity.getEmpId() != null && entity.getEmpId().getPayRollId() != null) {
-                        dto.setEmployeeNumber(entity.getEmpId().getPayRollId());
-                    } else {
-                        dto.setEmployeeNumber(
-                                entity.getPrevious_chaitanya_id() != null ? entity.getPrevious_chaitanya_id() : "N/A");
-                    }
-
-                    // Populate Status FROM SKILL TEST RESULT, NOT SKILL TEST DETAILS
-                    if (result.getSkillTestApprovalStatus() != null) {
-                        dto.setStatus(result.getSkillTestApprovalStatus().getStatusName());
-                    } else {
-                        dto.setStatus("N/A");
-                    }
-
-                    dto.setContactNumber(entity.getContact_number());
-                    dto.setTotalExperience(entity.getTotalExperience());
-
-                    if (entity.getGender() != null) {
-                        dto.setGender(entity.getGender().getGenderName());
-                    } else {
-                        dto.setGender("N/A");
-                    }
-
-                    if (entity.getSubject() != null) {
-                        dto.setSubjectId(entity.getSubject().getSubject_id());
-                        dto.setSubjectName(entity.getSubject().getSubject_name().replaceAll("\\s+$", ""));
-                    }
-
                     return dto;
                 }).collect(Collectors.toList());
     }
@@ -616,81 +596,71 @@ public class SkillTestDetailsService {
      */
     @Transactional(readOnly = true)
     public List<com.employee.dto.SkillTestListDto> getSkillTestList(String campusCategory) {
-        // Use repository method to get active records directly from DB
-        List<SkillTestDetails> entities;
-        if (campusCategory != null && !campusCategory.trim().isEmpty()) {
-            entities = skillTestDetailsRepository.findByIsActiveAndCampusCategory(1, campusCategory);
-        } else {
-            entities = skillTestDetailsRepository.findByIsActive(1);
-        }
+        return getSkillTestList(null, null, campusCategory, null, null);
+    }
 
-        return entities.stream()
-                .map(entity -> {
+    /**
+     * Active skill test candidates in skillTestDetlId order, read with one
+     * projection query. Pass the last row's skillTestDetlId as afterId for the
+     * next page; a null size returns every row after the cursor. Null filters
+     * are ignored; statusId filters on the approval status of the active result.
+     */
+    @Transactional(readOnly = true)
+    public List<com.employee.dto.SkillTestListDto> getSkillTestList(Integer afterId, Integer size,
+            String campusCategory, Integer cityId, Integer statusId) {
+        return skillTestDetailsRepository
+                .findListRows(afterId, blankToNull(campusCategory), cityId, statusId, pageLimit(size))
+                .stream()
+                .map(row -> {
                     com.employee.dto.SkillTestListDto dto = new com.employee.dto.SkillTestListDto();
-
-                    // 1. Employee Name
-                    String fName = entity.getFirstName() != null ? entity.getFirstName() : "";
-                    String lName = entity.getLastName() != null ? entity.getLastName() : "";
-                    dto.setEmployeeName((fName + " " + lName).trim());
-
-                    // 2. Temp Payroll ID
-                    dto.setTempPayrollId(entity.getTempPayrollId());
-
-                    // 2a. Previous Chaitanya ID
-                    dto.setPreviousChaitanyaId(entity.getPrevious_chaitanya_id());
-
-                    // 3. Employee Number
-                    // Try to get from Employee entity first, else fallback to previous_chaitanya_id
-                    if (entity.getEmpId() != null && entity.getEmpId().getPayRollId() != null) {
-                        dto.setEmployeeNumber(entity.getEmpId().getPayRollId());
-                    } else {
-                        dto.setEmployeeNumber(
-                                entity.getPrevious_chaitanya_id() != null ? entity.getPrevious_chaitanya_id() : "N/A");
-                    }
-
-                    // 4. Join Date (Mapping CreatedDate as fallback, or JoinDate if available in
-                    // fields)
-                    // Requirement said "join date". Entity has createdDate. Employee entity has
-                    // join_date.
-                    // SkillTestDetails entity doesn't seem to have a specific 'join_date' field in
-                    // the class,
-                    // but let's check if it exists or use createdDate as proxy for when this record
-                    // was made.
-                    // CHECK: The DTO we made has LocalDateTime.
-                    dto.setJoinDate(entity.getCreatedDate());
-
-                    // 5. City
-                    if (entity.getCity() != null) {
-                        dto.setCity(entity.getCity().getCityName());
-                    } else {
-                        dto.setCity("N/A");
+                    dto.setSkillTestDetlId(row.getSkillTestDetlId());
+                    dto.setEmployeeName(fullName(row.getFirstName(), row.getLastName()));
+                    dto.setTempPayrollId(row.getTempPayrollId());
+                    dto.setPreviousChaitanyaId(row.getPreviousChaitanyaId());
+                    dto.setEmployeeNumber(employeeNumber(row.getEmployeePayrollId(), row.getPreviousChaitanyaId()));
+                    // Join date: the record's created date (SkillTestDetails has no separate join date)
+                    dto.setJoinDate(row.getCreatedDate());
+                    dto.setCity(row.getCityName() != null ? row.getCityName() : "N/A");
+                    dto.setCampus(row.getCampusName() != null ? row.getCampusName() : "N/A");
+                    dto.setGender(row.getGenderName() != null ? row.getGenderName() : "N/A");
+                    if (row.getSubjectId() != null) {
+                        dto.setSubjectId(row.getSubjectId());
+                        dto.setSubjectName(trimTrailing(row.getSubjectName()));
                     }
+                    dto.setCampusCategory(row.getCampusCategory());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
 
-                    // 6. Campus
-                    if (entity.getCampus() != null) {
-                        dto.setCampus(entity.getCampus().getCampusName());
-                    } else {
-                        dto.setCampus("N/A");
-                    }
+    private static org.springframework.data.domain.Limit pageLimit(Integer size) {
+        if (size == null) {
+            return org.springframework.data.domain.Limit.unlimited();
+        }
+        if (size < 1 || size > MAX_SKILL_TEST_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SKILL_TEST_PAGE_SIZE);
+        }
+        return org.springframework.data.domain.Limit.of(size);
+    }
 
-                    // 7. Gender
-                    if (entity.getGender() != null) {
-                        dto.setGender(entity.getGender().getGenderName());
-                    } else {
-                        dto.setGender("N/A");
-                    }
+    private static String blankToNull(String value) {
+        return value != null && !value.trim().isEmpty() ? value.trim() : null;
+    }
 
-                    if (entity.getSubject() != null) {
-                        dto.setSubjectId(entity.getSubject().getSubject_id());
-                        dto.setSubjectName(entity.getSubject().getSubject_name().replaceAll("\\s+$", ""));
-                    }
+    private static String fullName(String firstName, String lastName) {
+        return ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+    }
 
-                    // 8. Campus Category
-                    dto.setCampusCategory(entity.getCampusCategory());
+    // Employee number from the Employee record if linked, else previous_chaitanya_id
+    private static String employeeNumber(String employeePayrollId, String previousChaitanyaId) {
+        if (employeePayrollId != null) {
+            return employeePayrollId;
+        }
+        return previousChaitanyaId != null ? previousChaitanyaId : "N/A";
+    }
 
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    private static String trimTrailing(String value) {
+        return value != null ? value.replaceAll("\\s+$", "") : null;
     }
 
     /**
@@ -751,4 +721,65 @@ public class SkillTestDetailsService {
         // ID 3 = Rejected
         updateSkillTestStatus(tempPayrollId, 3, updatedBy);
     }
+
+    /** Upper bound for the temp payroll IDs of one bulk status update. */
+    public static final int MAX_BULK_STATUS_IDS = 500;
+
+    /**
+     * Sets the approval status of the latest active result of each candidate in
+     * one transaction: one query resolves the results, one UPDATE changes them.
+     * Candidates without an active result are reported, not failed.
+     */
+    @Transactional
+    public com.employee.dto.SkillTestBulkStatusResultDTO updateSkillTestStatusBulk(
+            com.employee.dto.SkillTestBulkStatusDTO request) {
+        if (request == null || request.getStatusId() == null) {
+            throw new IllegalArgumentException("statusId is required");
+        }
+        java.util.LinkedHashSet<String> payrollIds = new java.util.LinkedHashSet<>();
+        if (request.getTempPayrollIds() != null) {
+            for (String id : request.getTempPayrollIds()) {
+                if (id != null && !id.trim().isEmpty()) {
+                    payrollIds.add(id.trim());
+                }
+            }
+        }
+        if (payrollIds.isEmpty()) {
+            throw new IllegalArgumentException("tempPayrollIds must contain at least one ID");
+        }
+        if (payrollIds.size() > MAX_BULK_STATUS_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_STATUS_IDS + " tempPayrollIds per request");
+        }
+
+        int statusId = request.getStatusId();
+        SkillTestApprovalStatus status = skillTestApprovalStatusRepository.findById(statusId)
+                .orElseThrow(
+                        () -> new ResourceNotFoundException("SkillTestApprovalStatus not found with ID: " + statusId));
+
+        // 1. Latest active result per candidate (rows come latest first)
+        Map<String, Integer> latestResultIds = new java.util.HashMap<>();
+        for (Object[] row : skilltestresultrepository.findActiveResultIdsByPayrollIds(payrollIds)) {
+            latestResultIds.putIfAbsent((String) row[1], (Integer) row[0]);
+        }
+
+        // 2. One set-based update
+        Integer updatedBy = request.getUpdatedBy() != null ? request.getUpdatedBy() : 1;
+        int updated = latestResultIds.isEmpty() ? 0
+                : skilltestresultrepository.updateApprovalStatus(latestResultIds.values(), status, updatedBy,
+                        LocalDateTime.now());
+
+        // 3. Outcome per requested ID
+        List<com.employee.dto.SkillTestBulkStatusResultDTO.Outcome> outcomes = new ArrayList<>(payrollIds.size());
+        for (String payrollId : payrollIds) {
+            Integer resultId = latestResultIds.get(payrollId);
+            outcomes.add(new com.employee.dto.SkillTestBulkStatusResultDTO.Outcome(payrollId,
+                    resultId != null ? com.employee.dto.SkillTestBulkStatusResultDTO.UPDATED
+                            : com.employee.dto.SkillTestBulkStatusResultDTO.NO_ACTIVE_RESULT,
+                    resultId));
+        }
+        log.info("Bulk skill test status update to status ID {} by user {}: {} of {} candidates updated", statusId,
+                updatedBy, updated, payrollIds.size());
+        return new com.employee.dto.SkillTestBulkStatusResultDTO(statusId, status.getStatusName(), payrollIds.size(),
+                updated, outcomes);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,307 @@
+package com.employee.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.employee.config.CacheConfig;
+import com.employee.dto.FullBasicInfoDto;
+import com.employee.entity.EmpProfileView;
+import com.employee.entity.EmployeeOnboardingView;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.metamodel.Attribute;
+
+/**
+ * Sparse fieldsets (fields=a,b,c) for the basic info, profile view and
+ * onboarding card endpoints. The requested fields become a JPQL select of
+ * just those columns, with only the joins they need, and come back as a map in
+ * the requested order.
+ *
+ * The query of each resource and field set is built once and cached (the key
+ * is the sorted field set), so a field set also keeps reusing Hibernate's
+ * query plan. The full basic info read ({@link #findFullBasicInfo}) is built
+ * from the same definition, so a field set always returns what the full DTO
+ * holds.
+ */
+@Service
+public class SparseFieldsetService {
+
+	/** Columns of the basic info read, in FullBasicInfoDto constructor order, and their joins. */
+	private static final Resource FULL_BASIC_INFO = new Resource("basic-info", "Employee e", "e.tempPayrollId")
+			.join("ed", "LEFT JOIN EmpDetails ed ON ed.employee_id.emp_id = e.emp_id AND ed.is_active = 1", null)
+			.join("epd", "LEFT JOIN EmpPfDetails epd ON epd.employee_id.emp_id = e.emp_id AND epd.is_active = 1", null)
+			.join("g", "LEFT JOIN e.gender g", null)
+			.join("et", "LEFT JOIN e.employee_type_id et", null)
+			.join("d", "LEFT JOIN e.department d", null)
+			.join("des", "LEFT JOIN e.designation des", null)
+			.join("c", "LEFT JOIN e.category c", null)
+			.join("q", "LEFT JOIN e.qualification_id q", null)
+			.join("wm", "LEFT JOIN e.workingMode_id wm", null)
+			.join("cm", "LEFT JOIN e.campus_id cm", null)
+			.join("b", "LEFT JOIN e.building_id b", null)
+			.join("mh", "LEFT JOIN e.modeOfHiring_id mh", null)
+			.join("j", "LEFT JOIN e.join_type_id j", null)
+			.join("m", "LEFT JOIN e.employee_manager_id m", null)
+			.join("ref", "LEFT JOIN e.employee_reference ref", null)
+			.join("hired", "LEFT JOIN e.employee_hired hired", null)
+			.join("rm", "LEFT JOIN e.employee_reporting_id rm", null)
+			.join("rep", "LEFT JOIN e.employee_replaceby_id rep", null)
+			.join("eth", "LEFT JOIN e.employee_type_hiring_id eth", null)
+			.join("bg", "LEFT JOIN ed.bloodGroup_id bg", "ed")
+			.join("cs", "LEFT JOIN ed.caste_id cs", "ed")
+			.join("r", "LEFT JOIN ed.religion_id r", "ed")
+			.join("ms", "LEFT JOIN ed.marital_status_id ms", "ed")
+			.join("rel", "LEFT JOIN ed.relation_id rel", "ed")
+			.field("empId", "e.emp_id")
+			.field("tempPayrollId", "e.tempPayrollId")
+			.field("payrollId", "e.payRollId")
+			.field("firstName", "e.first_name")
+			.field("lastName", "e.last_name")
+			.field("dateOfJoining", "e.date_of_join")
+			.field("age", "e.age")
+			.field("primaryMobileNo", "e.primary_mobile_no")
+			.field("secondaryMobileNo", "e.secondary_mobile_no")
+			.field("email", "e.email")
+			.field("genderId", "g.gender_id")
+			.field("genderName", "g.genderName")
+			.field("empTypeId", "et.emp_type_id")
+			.field("empTypeName", "et.emp_type")
+			.field("departmentId", "d.department_id")
+			.field("departmentName", "d.department_name")
+			.field("designationId", "des.designation_id")
+			.field("designationName", "des.designation_name")
+			.field("categoryId", "c.category_id")
+			.field("categoryName", "c.category_name")
+			.field("qualificationId", "q.qualification_id")
+			.field("qualificationName", "q.qualification_name")
+			.field("workingModeId", "wm.emp_work_mode_id")
+			.field("workingModeName", "wm.work_mode_type")
+			.field("campusId", "cm.campusId")
+			.field("campusName", "cm.campusName")
+			.field("campusCode", "cm.cmps_code")
+			.field("campusType", "cm.cmps_type")
+			.field("buildingId", "b.buildingId")
+			.field("buildingName", "b.buildingName")
+			.field("managerId", "m.emp_id")
+			.field("managerName", "concat(m.first_name, ' ', m.last_name)")
+			.field("adhaarName", "ed.adhaar_name")
+			.field("adhaarNo", "ed.adhaar_no")
+			.field("pancardNo", "ed.pancard_no")
+			.field("dateOfBirth", "ed.date_of_birth")
+			.field("personalEmail", "ed.personal_email")
+			.field("emergencyPhoneNo", "ed.emergency_ph_no")
+			.field("fatherName", "ed.fatherName")
+			.field("uanNo", "ed.uanNo")
+			.field("bloodGroupId", "bg.bloodGroupId")
+			.field("bloodGroupName", "bg.bloodGroupName")
+			.field("casteId", "cs.caste_id")
+			.field("casteName", "cs.caste_type")
+			.field("religionId", "r.religion_id")
+			.field("religionName", "r.religion_type")
+			.field("maritalStatusId", "ms.marital_status_id")
+			.field("maritalStatusName", "ms.marital_status_type")
+			.field("relationId", "rel.studentRelationId")
+			.field("relationName", "rel.studentRelationType")
+			.field("modeOfHiringId", "mh.mode_of_hiring_id")
+			.field("modeOfHiringName", "mh.mode_of_hiring_name")
+			.field("joiningAsTypeId", "j.join_type_id")
+			.field("joinType", "j.join_type")
+			.field("aadhaarEnrolmentNo", "ed.adhaar_enrolment_no")
+			.field("sscNo", "e.ssc_no")
+			.field("referenceEmployeeId", "ref.emp_id")
+			.field("referenceEmployeeName", "concat(ref.first_name, ' ', ref.last_name)")
+			.field("hiredByEmployeeId", "hired.emp_id")
+			.field("hiredByEmployeeName", "concat(hired.first_name, ' ', hired.last_name)")
+			.field("reportingManagerId", "rm.emp_id")
+			.field("reportingManagerName", "concat(rm.first_name, ' ', rm.last_name)")
+			.field("replacementEmployeeId", "rep.emp_id")
+			.field("replacementEmployeeName", "concat(rep.first_name, ' ', rep.last_name)")
+			.field("totalExperience", "e.total_experience")
+			.field("preEsiNo", "epd.pre_esi_no")
+			.field("contractStartDate", "e.contract_start_date")
+			.field("contractEndDate", "e.contract_end_date")
+			.field("empTypeHiringId", "eth.emp_type_hiring_id")
+			.field("empTypeHiringName", "eth.emp_type_hiring_name");
+
+	private final EntityManager entityManager;
+	private final Cache queryCache;
+	private final Resource profile;
+	private final Resource onboarding;
+	private final String fullBasicInfoJpql;
+
+	public SparseFieldsetService(EntityManager entityManager, CacheManager cacheManager) {
+		this.entityManager = entityManager;
+		this.queryCache = cacheManager.getCache(CacheConfig.FIELD_SET_QUERY_CACHE);
+		this.fullBasicInfoJpql = FULL_BASIC_INFO.buildConstructor(FullBasicInfoDto.class);
+		this.profile = viewResource("profile", EmpProfileView.class, "payrollId");
+		this.onboarding = viewResource("onboarding", EmployeeOnboardingView.class, "tempPayrollId");
+	}
+
+	/**
+	 * Basic info of the employee with this temp payroll ID, with every field.
+	 *
+	 * @throws IncorrectResultSizeDataAccessException if more than one row matches
+	 */
+	@Transactional(readOnly = true)
+	public Optional<FullBasicInfoDto> findFullBasicInfo(String tempPayrollId) {
+		return unique(entityManager.createQuery(fullBasicInfoJpql, FullBasicInfoDto.class)
+				.setParameter("key", tempPayrollId)
+				.getResultList());
+	}
+
+	/** Fields of FullBasicInfoDto for the employee with this temp payroll ID. */
+	@Transactional(readOnly = true)
+	public Optional<Map<String, Object>> findBasicInfo(String tempPayrollId, String fields) {
+		return select(FULL_BASIC_INFO, tempPayrollId, fields);
+	}
+
+	/** Fields of EmpProfileView for the employee with this payroll ID. */
+	@Transactional(readOnly = true)
+	public Optional<Map<String, Object>> findProfile(String payrollId, String fields) {
+		return select(profile, payrollId, fields);
+	}
+
+	/** Fields of EmployeeOnboardingView for the employee with this temp payroll ID. */
+	@Transactional(readOnly = true)
+	public Optional<Map<String, Object>> findOnboarding(String tempPayrollId, String fields) {
+		return select(onboarding, tempPayrollId, fields);
+	}
+
+	private Optional<Map<String, Object>> select(Resource resource, String key, String fields) {
+		List<String> requested = resource.parse(fields);
+		FieldSetQuery query = queryCache.get(resource.name + ":" + String.join(",", new TreeSet<>(requested)),
+				() -> resource.build(new TreeSet<>(requested)));
+		return unique(entityManager.createQuery(query.jpql(), Tuple.class)
+				.setParameter("key", key)
+				.getResultList())
+				.map(row -> {
+					Map<String, Object> values = new LinkedHashMap<>();
+					requested.forEach(field -> values.put(field, row.get(query.fields().indexOf(field))));
+					return values;
+				});
+	}
+
+	/** The only row, if any; more than one fails as a single-result repository query does. */
+	private static <T> Optional<T> unique(List<T> rows) {
+		if (rows.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, rows.size());
+		}
+		return rows.stream().findFirst();
+	}
+
+	private Resource viewResource(String name, Class<?> view, String keyAttribute) {
+		Resource resource = new Resource(name, view.getSimpleName() + " v", "v." + keyAttribute);
+		entityManager.getMetamodel().entity(view).getAttributes().stream()
+				.map(Attribute::getName)
+				.sorted()
+				.forEach(attribute -> resource.field(attribute, "v." + attribute));
+		return resource;
+	}
+
+	/** A cached select: the JPQL and the fields of its columns, in column order. */
+	private record FieldSetQuery(String jpql, List<String> fields) {
+	}
+
+	private record Join(String clause, String parent) {
+	}
+
+	/** What fields= can select from one endpoint's data, and the joins each field needs. */
+	private static final class Resource {
+
+		private static final Pattern ALIAS = Pattern.compile("\\b([a-z]+)\\.");
+
+		private final String name;
+		private final String from;
+		private final String keyExpression;
+		private final Map<String, Join> joins = new LinkedHashMap<>();
+		private final Map<String, String> expressions = new LinkedHashMap<>();
+
+		Resource(String name, String from, String keyExpression) {
+			this.name = name;
+			this.from = from;
+			this.keyExpression = keyExpression;
+		}
+
+		Resource join(String alias, String clause, String parent) {
+			joins.put(alias, new Join(clause, parent));
+			return this;
+		}
+
+		Resource field(String field, String expression) {
+			expressions.put(field, expression);
+			return this;
+		}
+
+		/**
+		 * The requested fields, without blanks or repeats.
+		 *
+		 * @throws IllegalArgumentException if none is given or one is unknown
+		 */
+		List<String> parse(String fields) {
+			List<String> requested = Arrays.stream(fields != null ? fields.split(",") : new String[0])
+					.map(String::trim)
+					.filter(field -> !field.isEmpty())
+					.distinct()
+					.toList();
+			if (requested.isEmpty()) {
+				throw new IllegalArgumentException("fields must name at least one field");
+			}
+			List<String> unknown = requested.stream().filter(field -> !expressions.containsKey(field)).toList();
+			if (!unknown.isEmpty()) {
+				throw new IllegalArgumentException("Unknown fields " + unknown + "; allowed: " + expressions.keySet());
+			}
+			return requested;
+		}
+
+		FieldSetQuery build(Set<String> fields) {
+			Set<String> aliases = new LinkedHashSet<>();
+			List<String> columns = new ArrayList<>();
+			for (String field : fields) {
+				String expression = expressions.get(field);
+				columns.add(expression);
+				Matcher matcher = ALIAS.matcher(expression);
+				while (matcher.find()) {
+					// the field's join and the joins it goes through (e.g. bg needs ed)
+					for (String alias = matcher.group(1); alias != null && joins.containsKey(alias);
+							alias = joins.get(alias).parent()) {
+						aliases.add(alias);
+					}
+				}
+			}
+			String joinClauses = joins.entrySet().stream()
+					.filter(join -> aliases.contains(join.getKey()))
+					.map(join -> " " + join.getValue().clause())
+					.collect(Collectors.joining());
+			return new FieldSetQuery(query(String.join(", ", columns), joinClauses), List.copyOf(fields));
+		}
+
+		/** All fields, in declaration order, as the arguments of the DTO's constructor. */
+		String buildConstructor(Class<?> dto) {
+			String joinClauses = joins.values().stream()
+					.map(join -> " " + join.clause())
+					.collect(Collectors.joining());
+			return query("new " + dto.getName() + "(" + String.join(", ", expressions.values()) + ")", joinClauses);
+		}
+
+		private String query(String select, String joinClauses) {
+			return "SELECT " + select + " FROM " + from + joinClauses + " WHERE " + keyExpression + " = :key";
+		}
+	}
+}
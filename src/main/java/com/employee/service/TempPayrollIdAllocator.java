@@ -0,0 +1,185 @@
+package com.employee.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.repository.EmployeeRepository;
+import com.employee.repository.SkillTestDetailsRepository;
+import com.employee.repository.TempPayrollIdCounterRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hands out TEMP&lt;campusCode&gt;&lt;nnnn&gt; temp payroll IDs that are unique
+ * across all nodes.
+ *
+ * Each campus has one row in sce_temp_payroll_counter. A node reserves a block
+ * of suffixes by moving that row forward in its own short transaction (hi/lo),
+ * then serves IDs from memory until the block is used up. Reservations commit
+ * independently of the caller's transaction, so a rolled-back save can leave a
+ * gap but can never cause a duplicate. Unused block tails are handed back on
+ * shutdown when no other node has reserved since, so a normal restart does not
+ * leave gaps.
+ */
+@Service
+public class TempPayrollIdAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(TempPayrollIdAllocator.class);
+
+    private static final int QA_SEQUENCE_START = 10001;
+
+    private final TempPayrollIdCounterRepository counterRepository;
+    private final SkillTestDetailsRepository skillTestDetailsRepository;
+    private final EmployeeRepository employeeRepository;
+    private final TransactionOperations requiresNew;
+    private final int blockSize;
+    private final boolean qaSequence;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TempPayrollIdAllocator(TempPayrollIdCounterRepository counterRepository,
+            SkillTestDetailsRepository skillTestDetailsRepository, EmployeeRepository employeeRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${employee.temp-payroll-id.block-size:10}") int blockSize,
+            @Value("${spring.datasource.url}") String dbUrl) {
+        this(counterRepository, skillTestDetailsRepository, employeeRepository,
+                requiresNewTemplate(transactionManager), blockSize, dbUrl != null && dbUrl.contains("20.21"));
+    }
+
+    TempPayrollIdAllocator(TempPayrollIdCounterRepository counterRepository,
+            SkillTestDetailsRepository skillTestDetailsRepository, EmployeeRepository employeeRepository,
+            TransactionOperations requiresNew, int blockSize, boolean qaSequence) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("employee.temp-payroll-id.block-size must be at least 1");
+        }
+        this.counterRepository = counterRepository;
+        this.skillTestDetailsRepository = skillTestDetailsRepository;
+        this.employeeRepository = employeeRepository;
+        this.requiresNew = requiresNew;
+        this.blockSize = blockSize;
+        this.qaSequence = qaSequence;
+    }
+
+    private static TransactionOperations requiresNewTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    /**
+     * Next temp payroll ID for a campus code, e.g. TEMP1230045.
+     */
+    public String nextTempPayrollId(int campusCode) {
+        String baseKey = "TEMP" + campusCode;
+        return baseKey + String.format("%04d", nextValue(baseKey));
+    }
+
+    /**
+     * Next numeric suffix for a base key ("TEMP" + campus code).
+     */
+    public int nextValue(String baseKey) {
+        Block block = blocks.computeIfAbsent(baseKey, k -> new Block());
+        synchronized (block) {
+            if (block.next > block.last) {
+                reserveBlock(baseKey, block);
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * Makes sure the counter for a base key is above a suffix already in use.
+     * Used by the startup warm-up; never lowers a counter.
+     */
+    public void seed(String baseKey, int maxUsedSuffix) {
+        int nextValue = applyQaFloor(maxUsedSuffix + 1);
+        requiresNew.executeWithoutResult(status -> counterRepository.raiseNextValue(baseKey, nextValue));
+    }
+
+    /**
+     * Returns unused block tails to the counters so that IDs stay dense across
+     * restarts. A tail is only returned if no other node reserved after it.
+     */
+    @PreDestroy
+    public void releaseUnusedBlocks() {
+        blocks.forEach((baseKey, block) -> {
+            synchronized (block) {
+                if (block.next > block.last) {
+                    return;
+                }
+                try {
+                    int unusedFrom = block.next;
+                    int expected = block.last + 1;
+                    Integer released = requiresNew
+                            .execute(status -> counterRepository.releaseBlock(baseKey, unusedFrom, expected));
+                    if (released != null && released > 0) {
+                        logger.info("Released unused temp payroll IDs {}..{} for {}", unusedFrom, block.last,
+                                baseKey);
+                    }
+                } catch (Exception e) {
+                    logger.warn("Could not release unused temp payroll IDs for {}: {}", baseKey, e.getMessage());
+                }
+                block.next = block.last + 1;
+            }
+        });
+    }
+
+    private void reserveBlock(String baseKey, Block block) {
+        Integer end = requiresNew.execute(status -> {
+            Integer next = counterRepository.reserveBlock(baseKey, blockSize);
+            if (next == null) {
+                // First ID for this campus: create the counter from the IDs already in use
+                counterRepository.raiseNextValue(baseKey, initialNextValue(baseKey));
+                next = counterRepository.reserveBlock(baseKey, blockSize);
+            }
+            return next;
+        });
+        if (end == null) {
+            throw new IllegalStateException("Could not reserve temp payroll IDs for " + baseKey);
+        }
+        block.next = end - blockSize;
+        block.last = end - 1;
+        logger.debug("Reserved temp payroll IDs {}..{} for {}", block.next, block.last, baseKey);
+    }
+
+    private int initialNextValue(String baseKey) {
+        String maxInSkillTest = skillTestDetailsRepository.findMaxTempPayrollIdByKey(baseKey + "%");
+        String maxInEmployee = employeeRepository.findMaxTempPayrollIdByKey(baseKey + "%");
+        int maxValue = Math.max(parseSuffix(baseKey, maxInSkillTest), parseSuffix(baseKey, maxInEmployee));
+        return applyQaFloor(maxValue + 1);
+    }
+
+    // QA Sequence Start Logic: on QA (DB URL contains '20.21') temp IDs start from 10001
+    private int applyQaFloor(int nextValue) {
+        return qaSequence ? Math.max(nextValue, QA_SEQUENCE_START) : nextValue;
+    }
+
+    private static int parseSuffix(String baseKey, String tempPayrollId) {
+        if (tempPayrollId == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(tempPayrollId.substring(baseKey.length()));
+        } catch (NumberFormatException e) {
+            logger.warn("Could not parse number part from {}", tempPayrollId);
+            return 0;
+        }
+    }
+
+    /** Reserved range [next, last] for one base key; guarded by its own monitor. */
+    private static final class Block {
+        private int next = 1;
+        private int last = 0;
+    }
+}
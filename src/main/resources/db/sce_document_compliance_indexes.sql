@@ -0,0 +1,11 @@
+-- Document status and campus compliance queries (DocumentCompletenessService,
+-- DocumentComplianceService): an employee's active documents by type, active
+-- qualifications, and the active employees of a campus.
+CREATE INDEX IF NOT EXISTS idx_emp_doc_emp_type_active
+    ON sce_employee.sce_emp_doc (emp_id, doc_type_id) WHERE is_active = 1;
+
+CREATE INDEX IF NOT EXISTS idx_emp_qualification_emp_active
+    ON sce_employee.sce_emp_qualification (emp_id, qualification_id) WHERE is_active = 1;
+
+CREATE INDEX IF NOT EXISTS idx_emp_cmps_active
+    ON sce_employee.sce_emp (cmps_id) WHERE is_active = 1;
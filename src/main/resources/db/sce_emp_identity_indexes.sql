@@ -0,0 +1,7 @@
+-- Payroll ID / temp payroll ID -> emp_id lookups (EmployeeIdResolver falls back to these on a
+-- cache miss, and findByPayRollId / findByTempPayrollId use them everywhere else).
+CREATE INDEX IF NOT EXISTS idx_emp_payroll_id
+    ON sce_employee.sce_emp (payroll_id) WHERE payroll_id IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_emp_temp_payroll_id
+    ON sce_employee.sce_emp (temp_payroll_id) WHERE temp_payroll_id IS NOT NULL;
@@ -0,0 +1,55 @@
+-- Onboarding status board (GET /api/EmpDetailsFORCODO/status): one row per employee
+-- with the columns of the emp_onboarding_status view. OnboardingStatusBoardService
+-- rewrites an employee's row from the view, for that emp_id only, in the same
+-- transaction as each workflow change (DO forward, CO confirm, reject,
+-- back-to-campus, incompleted, tab saves). The board is read with keyset paging on
+-- emp_id, so every filter index ends in emp_id.
+CREATE TABLE IF NOT EXISTS sce_employee.sce_emp_onboarding_board (
+    emp_id                  INTEGER      PRIMARY KEY,
+    employee_name           VARCHAR(255),
+    cmps_id                 INTEGER,
+    cmps_name               VARCHAR(255),
+    category_id             INTEGER,
+    category_name           VARCHAR(255),
+    payroll_id              VARCHAR(50),
+    temp_payroll_id         VARCHAR(50),
+    date_of_join            DATE,
+    leaving_date            DATE,
+    gender_id               INTEGER,
+    gender_name             VARCHAR(50),
+    city_name               VARCHAR(255),
+    remarks                 VARCHAR(500),
+    join_type_id            INTEGER,
+    join_type               VARCHAR(100),
+    replaced_by_emp_id      INTEGER,
+    replaced_by_emp_payroll VARCHAR(50),
+    verify_kyc              INTEGER,
+    kyc_status              VARCHAR(50),
+    check_app_status_name   VARCHAR(100),
+    updated_date            TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_emp_onboarding_board_category_key
+    ON sce_employee.sce_emp_onboarding_board (UPPER(category_name), emp_id);
+
+CREATE INDEX IF NOT EXISTS idx_emp_onboarding_board_category_id_key
+    ON sce_employee.sce_emp_onboarding_board (category_id, emp_id);
+
+CREATE INDEX IF NOT EXISTS idx_emp_onboarding_board_campus_key
+    ON sce_employee.sce_emp_onboarding_board (cmps_id, emp_id);
+
+CREATE INDEX IF NOT EXISTS idx_emp_onboarding_board_status_key
+    ON sce_employee.sce_emp_onboarding_board (check_app_status_name, emp_id);
+
+-- One-off backfill; afterwards the application keeps the rows current
+INSERT INTO sce_employee.sce_emp_onboarding_board (emp_id, employee_name, cmps_id, cmps_name, category_id,
+        category_name, payroll_id, temp_payroll_id, date_of_join, leaving_date, gender_id, gender_name, city_name,
+        remarks, join_type_id, join_type, replaced_by_emp_id, replaced_by_emp_payroll, verify_kyc, kyc_status,
+        check_app_status_name)
+SELECT DISTINCT ON (emp_id) emp_id, employee_name, cmps_id, cmps_name, category_id, category_name, payroll_id,
+        temp_payroll_id, date_of_join, leaving_date, gender_id, gender_name, city_name, remarks, join_type_id,
+        join_type, replaced_by_emp_id, replaced_by_emp_payroll, verify_kyc, kyc_status, check_app_status_name
+FROM sce_employee.emp_onboarding_status
+WHERE emp_id IS NOT NULL
+ORDER BY emp_id, temp_payroll_id
+ON CONFLICT (emp_id) DO NOTHING;
@@ -0,0 +1,32 @@
+-- Outbox of candidate bio-data pushes to the exam platform (saveEmpBioDetails).
+-- Rows are written in the same transaction as the skill test registration and
+-- delivered by ExamSyncOutboxService. The payload is built from the current
+-- sce_skill_test_detl row at delivery time, so one open row per candidate is
+-- enough: a second enqueue while one is PENDING is collapsed into it.
+--   PENDING -> SENDING (claimed by a node until locked_until) -> SENT
+--                                                         \-> PENDING (retry) / FAILED (gave up)
+CREATE TABLE IF NOT EXISTS sce_employee.sce_exam_sync_outbox (
+    outbox_id          BIGSERIAL    PRIMARY KEY,
+    temp_payroll_id    VARCHAR(50)  NOT NULL,
+    skill_test_detl_id INTEGER,
+    status             VARCHAR(10)  NOT NULL DEFAULT 'PENDING',
+    attempts           INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at    TIMESTAMP    NOT NULL DEFAULT now(),
+    locked_until       TIMESTAMP,
+    last_error         VARCHAR(500),
+    created_date       TIMESTAMP    NOT NULL DEFAULT now(),
+    sent_date          TIMESTAMP,
+    updated_date       TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+-- Deduplication: at most one PENDING row per candidate
+CREATE UNIQUE INDEX IF NOT EXISTS uq_exam_sync_outbox_pending
+    ON sce_employee.sce_exam_sync_outbox (temp_payroll_id) WHERE status = 'PENDING';
+
+-- Claim ordering checks and status counts only ever look at unsent rows
+CREATE INDEX IF NOT EXISTS idx_exam_sync_outbox_open
+    ON sce_employee.sce_exam_sync_outbox (temp_payroll_id, outbox_id) WHERE status <> 'SENT';
+
+-- Retention purge: SENT rows older than sent-retention-days are deleted in batches
+CREATE INDEX IF NOT EXISTS idx_exam_sync_outbox_sent
+    ON sce_employee.sce_exam_sync_outbox (sent_date) WHERE status = 'SENT';
@@ -0,0 +1,26 @@
+-- Cluster-wide coordination of scheduled jobs (see ClusterJobCoordinator).
+-- A node runs a job only while it holds the job's lease row. The lease is
+-- renewed while the job runs and expires lease-seconds after the holder stops
+-- renewing (node died), so another node takes over on its next trigger.
+-- All times come from the database clock, so node clock skew does not matter.
+CREATE TABLE IF NOT EXISTS sce_employee.sce_scheduler_lease (
+    job_name     VARCHAR(100) PRIMARY KEY,
+    owner        VARCHAR(200) NOT NULL,
+    acquired_at  TIMESTAMP    NOT NULL,
+    locked_until TIMESTAMP    NOT NULL
+);
+
+-- One row per run that got the lease; exposed on /actuator/scheduledjobs
+CREATE TABLE IF NOT EXISTS sce_employee.sce_scheduler_run (
+    run_id      BIGSERIAL    PRIMARY KEY,
+    job_name    VARCHAR(100) NOT NULL,
+    node        VARCHAR(200) NOT NULL,
+    started_at  TIMESTAMP    NOT NULL,
+    finished_at TIMESTAMP,
+    items       BIGINT,
+    outcome     VARCHAR(20)  NOT NULL, -- RUNNING, SUCCEEDED, SKIPPED, FAILED, ABANDONED
+    message     VARCHAR(500)
+);
+
+CREATE INDEX IF NOT EXISTS idx_scheduler_run_job_started
+    ON sce_employee.sce_scheduler_run (job_name, started_at DESC);
@@ -0,0 +1,11 @@
+-- Keyset-paged skill test list / approval table (SkillTestDetailsService.getSkillTestList,
+-- get_details_of_passed_employees): rows are read in key order after a cursor, so the
+-- filters need indexes that end in the key to stop after one page.
+CREATE INDEX IF NOT EXISTS idx_skill_test_detl_category_key
+    ON sce_employee.sce_skill_test_detl (campus_category, skill_test_detl_id) WHERE is_active = 1;
+
+CREATE INDEX IF NOT EXISTS idx_skill_test_detl_city_key
+    ON sce_employee.sce_skill_test_detl (city_id, skill_test_detl_id) WHERE is_active = 1;
+
+CREATE INDEX IF NOT EXISTS idx_skill_test_result_status_key
+    ON sce_employee.sce_skill_test_result (skill_test_approval_status_id, skill_test_result_id) WHERE is_active = 1;
@@ -0,0 +1,17 @@
+-- Exam-result poll state per skill test candidate (see EmpExamIntegrationService.fetchAllResults).
+-- The hourly harvest only polls candidates whose next_eligible_at has passed;
+-- each consecutive 422 ("not attempted") doubles the wait up to a cap, and a
+-- push through syncEmployeeFromDb makes the candidate due again immediately.
+-- Rows are created on first poll; candidates without a row are always due.
+CREATE TABLE IF NOT EXISTS sce_employee.sce_skill_test_poll_state (
+    skill_test_detl_id        INTEGER   PRIMARY KEY
+                                        REFERENCES sce_employee.sce_skill_test_detl (skill_test_detl_id),
+    last_polled_at            TIMESTAMP,
+    consecutive_not_attempted INTEGER   NOT NULL DEFAULT 0,
+    next_eligible_at          TIMESTAMP,
+    last_synced_at            TIMESTAMP,
+    updated_date              TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_skill_test_poll_state_next_eligible
+    ON sce_employee.sce_skill_test_poll_state (next_eligible_at);
@@ -0,0 +1,10 @@
+-- Per-campus counter for TEMP<campusCode><nnnn> temp payroll IDs.
+-- next_value is the next suffix not yet handed out to any node; nodes reserve
+-- blocks of suffixes by incrementing it (see TempPayrollIdAllocator).
+-- Rows are created on demand, seeded from the highest suffix already used in
+-- sce_skill_test_detl / sce_emp.
+CREATE TABLE IF NOT EXISTS sce_employee.sce_temp_payroll_counter (
+    base_key     VARCHAR(32) PRIMARY KEY,
+    next_value   INTEGER     NOT NULL,
+    updated_date TIMESTAMP   NOT NULL DEFAULT now()
+);
@@ -0,0 +1,28 @@
+package com.employee;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Helpers for tests on the shared "h2" profile database. Test classes with the
+ * same configuration share one Spring context and so one database; each
+ * starts from empty tables instead of relying on which class ran first.
+ */
+public final class TestDatabase {
+
+	private TestDatabase() {
+	}
+
+	/**
+	 * Empties every table and turns off foreign key checks, so seed rows can
+	 * be inserted in any order.
+	 */
+	public static void reset(JdbcTemplate jdbcTemplate) {
+		jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+		List<String> tables = jdbcTemplate.queryForList("SELECT table_schema || '.' || table_name "
+				+ "FROM information_schema.tables WHERE table_type = 'BASE TABLE' "
+				+ "AND table_schema NOT IN ('information_schema', 'pg_catalog')", String.class);
+		tables.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE " + table));
+	}
+}
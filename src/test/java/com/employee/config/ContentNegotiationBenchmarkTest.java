@@ -0,0 +1,108 @@
+package com.employee.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.employee.dto.EmployeeSearchResponseDTO;
+import com.employee.dto.GenericDropdownDTO;
+import com.employee.dto.SkillTestListDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Compares payload size of JSON, CBOR and Smile (each with and without gzip)
+ * for 10k-row lists shaped like the dropdown, search and skill-test list
+ * responses. Sizes are logged; the assertions guard that the binary formats
+ * round-trip and are not larger than JSON.
+ */
+class ContentNegotiationBenchmarkTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ContentNegotiationBenchmarkTest.class);
+
+	private static final int ROWS = 10_000;
+
+	private final Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+
+	ContentNegotiationBenchmarkTest() {
+		mappers.put("json", new Jackson2ObjectMapperBuilder().build());
+		mappers.put("cbor", new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build());
+		mappers.put("smile", new Jackson2ObjectMapperBuilder().factory(new SmileFactory()).build());
+	}
+
+	@Test
+	void dropdownList() throws IOException {
+		List<GenericDropdownDTO> rows = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			rows.add(new GenericDropdownDTO(100_000 + i, "Employee" + i + " Lastname" + (i % 97) + " (HYD" + i + ")"));
+		}
+		compare("GenericDropdownDTO", rows, new TypeReference<List<GenericDropdownDTO>>() {
+		});
+	}
+
+	@Test
+	void employeeSearchList() throws IOException {
+		List<EmployeeSearchResponseDTO> rows = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			rows.add(new EmployeeSearchResponseDTO(100_000 + i, "Employee" + i + " Lastname", "HYD" + (200_000 + i),
+					"Department " + (i % 40), "Direct", "TEMPHYD" + i, 36, "Telangana", 100 + (i % 30),
+					"City " + (i % 30), 5_000 + (i % 400), "Campus " + (i % 400), "SCHOOL", 1 + (i % 3),
+					"TEACHING"));
+		}
+		compare("EmployeeSearchResponseDTO", rows, new TypeReference<List<EmployeeSearchResponseDTO>>() {
+		});
+	}
+
+	@Test
+	void skillTestList() throws IOException {
+		LocalDateTime joined = LocalDateTime.of(2025, 6, 1, 10, 30);
+		List<SkillTestListDto> rows = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			rows.add(new SkillTestListDto(i + 1, "Candidate" + i + " Lastname", "TEMPHYD" + i, null, "HYD" + i,
+					joined.plusDays(i % 365), "City " + (i % 30), "Campus " + (i % 400), i % 2 == 0 ? "Male" : "Female",
+					1 + (i % 25), "Subject " + (i % 25), "COLLEGE"));
+		}
+		compare("SkillTestListDto", rows, new TypeReference<List<SkillTestListDto>>() {
+		});
+	}
+
+	private <T> void compare(String label, List<T> rows, TypeReference<List<T>> type) throws IOException {
+		int jsonSize = 0;
+		for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+			ObjectMapper mapper = entry.getValue();
+			byte[] payload = mapper.writeValueAsBytes(rows);
+			logger.info("{} x {} rows as {}: {} bytes, {} gzipped", label, rows.size(), entry.getKey(), payload.length,
+					gzip(payload).length);
+
+			assertEquals(rows, mapper.readValue(payload, type), entry.getKey() + " must round-trip");
+			if ("json".equals(entry.getKey())) {
+				jsonSize = payload.length;
+			} else {
+				assertTrue(payload.length <= jsonSize, entry.getKey() + " payload should not exceed JSON");
+			}
+		}
+	}
+
+	private static byte[] gzip(byte[] payload) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(payload);
+		}
+		return out.toByteArray();
+	}
+}
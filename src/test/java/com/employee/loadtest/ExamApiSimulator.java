@@ -0,0 +1,185 @@
+package com.employee.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the exam platform (testreportsapi.scaits.net).
+ * Serves POST /scaits/saveEmpBioDetails and GET /scaits/getEmpTestResult on a
+ * random local port with a configurable latency and error profile.
+ *
+ * Whether a candidate "has not attempted the exam" (HTTP 422) is derived from
+ * the payroll ID, so repeated runs over the same data see the same split.
+ * Errors (HTTP 503) are random.
+ */
+public class ExamApiSimulator implements AutoCloseable {
+
+	/** Latency and error profile. Rates are fractions between 0 and 1. */
+	public record Profile(long latencyMs, long jitterMs, double notAttemptedRate, double errorRate) {
+
+		public static Profile fromSystemProperties() {
+			return new Profile(Long.getLong("loadtest.latency-ms", 20), Long.getLong("loadtest.jitter-ms", 20),
+					Double.parseDouble(System.getProperty("loadtest.not-attempted-rate", "0.3")),
+					Double.parseDouble(System.getProperty("loadtest.error-rate", "0.02")));
+		}
+	}
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private volatile Profile profile;
+
+	private final LongAdder resultCalls = new LongAdder();
+	private final LongAdder bioCalls = new LongAdder();
+	private final LongAdder notAttemptedAnswers = new LongAdder();
+	private final LongAdder errorAnswers = new LongAdder();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	public ExamApiSimulator(Profile profile) throws IOException {
+		this.profile = profile;
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.executor = Executors.newFixedThreadPool(64);
+		server.setExecutor(executor);
+		server.createContext("/scaits/getEmpTestResult", this::getEmpTestResult);
+		server.createContext("/scaits/saveEmpBioDetails", this::saveEmpBioDetails);
+		server.start();
+	}
+
+	/** Value for employee.exam-api.base-url. */
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/scaits";
+	}
+
+	public void setProfile(Profile profile) {
+		this.profile = profile;
+	}
+
+	/** True if the simulator answers 422 for this payroll ID under the current profile. */
+	public boolean isNotAttempted(String payrollId) {
+		// Scramble the hash: consecutive payroll IDs have consecutive hash codes
+		return Math.floorMod(payrollId.hashCode() * 0x9E3779B1, 1000) < profile.notAttemptedRate() * 1000;
+	}
+
+	public long getResultCalls() {
+		return resultCalls.sum();
+	}
+
+	public long getBioCalls() {
+		return bioCalls.sum();
+	}
+
+	public long getNotAttemptedAnswers() {
+		return notAttemptedAnswers.sum();
+	}
+
+	public long getErrorAnswers() {
+		return errorAnswers.sum();
+	}
+
+	public int getMaxInFlight() {
+		return maxInFlight.get();
+	}
+
+	public void resetCounters() {
+		resultCalls.reset();
+		bioCalls.reset();
+		notAttemptedAnswers.reset();
+		errorAnswers.reset();
+		maxInFlight.set(0);
+	}
+
+	private void getEmpTestResult(HttpExchange exchange) throws IOException {
+		resultCalls.increment();
+		handle(exchange, () -> {
+			String payrollId = queryParam(exchange.getRequestURI(), "empPayrollId");
+			if (payrollId == null || isNotAttempted(payrollId)) {
+				notAttemptedAnswers.increment();
+				respond(exchange, 422, "{\"error\":\"unprocessable_entity\","
+						+ "\"error_description\":\"This Employee have not attempt the exam\"}");
+				return;
+			}
+			int correct = Math.floorMod(payrollId.hashCode(), 31);
+			respond(exchange, 200, "{\"payrollId\":\"" + payrollId + "\",\"subject\":\"MATHS\","
+					+ "\"examDate\":\"15-10-2026\",\"totalMarks\":\"" + correct + ".0\",\"totalQuestions\":\"30\","
+					+ "\"correct\":\"" + correct + "\",\"wrong\":\"" + (30 - correct) + "\","
+					+ "\"attempted\":\"30\",\"unAttempted\":\"0\"}");
+		});
+	}
+
+	private void saveEmpBioDetails(HttpExchange exchange) throws IOException {
+		bioCalls.increment();
+		handle(exchange, () -> {
+			exchange.getRequestBody().readAllBytes();
+			respond(exchange, 200, "{\"status\":\"success\"}");
+		});
+	}
+
+	private void handle(HttpExchange exchange, IoAction action) throws IOException {
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		try {
+			Profile current = profile;
+			long delay = current.latencyMs()
+					+ (current.jitterMs() > 0 ? ThreadLocalRandom.current().nextLong(current.jitterMs() + 1) : 0);
+			if (delay > 0) {
+				Thread.sleep(delay);
+			}
+			if (ThreadLocalRandom.current().nextDouble() < current.errorRate()) {
+				errorAnswers.increment();
+				respond(exchange, 503, "{\"error\":\"unavailable\"}");
+				return;
+			}
+			action.run();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			respond(exchange, 503, "{\"error\":\"interrupted\"}");
+		} finally {
+			inFlight.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private static String queryParam(URI uri, String name) {
+		String query = uri.getRawQuery();
+		if (query == null) {
+			return null;
+		}
+		for (String pair : query.split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq > 0 && pair.substring(0, eq).equals(name)) {
+				return java.net.URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	@FunctionalInterface
+	private interface IoAction {
+		void run() throws IOException;
+	}
+}
@@ -0,0 +1,296 @@
+package com.employee.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.employee.service.EmpExamIntegrationService;
+import com.employee.service.ExamResultHarvester;
+import com.employee.service.ExamResultWebhookService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Load-test harness for EmpExamIntegrationService against {@link ExamApiSimulator}
+ * and an embedded H2 database (PostgreSQL mode, schema generated from the
+ * entities).
+ *
+ * The untagged tests run in every build on a small candidate set and check
+ * behaviour only: every candidate accounted for, one saved row per fetched
+ * result, concurrency cap respected, forged or stale webhook deliveries
+ * refused and redelivery saving nothing.
+ *
+ * The tests tagged "load" are excluded by default. They seed
+ * loadtest.candidates skill test rows, run fetchAllResults, push
+ * loadtest.syncs candidates through syncEmployeeFromDb from
+ * loadtest.sync-threads threads and deliver every result through the webhook,
+ * and log throughput and latency for each; compare the logged numbers between
+ * runs. Run them with the load-test profile, e.g.:
+ *
+ * mvn test -Pload-test -Dtest=ExamIntegrationLoadTest -Dloadtest.candidates=5000 -Dloadtest.latency-ms=80
+ *
+ * The Postgres-only poll-state upserts (ON CONFLICT) fail on H2 and are
+ * skipped by ExamPollStateService, so backoff is not exercised here; the
+ * outbox dispatcher (also Postgres-only SQL) is switched off.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.hikari.maximum-pool-size=20",
+		"logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper=OFF",
+		"logging.level.com.employee.service.ExamPollStateService=ERROR",
+		"logging.level.com.employee.service.EmpExamIntegrationService=WARN",
+		"logging.level.com.employee.service.ExamResultBatchWriter=WARN",
+		"logging.level.com.employee.loadtest=INFO",
+		"employee.exam-webhook.secret=" + ExamIntegrationLoadTest.WEBHOOK_SECRET,
+		"employee.exam-harvest.concurrency=" + ExamIntegrationLoadTest.CONCURRENCY,
+		"employee.exam-harvest.calls-per-second=2000",
+		"resilience4j.bulkhead.instances.examResultApi.max-concurrent-calls=" + ExamIntegrationLoadTest.CONCURRENCY
+})
+@ActiveProfiles("h2")
+class ExamIntegrationLoadTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExamIntegrationLoadTest.class);
+
+	private static final int FUNCTIONAL_CANDIDATES = 60;
+	static final int CONCURRENCY = 16;
+	private static final int CANDIDATES = Integer.getInteger("loadtest.candidates", 400);
+	private static final int SYNCS = Integer.getInteger("loadtest.syncs", 100);
+	private static final int SYNC_THREADS = Integer.getInteger("loadtest.sync-threads", 8);
+	private static final String PAYROLL_PREFIX = "TEMP9";
+	static final String WEBHOOK_SECRET = "loadtest-secret";
+
+	private static final ExamApiSimulator simulator = startSimulator();
+
+	@Autowired
+	private EmpExamIntegrationService integrationService;
+
+	@Autowired
+	private ExamResultWebhookService webhookService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private static ExamApiSimulator startSimulator() {
+		try {
+			return new ExamApiSimulator(ExamApiSimulator.Profile.fromSystemProperties());
+		} catch (java.io.IOException e) {
+			throw new IllegalStateException("Could not start exam API simulator", e);
+		}
+	}
+
+	@DynamicPropertySource
+	static void examApi(DynamicPropertyRegistry registry) {
+		registry.add("employee.exam-api.base-url", simulator::baseUrl);
+	}
+
+	@AfterAll
+	static void stopSimulator() {
+		simulator.close();
+	}
+
+	private void seed(int candidates) {
+		jdbcTemplate.update("DELETE FROM sce_employee.sce_skill_test_result");
+		jdbcTemplate.update("DELETE FROM sce_employee.sce_skill_test_detl");
+		List<Object[]> rows = new ArrayList<>(candidates);
+		for (int i = 0; i < candidates; i++) {
+			rows.add(new Object[] { "Load" + i, "Candidate", payrollId(i) });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO sce_employee.sce_skill_test_detl "
+				+ "(first_name, last_name, temp_payroll_id, is_active, created_by) VALUES (?, ?, ?, 1, 1)", rows);
+		simulator.resetCounters();
+	}
+
+	@Test
+	void harvestAccountsForEveryCandidateWithinTheConcurrencyCap() {
+		seed(FUNCTIONAL_CANDIDATES);
+
+		harvestAndCheck(FUNCTIONAL_CANDIDATES);
+	}
+
+	@Test
+	void webhookAcceptsOnlyAuthenticFreshDeliveriesAndSavesRedeliveryOnce() throws Exception {
+		seed(FUNCTIONAL_CANDIDATES);
+		String payload = webhookPayload(FUNCTIONAL_CANDIDATES);
+		String timestamp = String.valueOf(java.time.Instant.now().getEpochSecond());
+		String signature = sign(timestamp, payload);
+
+		assertTrue(webhookService.isAuthentic(timestamp, signature, payload));
+		assertFalse(webhookService.isAuthentic(timestamp, signature, payload + " "), "tampered body accepted");
+		assertFalse(webhookService.isAuthentic(String.valueOf(Long.parseLong(timestamp) - 3600), signature, payload),
+				"stale delivery accepted");
+
+		ingestAndCheck(payload, FUNCTIONAL_CANDIDATES);
+	}
+
+	@Test
+	@Tag("load")
+	void fetchAllResultsThroughput() {
+		seed(CANDIDATES);
+
+		long start = System.nanoTime();
+		ExamResultHarvester.Summary summary = harvestAndCheck(CANDIDATES);
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		// One timer per status; aggregate them
+		Collection<Timer> resultCallTimers = meterRegistry.find("http.client.requests")
+				.tag("uri", "/scaits/getEmpTestResult?empPayrollId={payrollId}").timers();
+		long calls = resultCallTimers.stream().mapToLong(Timer::count).sum();
+		double totalMs = resultCallTimers.stream().mapToDouble(t -> t.totalTime(TimeUnit.MILLISECONDS)).sum();
+		double maxMs = resultCallTimers.stream().mapToDouble(t -> t.max(TimeUnit.MILLISECONDS)).max().orElse(0);
+
+		logger.info("fetchAllResults: {} candidates, {}", CANDIDATES, summary);
+		logger.info("fetchAllResults: {} candidates/s ({} s)", format(CANDIDATES / seconds), format(seconds));
+		logger.info("fetchAllResults: {} remote calls (422={}, injected 503={}, max in flight={})",
+				simulator.getResultCalls(), simulator.getNotAttemptedAnswers(), simulator.getErrorAnswers(),
+				simulator.getMaxInFlight());
+		logger.info("fetchAllResults: call latency mean={} ms, max={} ms over {} calls",
+				format(calls > 0 ? totalMs / calls : 0), format(maxMs), calls);
+	}
+
+	@Test
+	@Tag("load")
+	void bulkSyncThroughput() throws Exception {
+		seed(CANDIDATES);
+		int syncs = Math.min(SYNCS, CANDIDATES);
+		long[] latenciesNanos = new long[syncs];
+		ExecutorService pool = Executors.newFixedThreadPool(SYNC_THREADS);
+		List<Future<Boolean>> results = new ArrayList<>(syncs);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < syncs; i++) {
+			int index = i;
+			results.add(pool.submit(() -> {
+				long callStart = System.nanoTime();
+				try {
+					integrationService.syncEmployeeFromDb(payrollId(index));
+					return true;
+				} catch (RuntimeException e) {
+					return false;
+				} finally {
+					latenciesNanos[index] = System.nanoTime() - callStart;
+				}
+			}));
+		}
+		int succeeded = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get(2, TimeUnit.MINUTES)) {
+				succeeded++;
+			}
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		pool.shutdown();
+
+		Arrays.sort(latenciesNanos);
+		logger.info("syncEmployeeFromDb: {} pushes on {} threads, {} pushes/s ({} s)", syncs, SYNC_THREADS,
+				format(syncs / seconds), format(seconds));
+		logger.info("syncEmployeeFromDb: latency p50={} ms, p95={} ms, p99={} ms, max={} ms",
+				format(percentileMs(latenciesNanos, 50)), format(percentileMs(latenciesNanos, 95)),
+				format(percentileMs(latenciesNanos, 99)), format(latenciesNanos[syncs - 1] / 1e6));
+		logger.info("syncEmployeeFromDb: {} succeeded, {} failed (injected 503={})", succeeded, syncs - succeeded,
+				simulator.getErrorAnswers());
+
+		assertEquals(syncs, simulator.getBioCalls());
+		assertEquals(syncs - simulator.getErrorAnswers(), succeeded);
+	}
+
+	@Test
+	@Tag("load")
+	void webhookIngestThroughput() throws Exception {
+		seed(CANDIDATES);
+		String payload = webhookPayload(CANDIDATES);
+
+		long start = System.nanoTime();
+		ingestAndCheck(payload, CANDIDATES);
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		logger.info("webhook ingest: {} results delivered twice, {} results/s ({} s)", CANDIDATES,
+				format(2 * CANDIDATES / seconds), format(seconds));
+	}
+
+	/** Runs one harvest over the seeded candidates and checks its accounting. */
+	private ExamResultHarvester.Summary harvestAndCheck(int candidates) {
+		long expectedNotAttempted = 0;
+		for (int i = 0; i < candidates; i++) {
+			if (simulator.isNotAttempted(payrollId(i))) {
+				expectedNotAttempted++;
+			}
+		}
+
+		ExamResultHarvester.Summary summary = integrationService.fetchAllResults();
+
+		assertNotNull(summary, "another harvest was running");
+		Integer savedRows = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM sce_employee.sce_skill_test_result WHERE is_active = 1", Integer.class);
+		assertEquals(candidates, summary.fetched() + summary.notAttempted() + summary.failed() + summary.skipped());
+		assertEquals(expectedNotAttempted, summary.notAttempted());
+		assertEquals(summary.fetched(), savedRows);
+		assertTrue(simulator.getMaxInFlight() <= CONCURRENCY,
+				"concurrency cap exceeded: " + simulator.getMaxInFlight());
+		return summary;
+	}
+
+	/** Delivers the payload twice; the redelivery must save nothing. */
+	private void ingestAndCheck(String payload, int candidates) {
+		ExamResultWebhookService.Receipt first = webhookService.ingest(payload);
+		ExamResultWebhookService.Receipt redelivery = webhookService.ingest(payload);
+
+		assertEquals(candidates, first.saved());
+		assertEquals(0, redelivery.saved());
+		assertEquals(candidates, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM sce_employee.sce_skill_test_result WHERE is_active = 1", Integer.class));
+	}
+
+	private static String webhookPayload(int candidates) {
+		StringBuilder body = new StringBuilder("[");
+		for (int i = 0; i < candidates; i++) {
+			body.append(i > 0 ? "," : "").append("{\"payrollId\":\"").append(payrollId(i))
+					.append("\",\"examDate\":\"15-10-2026\",\"totalMarks\":\"20.0\",\"totalQuestions\":\"30\","
+							+ "\"correct\":\"20\",\"wrong\":\"10\",\"attempted\":\"30\",\"unAttempted\":\"0\"}");
+		}
+		return body.append("]").toString();
+	}
+
+	private static String sign(String timestamp, String payload) throws Exception {
+		javax.crypto.Mac mac = javax.crypto.Mac.getInstance("HmacSHA256");
+		mac.init(new javax.crypto.spec.SecretKeySpec(WEBHOOK_SECRET.getBytes(), "HmacSHA256"));
+		return "sha256=" + java.util.HexFormat.of().formatHex(mac.doFinal((timestamp + "." + payload).getBytes()));
+	}
+
+	private static String format(double value) {
+		return String.format("%.1f", value);
+	}
+
+	private static String payrollId(int index) {
+		return PAYROLL_PREFIX + String.format("%06d", index);
+	}
+
+	private static double percentileMs(long[] sortedNanos, int percentile) {
+		int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+		return sortedNanos[Math.max(index, 0)] / 1e6;
+	}
+}
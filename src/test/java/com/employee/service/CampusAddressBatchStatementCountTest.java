@@ -0,0 +1,135 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.TestDatabase;
+import com.employee.config.CacheConfig;
+import com.employee.dto.EmployeeBatchCampusDTO;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The batch campus address read must cost the same number of SQL statements
+ * however many employees it is given: mappings, campus addresses and roles
+ * are loaded for the whole batch, never per employee or per campus. Every
+ * employee here has a primary campus, a CampusEmployee mapping with a role and
+ * a SharedEmployee mapping, each on a different campus.
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=OFF"
+})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CampusAddressBatchStatementCountTest {
+
+	private static final int EMPLOYEES = 12;
+
+	/** Employees, CampusEmployee, SharedEmployee, campus addresses, mapping roles, admin roles, roles by name. */
+	private static final long STATEMENTS = 7;
+
+	@Autowired
+	private ManagerMappingService managerMappingService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeAll
+	void seed() {
+		TestDatabase.reset(jdbcTemplate);
+		jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS sce_admin");
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS sce_admin.sce_user_admin (emp_id INTEGER, role_name VARCHAR(50))");
+		jdbcTemplate.update("INSERT INTO sce_locations.sce_city (city_id, city_name) VALUES (1, 'City1')");
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_department (department_id, department_name, is_active) "
+				+ "VALUES (1, 'Dept1', 1)");
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_emp_designation (designation_id, designation_name, "
+				+ "department_id, is_active) VALUES (1, 'Designation1', 1, 1)");
+		jdbcTemplate.update("INSERT INTO sce_admin.sce_role (role_id, role_name, is_active) VALUES (1, 'PRINCIPAL', 1), "
+				+ "(2, 'TEACHER', 1)");
+
+		for (int i = 1; i <= 3 * EMPLOYEES; i++) {
+			jdbcTemplate.update("INSERT INTO sce_campus.sce_cmps (cmps_id, cmps_name, cmps_code, cmps_type, city_id, "
+					+ "is_active) VALUES (?, ?, ?, 'College', 1, 1)", i, "Campus" + i, "C" + i);
+			jdbcTemplate.update("INSERT INTO sce_campus.sce_building (building_id, building_name, cmps_id, "
+					+ "is_main_building, is_active) VALUES (?, ?, ?, 1, 1)", i, "Building" + i, i);
+			jdbcTemplate.update("INSERT INTO sce_campus.sce_building_address (building_address_id, building_id, "
+					+ "address_type, plot_no, area, pin_code, mobile_no) VALUES (?, ?, 'address', ?, 'Area', 500001, ?)",
+					i, i, "Plot " + i, "90000" + i);
+		}
+
+		for (int i = 1; i <= EMPLOYEES; i++) {
+			jdbcTemplate.update("INSERT INTO sce_employee.sce_emp (emp_id, first_name, last_name, primary_mobile_no, "
+					+ "is_active, payroll_id, emp_app_status_id, emp_status_id, created_by, created_date, designation_id, "
+					+ "department_id, cmps_id) VALUES (?, ?, 'Test', ?, 1, ?, 1, 1, 1, CURRENT_TIMESTAMP, 1, 1, ?)", i,
+					"Emp" + i, 9000000000L + i, "MM" + i, i);
+			jdbcTemplate.update("INSERT INTO sce_campus.sce_cmps_emp (cmps_employee_id, emp_id, cmps_id, role_id, "
+					+ "is_active, created_by, created_date) VALUES (?, ?, ?, 2, 1, 1, CURRENT_TIMESTAMP)", i, i,
+					EMPLOYEES + i);
+			jdbcTemplate.update("INSERT INTO sce_employee.sce_shared_employee (shared_employee_id, emp_id, cmps_id, "
+					+ "designation_id, is_active, created_by, created_date) VALUES (?, ?, ?, 1, 1, 1, CURRENT_TIMESTAMP)",
+					i, i, 2 * EMPLOYEES + i);
+			jdbcTemplate.update("INSERT INTO sce_admin.sce_user_admin (emp_id, role_name) VALUES (?, 'PRINCIPAL')", i);
+		}
+	}
+
+	@Test
+	void statementsDoNotGrowWithTheBatch() {
+		List<EmployeeBatchCampusDTO> two = assertStatements(payrollIds(2));
+		List<EmployeeBatchCampusDTO> all = assertStatements(payrollIds(EMPLOYEES));
+
+		assertEquals(2, two.size());
+		assertEquals(EMPLOYEES, all.size());
+		EmployeeBatchCampusDTO first = all.stream().filter(dto -> "MM1".equals(dto.getPayrollId())).findFirst()
+				.orElseThrow();
+		assertEquals("Plot 1, Area, 500001", first.getFullAddress());
+		assertEquals("City1", first.getCity());
+		assertEquals("PRINCIPAL", first.getRole());
+		assertEquals(2, first.getCampusDetails().size());
+		assertEquals("TEACHER", first.getCampusDetails().get(0).getRoleName());
+		assertEquals("Shared", first.getEmployeeType());
+	}
+
+	private static List<String> payrollIds(int count) {
+		List<String> ids = new ArrayList<>();
+		for (int i = 1; i <= count; i++) {
+			ids.add("MM" + i);
+		}
+		return ids;
+	}
+
+	/** Runs the batch read with a cold campus address cache in a fresh transaction. */
+	private List<EmployeeBatchCampusDTO> assertStatements(List<String> payrollIds) {
+		cacheManager.getCache(CacheConfig.CAMPUS_ADDRESS_CACHE).clear();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		List<EmployeeBatchCampusDTO> result = new TransactionTemplate(transactionManager)
+				.execute(status -> managerMappingService.getMultipleCampusAddresses(payrollIds));
+		assertEquals(STATEMENTS, statistics.getPrepareStatementCount(), "SQL statements");
+		return result;
+	}
+}
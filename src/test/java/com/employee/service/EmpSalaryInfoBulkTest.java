@@ -0,0 +1,92 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.employee.TestDatabase;
+import com.employee.dto.SalaryInfoDTO;
+
+/**
+ * Bulk decrypted salary reads with Hibernate's PostgreSQL dialect, so the
+ * payroll ID array and the optional filters are bound the way they are in
+ * production (on H2 in PostgreSQL mode; fn_decrypt_sal is stubbed as a plain
+ * byte-to-text conversion). Employees 1-3 are on campus 10, 4-5 on campus 20;
+ * employee 3 has no first name.
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"
+})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmpSalaryInfoBulkTest {
+
+	@Autowired
+	private EmpSalaryInfoService empSalaryInfoService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void seed() {
+		TestDatabase.reset(jdbcTemplate);
+		jdbcTemplate.execute("CREATE ALIAS sce_employee.fn_decrypt_sal AS "
+				+ "'String decrypt(byte[] value) { return value == null ? null : new String(value); }'");
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_emp_structure (emp_structure_id, structure_name, is_active, "
+				+ "created_by, created_date) VALUES (1, 'Standard', 1, 1, CURRENT_TIMESTAMP)");
+		for (int i = 1; i <= 5; i++) {
+			jdbcTemplate.update("INSERT INTO sce_employee.sce_emp (emp_id, first_name, last_name, primary_mobile_no, "
+					+ "is_active, payroll_id, temp_payroll_id, emp_app_status_id, emp_status_id, created_by, created_date, "
+					+ "cmps_id, department_id) VALUES (?, ?, 'Test', 1, 1, ?, ?, 1, 1, 1, CURRENT_TIMESTAMP, ?, 1)", i,
+					i == 3 ? null : "Emp" + i, "P" + i, "TMP" + i, i <= 3 ? 10 : 20);
+			jdbcTemplate.update("INSERT INTO sce_employee.sce_emp_sal_info (emp_sal_info_id, emp_id, temp_payroll_id, "
+					+ "monthly_take_home, yearly_ctc, ctc_words, emp_structure_id, is_pf_eligible, is_esi_eligible, "
+					+ "is_active, created_by, created_date) VALUES (?, ?, ?, CAST(? AS VARBINARY), CAST(? AS VARBINARY), "
+					+ "CAST(? AS VARBINARY), 1, 1, 0, 1, 1, CURRENT_TIMESTAMP)", i, i, "TMP" + i,
+					String.valueOf(1000 * i), String.valueOf(12000 * i), "words" + i);
+		}
+	}
+
+	@Test
+	void payrollIdsMatchPayrollOrTempPayrollId() {
+		List<SalaryInfoDTO> rows = empSalaryInfoService.getSalaryInfoInBulk(List.of("P1", "TMP4", "unknown"), null,
+				null);
+
+		assertEquals(List.of("P1", "P4"), rows.stream().map(SalaryInfoDTO::getPayrollId).toList());
+		assertEquals(1000.0, rows.get(0).getMonthlyTakeHome());
+		assertEquals(48000.0, rows.get(1).getYearlyCtc());
+		assertEquals("Emp1 Test", rows.get(0).getEmployeeName());
+	}
+
+	@Test
+	void nullFiltersAreIgnored() {
+		assertEquals(List.of("P1", "P2", "P3"), payrollIds(empSalaryInfoService.getSalaryInfoInBulk(null, 10, null)));
+		assertEquals(5, empSalaryInfoService.getSalaryInfoInBulk(null, null, 1).size());
+		assertEquals(List.of("P4", "P5"), payrollIds(empSalaryInfoService.getSalaryInfoInBulk(null, 20, 1)));
+	}
+
+	@Test
+	void missingFirstNameIsLeftOut() {
+		SalaryInfoDTO row = empSalaryInfoService.getSalaryInfoInBulk(List.of("P3"), null, null).get(0);
+
+		assertEquals("Test", row.getEmployeeName());
+	}
+
+	@Test
+	void requestWithoutIdsOrFilterIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> empSalaryInfoService.getSalaryInfoInBulk(null, null, null));
+	}
+
+	private static List<String> payrollIds(List<SalaryInfoDTO> rows) {
+		return rows.stream().map(SalaryInfoDTO::getPayrollId).toList();
+	}
+}
@@ -0,0 +1,126 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.employee.TestDatabase;
+import com.employee.dto.ExamResultDTO;
+
+/**
+ * Which exam results replace a candidate's active result, and that only a
+ * replaced result is deactivated. Each test uses its own candidates; ST1-ST4
+ * start with an approved active result dated 10-03-2026.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExamResultBatchWriterTest {
+
+	private static final int APPROVED = 2;
+
+	@Autowired
+	private ExamResultBatchWriter writer;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void seed() {
+		TestDatabase.reset(jdbcTemplate);
+		for (int i = 1; i <= 4; i++) {
+			jdbcTemplate.update("INSERT INTO sce_employee.sce_skill_test_detl (skill_test_detl_id, temp_payroll_id, "
+					+ "first_name, last_name, is_active, created_by) VALUES (?, ?, ?, 'Test', 1, 1)", i, "ST" + i,
+					"Cand" + i);
+			jdbcTemplate.update("INSERT INTO sce_employee.sce_skill_test_result (skill_test_result_id, "
+					+ "skill_test_detl_id, emp_name, exam_date, no_of_question, no_of_ques_attempt, "
+					+ "no_of_ques_unattempt, no_of_ques_correct, no_of_ques_wrong, total_marks, is_active, created_by, "
+					+ "skill_test_approval_status_id) VALUES (?, ?, 'Cand', DATE '2026-03-10', 10, 10, 0, 8, 2, 8, 1, 1, ?)",
+					100 + i, i, APPROVED);
+		}
+	}
+
+	@Test
+	void olderOrSameDateResultIsStaleAndKeepsTheActiveOne() {
+		ExamResultBatchWriter.SaveOutcome outcome = writer.save(List.of(result("ST1", "01-03-2026"),
+				result("ST2", "10-03-2026")));
+
+		assertEquals(0, outcome.saved());
+		assertEquals(2, outcome.stale());
+		for (String payrollId : List.of("ST1", "ST2")) {
+			List<Map<String, Object>> active = activeResults(payrollId);
+			assertEquals(1, active.size());
+			assertEquals(APPROVED, ((Number) active.get(0).get("skill_test_approval_status_id")).intValue());
+		}
+	}
+
+	@Test
+	void newerResultReplacesTheActiveOne() {
+		ExamResultBatchWriter.SaveOutcome outcome = writer.save(List.of(result("ST3", "15-03-2026")));
+
+		assertEquals(1, outcome.saved());
+		assertEquals(0, outcome.stale());
+		List<Map<String, Object>> active = activeResults("ST3");
+		assertEquals(1, active.size());
+		assertEquals(java.sql.Date.valueOf("2026-03-15"), active.get(0).get("exam_date"));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sce_employee.sce_skill_test_result "
+				+ "WHERE skill_test_result_id = 103 AND is_active = 0", Integer.class));
+	}
+
+	@Test
+	void firstResultIsInsertedWithoutDeactivatingAnything() {
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_skill_test_detl (skill_test_detl_id, temp_payroll_id, "
+				+ "first_name, last_name, is_active, created_by) VALUES (5, 'ST5', 'Cand5', 'Test', 1, 1)");
+
+		ExamResultBatchWriter.SaveOutcome outcome = writer.save(List.of(result("ST5", "01-03-2026"),
+				result("ST4", "20-03-2026")));
+
+		assertEquals(2, outcome.saved());
+		assertEquals(1, activeResults("ST5").size());
+		assertEquals(1, activeResults("ST4").size());
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sce_employee.sce_skill_test_result "
+				+ "WHERE is_active = 0 AND skill_test_detl_id = 4", Integer.class));
+	}
+
+	@Test
+	void resultWithoutValidExamDateIsInvalidAndKeepsTheActiveOne() {
+		ExamResultBatchWriter.SaveOutcome outcome = writer.save(List.of(result("ST1", null),
+				result("ST1", "31-02-2026"), result("ST2", "2026-03-20")));
+
+		assertEquals(new ExamResultBatchWriter.SaveOutcome(0, 0, 3), outcome);
+		for (String payrollId : List.of("ST1", "ST2")) {
+			List<Map<String, Object>> active = activeResults(payrollId);
+			assertEquals(1, active.size());
+			assertEquals(java.sql.Date.valueOf("2026-03-10"), active.get(0).get("exam_date"));
+		}
+	}
+
+	private ExamResultDTO result(String payrollId, String examDate) {
+		ExamResultDTO dto = new ExamResultDTO();
+		dto.setPayrollId(payrollId);
+		dto.setExamDate(examDate);
+		dto.setTotalQuestions("10");
+		dto.setAttempted("10");
+		dto.setUnAttempted("0");
+		dto.setCorrect("9");
+		dto.setWrong("1");
+		dto.setTotalMarks("9.0");
+		return dto;
+	}
+
+	private List<Map<String, Object>> activeResults(String payrollId) {
+		return jdbcTemplate.queryForList("SELECT r.exam_date, r.skill_test_approval_status_id "
+				+ "FROM sce_employee.sce_skill_test_result r "
+				+ "JOIN sce_employee.sce_skill_test_detl d ON d.skill_test_detl_id = r.skill_test_detl_id "
+				+ "WHERE d.temp_payroll_id = ? AND r.is_active = 1", payrollId);
+	}
+}
@@ -0,0 +1,51 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+
+/**
+ * A harvest that runs past its deadline must not return, and so must not let
+ * the next run start, while any of its calls is still running.
+ */
+class ExamResultHarvesterTest {
+
+	private final ExamResultHarvester harvester = new ExamResultHarvester(RateLimiterRegistry.ofDefaults(), 2, 100,
+			200);
+
+	@AfterEach
+	void shutdown() {
+		harvester.shutdown();
+	}
+
+	@Test
+	void callsInFlightAtTheDeadlineAreCancelledBeforeTheRunEnds() {
+		AtomicInteger inFlight = new AtomicInteger();
+		ExamResultHarvester.Summary summary = harvester.harvest(List.of("A", "B", "C", "D"), payrollId -> {
+			inFlight.incrementAndGet();
+			try {
+				Thread.sleep(60_000);
+				return ExamResultHarvester.Outcome.FETCHED;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return ExamResultHarvester.Outcome.FAILED;
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		});
+
+		assertNotNull(summary);
+		assertEquals(0, inFlight.get(), "calls still running after the harvest returned");
+		assertEquals(2, summary.failed());
+		assertEquals(2, summary.skipped());
+		assertNotNull(harvester.harvest(List.of("E"), payrollId -> ExamResultHarvester.Outcome.FETCHED),
+				"next run refused");
+	}
+}
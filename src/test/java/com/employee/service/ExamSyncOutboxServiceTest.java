@@ -0,0 +1,59 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Which 4xx answers from the exam platform are worth retrying, and how long a
+ * Retry-After header postpones the next attempt.
+ */
+class ExamSyncOutboxServiceTest {
+
+	private final ExamSyncOutboxService service = new ExamSyncOutboxService(null, null, null,
+			new SimpleMeterRegistry(), false, 50, 10, 120, 30, 3600, 30, 1000);
+
+	@Test
+	void onlyRequestTimeoutAndTooManyRequestsAreRetryable() {
+		assertTrue(ExamSyncOutboxService.isRetryable(error(HttpStatus.TOO_MANY_REQUESTS, null)));
+		assertTrue(ExamSyncOutboxService.isRetryable(error(HttpStatus.REQUEST_TIMEOUT, null)));
+		assertFalse(ExamSyncOutboxService.isRetryable(error(HttpStatus.BAD_REQUEST, null)));
+		assertFalse(ExamSyncOutboxService.isRetryable(error(HttpStatus.CONFLICT, null)));
+	}
+
+	@Test
+	void retryAfterIsReadAsSecondsOrDateAndCappedAtRetryMax() {
+		assertEquals(Optional.of(Duration.ofSeconds(120)),
+				service.retryAfter(error(HttpStatus.TOO_MANY_REQUESTS, "120")));
+		assertEquals(Optional.of(Duration.ofSeconds(3600)),
+				service.retryAfter(error(HttpStatus.TOO_MANY_REQUESTS, "86400")));
+		String inTenMinutes = DateTimeFormatter.RFC_1123_DATE_TIME
+				.format(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(10));
+		Duration delay = service.retryAfter(error(HttpStatus.TOO_MANY_REQUESTS, inTenMinutes)).orElseThrow();
+		assertTrue(delay.compareTo(Duration.ofMinutes(9)) > 0 && delay.compareTo(Duration.ofMinutes(10)) <= 0,
+				delay.toString());
+		assertEquals(Optional.empty(), service.retryAfter(error(HttpStatus.TOO_MANY_REQUESTS, null)));
+		assertEquals(Optional.empty(), service.retryAfter(error(HttpStatus.TOO_MANY_REQUESTS, "soon")));
+	}
+
+	private static HttpClientErrorException error(HttpStatus status, String retryAfter) {
+		HttpHeaders headers = new HttpHeaders();
+		if (retryAfter != null) {
+			headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+		}
+		return HttpClientErrorException.create(status, status.getReasonPhrase(), headers, new byte[0], null);
+	}
+}
@@ -0,0 +1,163 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.employee.TestDatabase;
+import com.employee.dto.AddressResponseDTO;
+import com.employee.dto.EmpFamilyDetailsDTO;
+import com.employee.dto.EmployeeCampusInfoDTO;
+import com.employee.dto.FamilyMemberInOrgDTO;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Pins the number of SQL statements each HR read path issues, so a lazy or
+ * eager association walked per row (N+1) fails the build instead of reaching
+ * production. Every path maps several rows whose associations all point at
+ * different rows, which is where an N+1 shows up.
+ *
+ * Counts are Hibernate's prepared statements for one call in one transaction
+ * (as under open-session-in-view), after the payroll ID has been resolved to
+ * emp_id once. If a change adds a statement on purpose, update the expected
+ * count here in the same commit.
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=OFF"
+})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HrReadStatementCountTest {
+
+	private static final String PAYROLL_ID = "HR1001";
+
+	@Autowired
+	private HREmpDetlService hrEmpDetlService;
+
+	@Autowired
+	private EmployeeIdResolver employeeIdResolver;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeAll
+	void seed() {
+		TestDatabase.reset(jdbcTemplate);
+		for (int i = 1; i <= 3; i++) {
+			jdbcTemplate.update("INSERT INTO sce_student.sce_gender (gender_id, gender_name, is_active) VALUES (?, ?, 1)",
+					i, "Gender" + i);
+			jdbcTemplate.update("INSERT INTO sce_student.sce_blood_group (blood_group_id, blood_group_name, is_active, "
+					+ "created_by, created_date) VALUES (?, ?, 1, 1, CURRENT_TIMESTAMP)", i, "BG" + i);
+			jdbcTemplate.update("INSERT INTO sce_student.sce_relation (relation_id, relation_type, is_active) "
+					+ "VALUES (?, ?, 1)", i, "Relation" + i);
+			jdbcTemplate.update("INSERT INTO sce_employee.sce_department (department_id, department_name, is_active) "
+					+ "VALUES (?, ?, 1)", i, "Dept" + i);
+			jdbcTemplate.update("INSERT INTO sce_employee.sce_emp_designation (designation_id, designation_name, "
+					+ "department_id, is_active) VALUES (?, ?, ?, 1)", i, "Designation" + i, i);
+			jdbcTemplate.update("INSERT INTO sce_locations.sce_country (country_id, country_name) VALUES (?, ?)", i,
+					"Country" + i);
+			jdbcTemplate.update("INSERT INTO sce_locations.sce_state (state_id, state_name, country_id) VALUES (?, ?, ?)",
+					i, "State" + i, i);
+			jdbcTemplate.update("INSERT INTO sce_locations.sce_district (district_id, district_name, state_id) "
+					+ "VALUES (?, ?, ?)", i, "District" + i, i);
+			jdbcTemplate.update("INSERT INTO sce_locations.sce_city (city_id, city_name, district_id) VALUES (?, ?, ?)",
+					i, "City" + i, i);
+		}
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_emp_work_mode (emp_work_mode_id, work_mode_type, is_active) "
+				+ "VALUES (1, 'Onsite', 1)");
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_join_type (join_type_id, join_type, is_active) "
+				+ "VALUES (1, 'New', 1)");
+		jdbcTemplate.update("INSERT INTO sce_campus.sce_cmps (cmps_id, cmps_name, cmps_code, cmps_type, city_id, "
+				+ "is_active) VALUES (1, 'Main Campus', 'MC', 'College', 1, 1)");
+
+		// Employee 1 and three relatives who are employees too, each with a different designation
+		insertEmployee(1, PAYROLL_ID, 1, 5);
+		insertEmployee(5, "HR1005", 1, null);
+		for (int i = 2; i <= 4; i++) {
+			insertEmployee(i, "HR100" + i, i - 1, null);
+			int lookup = i - 1;
+			jdbcTemplate.update("INSERT INTO sce_employee.sce_emp_family_detl (emp_family_detl_id, emp_id, full_name, "
+					+ "occupation, gender_id, blood_group_id, nationality, is_late, relation_id, is_sri_chaitanya_emp, "
+					+ "parent_emp_id, is_active, created_by, created_date) "
+					+ "VALUES (?, 1, ?, 'Teacher', ?, ?, 'Indian', 'No', ?, 1, ?, 1, 1, CURRENT_TIMESTAMP)", i,
+					"Relative " + i, lookup, lookup, lookup, "HR100" + i);
+		}
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_emp_addrs (emp_addrs_id, emp_id, addrs_type, house_no, "
+				+ "country_id, state_id, city_id, district_id, is_active, created_by, created_date) "
+				+ "VALUES (1, 1, 'CURR', '1-1', 1, 1, 1, NULL, 1, 1, CURRENT_TIMESTAMP), "
+				+ "(2, 1, 'PERM', '2-2', 2, 2, 2, 3, 1, 1, CURRENT_TIMESTAMP), "
+				+ "(3, 1, 'OFFICE', '3-3', 3, 3, 3, 3, 1, 1, CURRENT_TIMESTAMP)");
+		jdbcTemplate.update("INSERT INTO sce_campus.sce_cmps_contacts (cmps_contacts_id, cmps_id, emp_id, emp_name, "
+				+ "designation, contact_no, is_active) VALUES (1, 1, 5, 'Principal', 'PRINCIPAL', 9000000000, 1)");
+
+		employeeIdResolver.findEmpIdByPayrollId(PAYROLL_ID);
+	}
+
+	private void insertEmployee(int empId, String payrollId, int designationId, Integer replacedBy) {
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_emp (emp_id, first_name, last_name, primary_mobile_no, "
+				+ "is_active, payroll_id, emp_app_status_id, emp_status_id, created_by, created_date, designation_id, "
+				+ "cmps_id, emp_work_mode_id, join_type_id, replaced_by_emp_id) "
+				+ "VALUES (?, ?, 'Test', ?, 1, ?, 1, 1, 1, CURRENT_TIMESTAMP, ?, 1, 1, 1, ?)", empId, "Emp" + empId,
+				9000000000L + empId, payrollId, designationId, replacedBy);
+	}
+
+	@Test
+	void familyMembers() {
+		List<EmpFamilyDetailsDTO> family = assertStatements(2, () -> hrEmpDetlService.getFamilyMembersByPayrollId(PAYROLL_ID));
+		assertEquals(3, family.size());
+	}
+
+	@Test
+	void familyMembersInOrganization() {
+		List<FamilyMemberInOrgDTO> family = assertStatements(1,
+				() -> hrEmpDetlService.getFamilyMembersInOrganization(PAYROLL_ID));
+		assertEquals(3, family.size());
+	}
+
+	@Test
+	void addressesGrouped() {
+		Map<String, List<AddressResponseDTO>> addresses = assertStatements(1,
+				() -> hrEmpDetlService.getAddressByPayrollIdGrouped(PAYROLL_ID));
+		assertEquals(3, addresses.size());
+		assertEquals("District1", addresses.get("CURR").get(0).getDistrictName());
+	}
+
+	@Test
+	void campusInfo() {
+		EmployeeCampusInfoDTO campusInfo = assertStatements(2,
+				() -> hrEmpDetlService.getEmployeeCampusInfo(PAYROLL_ID));
+		assertEquals("Main Campus", campusInfo.getCampusName());
+		assertEquals("Emp5 Test", campusInfo.getReplacementEmployeeName());
+	}
+
+	/** Runs the read in a fresh transaction and checks how many statements it prepared. */
+	private <T> T assertStatements(long expected, Supplier<T> read) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		T result = new TransactionTemplate(transactionManager).execute(status -> read.get());
+		assertEquals(expected, statistics.getPrepareStatementCount(), "SQL statements");
+		return result;
+	}
+}
@@ -0,0 +1,84 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.employee.TestDatabase;
+import com.employee.dto.FullBasicInfoDto;
+
+/**
+ * A fields= subset of the basic info must hold exactly the values of the same
+ * fields in the full FullBasicInfoDto read, including fields behind joins
+ * (department, campus, manager) and joins of joins (blood group via the
+ * employee details).
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SparseFieldsetServiceTest {
+
+	private static final String TEMP_PAYROLL_ID = "TMP2";
+
+	private static final List<String> SUBSET = List.of("managerName", "firstName", "departmentName", "campusName",
+			"bloodGroupName", "genderName", "preEsiNo", "adhaarName");
+
+	@Autowired
+	private SparseFieldsetService sparseFieldsetService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void seed() {
+		TestDatabase.reset(jdbcTemplate);
+		jdbcTemplate.update("INSERT INTO sce_student.sce_gender (gender_id, gender_name, is_active) VALUES (1, 'Female', 1)");
+		jdbcTemplate.update("INSERT INTO sce_student.sce_blood_group (blood_group_id, blood_group_name, is_active, "
+				+ "created_by, created_date) VALUES (1, 'O+', 1, 1, CURRENT_TIMESTAMP)");
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_department (department_id, department_name, is_active) "
+				+ "VALUES (1, 'Physics', 1)");
+		jdbcTemplate.update("INSERT INTO sce_campus.sce_cmps (cmps_id, cmps_name, cmps_code, cmps_type, is_active) "
+				+ "VALUES (1, 'Main Campus', 'MC', 'College', 1)");
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_emp (emp_id, first_name, last_name, primary_mobile_no, "
+				+ "is_active, payroll_id, emp_app_status_id, emp_status_id, created_by, created_date) "
+				+ "VALUES (1, 'Maya', 'Rao', 9000000001, 1, 'P1', 1, 1, 1, CURRENT_TIMESTAMP)");
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_emp (emp_id, first_name, last_name, primary_mobile_no, "
+				+ "is_active, temp_payroll_id, emp_app_status_id, emp_status_id, created_by, created_date, gender_id, "
+				+ "department_id, cmps_id, manager_id) "
+				+ "VALUES (2, 'Asha', 'Iyer', 9000000002, 1, ?, 1, 1, 1, CURRENT_TIMESTAMP, 1, 1, 1, 1)",
+				TEMP_PAYROLL_ID);
+		jdbcTemplate.update("INSERT INTO sce_employee.sce_emp_detl (emp_detl_id, emp_id, adhaar_name, emergency_ph_no, "
+				+ "father_name, uan_no, blood_group_id, is_active, created_by, created_date) "
+				+ "VALUES (1, 2, 'Asha Iyer', '9000000003', 'Ravi Iyer', 100000000001, 1, 1, 1, CURRENT_TIMESTAMP)");
+	}
+
+	@Test
+	void subsetHasTheValuesOfTheFullDto() {
+		FullBasicInfoDto full = sparseFieldsetService.findFullBasicInfo(TEMP_PAYROLL_ID).orElseThrow();
+		Map<String, Object> subset = sparseFieldsetService
+				.findBasicInfo(TEMP_PAYROLL_ID, String.join(",", SUBSET)).orElseThrow();
+
+		assertEquals(SUBSET, List.copyOf(subset.keySet()));
+		BeanWrapperImpl dto = new BeanWrapperImpl(full);
+		SUBSET.forEach(field -> assertEquals(dto.getPropertyValue(field), subset.get(field), field));
+		assertEquals("Maya Rao", subset.get("managerName"));
+		assertEquals("O+", subset.get("bloodGroupName"));
+	}
+
+	@Test
+	void unknownEmployeeIsEmpty() {
+		assertTrue(sparseFieldsetService.findFullBasicInfo("nope").isEmpty());
+		assertTrue(sparseFieldsetService.findBasicInfo("nope", "firstName").isEmpty());
+	}
+}
@@ -0,0 +1,151 @@
+package com.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.employee.repository.EmployeeRepository;
+import com.employee.repository.SkillTestDetailsRepository;
+import com.employee.repository.TempPayrollIdCounterRepository;
+
+/**
+ * Stress test for {@link TempPayrollIdAllocator}. Several allocator instances
+ * stand in for cluster nodes and share one counter table, modelled in memory
+ * with the same row-lock semantics as the native queries.
+ */
+class TempPayrollIdAllocatorTest {
+
+	private static final int CAMPUS_CODE = 123;
+	private static final String BASE_KEY = "TEMP" + CAMPUS_CODE;
+
+	private final Map<String, Integer> counterTable = new HashMap<>();
+	private TempPayrollIdCounterRepository counterRepository;
+	private SkillTestDetailsRepository skillTestDetailsRepository;
+	private EmployeeRepository employeeRepository;
+
+	@BeforeEach
+	void setUp() {
+		counterRepository = mock(TempPayrollIdCounterRepository.class);
+		skillTestDetailsRepository = mock(SkillTestDetailsRepository.class);
+		employeeRepository = mock(EmployeeRepository.class);
+
+		when(counterRepository.reserveBlock(anyString(), anyInt())).thenAnswer(inv -> {
+			synchronized (counterTable) {
+				String key = inv.getArgument(0);
+				Integer next = counterTable.get(key);
+				if (next == null) {
+					return null;
+				}
+				counterTable.put(key, next + (int) inv.getArgument(1));
+				return next + (int) inv.getArgument(1);
+			}
+		});
+		when(counterRepository.raiseNextValue(anyString(), anyInt())).thenAnswer(inv -> {
+			synchronized (counterTable) {
+				counterTable.merge(inv.getArgument(0), inv.getArgument(1), Math::max);
+				return 1;
+			}
+		});
+		when(counterRepository.releaseBlock(anyString(), anyInt(), anyInt())).thenAnswer(inv -> {
+			synchronized (counterTable) {
+				String key = inv.getArgument(0);
+				if (counterTable.get(key) == (int) inv.getArgument(2)) {
+					counterTable.put(key, inv.getArgument(1));
+					return 1;
+				}
+				return 0;
+			}
+		});
+		when(skillTestDetailsRepository.findMaxTempPayrollIdByKey(BASE_KEY + "%")).thenReturn(BASE_KEY + "0041");
+		when(employeeRepository.findMaxTempPayrollIdByKey(BASE_KEY + "%")).thenReturn(BASE_KEY + "0007");
+	}
+
+	private TempPayrollIdAllocator node(int blockSize) {
+		return new TempPayrollIdAllocator(counterRepository, skillTestDetailsRepository, employeeRepository,
+				TransactionOperations.withoutTransaction(), blockSize, false);
+	}
+
+	@Test
+	void firstIdContinuesAfterHighestExistingSuffix() {
+		assertEquals(BASE_KEY + "0042", node(10).nextTempPayrollId(CAMPUS_CODE));
+	}
+
+	@Test
+	void concurrentNodesNeverHandOutTheSameId() throws Exception {
+		int nodes = 4;
+		int threadsPerNode = 8;
+		int idsPerThread = 500;
+		List<TempPayrollIdAllocator> allocators = new ArrayList<>();
+		for (int i = 0; i < nodes; i++) {
+			allocators.add(node(7));
+		}
+
+		Set<String> issued = ConcurrentHashMap.newKeySet();
+		ExecutorService pool = Executors.newFixedThreadPool(nodes * threadsPerNode);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (TempPayrollIdAllocator allocator : allocators) {
+			for (int t = 0; t < threadsPerNode; t++) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					for (int i = 0; i < idsPerThread; i++) {
+						assertTrue(issued.add(allocator.nextTempPayrollId(CAMPUS_CODE)), "duplicate temp payroll ID");
+					}
+					return null;
+				}));
+			}
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+
+		int total = nodes * threadsPerNode * idsPerThread;
+		assertEquals(total, issued.size());
+
+		// Hand back every node's unused tail: at most one block per node can be lost,
+		// and only when another node reserved after it
+		allocators.forEach(TempPayrollIdAllocator::releaseUnusedBlocks);
+		int reservedBeyondIssued = counterTable.get(BASE_KEY) - 42 - total;
+		assertTrue(reservedBeyondIssued >= 0 && reservedBeyondIssued < nodes * 7,
+				"unexpected gap of " + reservedBeyondIssued);
+	}
+
+	@Test
+	void restartOfSingleNodeLeavesNoGap() {
+		TempPayrollIdAllocator first = node(10);
+		assertEquals(BASE_KEY + "0042", first.nextTempPayrollId(CAMPUS_CODE));
+		assertEquals(BASE_KEY + "0043", first.nextTempPayrollId(CAMPUS_CODE));
+		first.releaseUnusedBlocks();
+
+		assertEquals(BASE_KEY + "0044", node(10).nextTempPayrollId(CAMPUS_CODE));
+	}
+
+	@Test
+	void seedNeverLowersTheCounter() {
+		TempPayrollIdAllocator allocator = node(5);
+		allocator.seed(BASE_KEY, 100);
+		allocator.seed(BASE_KEY, 50);
+		assertEquals(BASE_KEY + "0101", allocator.nextTempPayrollId(CAMPUS_CODE));
+	}
+}